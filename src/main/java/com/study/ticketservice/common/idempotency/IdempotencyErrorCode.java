@@ -0,0 +1,20 @@
+package com.study.ticketservice.common.idempotency;
+
+import com.study.ticketservice.common.response.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 멱등성 키 관련 에러 코드 정의
+ */
+@Getter
+@AllArgsConstructor
+public enum IdempotencyErrorCode implements ErrorCode {
+
+    INVALID_IDEMPOTENCY_KEY(400, "잘못된 Idempotency-Key 입니다"),
+    IDEMPOTENCY_KEY_IN_PROGRESS(409, "같은 Idempotency-Key 의 요청을 처리 중입니다"),
+    IDEMPOTENCY_KEY_REUSED(422, "다른 요청에 사용된 Idempotency-Key 입니다");
+
+    private final int code;
+    private final String message;
+}
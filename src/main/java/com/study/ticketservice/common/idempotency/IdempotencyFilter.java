@@ -0,0 +1,217 @@
+package com.study.ticketservice.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.common.response.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더가 있는 변경 요청(POST/PUT/PATCH/DELETE)을 한 번만 처리하는 필터
+ *
+ * - 처음 받은 키는 처리 중으로 표시하고 처리가 끝나면 응답(상태, 본문)을 ttl 동안 저장
+ * - 같은 키로 다시 오면 컨트롤러를 실행하지 않고 저장된 응답을 그대로 반환 (Idempotent-Replayed: true)
+ * - 처리 중인 키로 오면 409, 같은 키로 다른 요청(메서드/URI/본문)이 오면 422
+ * - 5xx 응답이나 예외, 일시적인 충돌(409)은 저장하지 않아 재시도 시 다시 처리
+ * - 키는 사용자별로 구분 (인증 필터 이후에 실행)
+ * - 저장소 장애 시에는 멱등성 없이 요청을 그대로 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, new ApiException(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY));
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+        String key = principal() + ":" + idempotencyKey;
+
+        IdempotentResponse stored;
+        try {
+            stored = idempotencyStore.find(key);
+            if (stored == null && !idempotencyStore.reserve(key, fingerprint, lockTtl)) {
+                stored = idempotencyStore.find(key);
+                if (stored == null) {
+                    stored = IdempotentResponse.inProgress(fingerprint);
+                }
+            }
+        } catch (Exception e) {
+            log.error("멱등성 키 저장소 조회 실패, 멱등성 없이 처리: key={}", key, e);
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        if (stored != null) {
+            replay(response, stored, fingerprint);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (status < 500 && status != HttpServletResponse.SC_CONFLICT) {
+                idempotencyStore.complete(key, new IdempotentResponse(fingerprint, status,
+                        responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()), ttl);
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse stored, String fingerprint) throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            writeError(response, new ApiException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED));
+            return;
+        }
+        if (stored.isInProgress()) {
+            writeError(response, new ApiException(IdempotencyErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS));
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private void release(String key) {
+        try {
+            idempotencyStore.release(key);
+        } catch (Exception e) {
+            log.error("멱등성 키 처리 중 표시 삭제 실패: key={}", key, e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ApiException exception) throws IOException {
+        response.setStatus(exception.getCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.error(exception).getBody());
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof Long userId
+                ? userId.toString()
+                : "anonymous";
+    }
+
+    // 메서드 + URI + 본문 SHA-256
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String target = request.getMethod() + " " + request.getRequestURI()
+                    + (request.getQueryString() == null ? "" : "?" + request.getQueryString());
+            return target + " " + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(request.body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 본문을 미리 읽어 해시 계산과 컨트롤러에서 모두 읽을 수 있게 한 요청
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.ticketservice.common.idempotency;
+
+import java.time.Duration;
+
+/**
+ * 멱등성 키 저장소
+ * 키마다 처리 중 표시 또는 완료된 응답을 보관
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return 키에 저장된 처리 결과, 없으면 null
+     */
+    IdempotentResponse find(String key);
+
+    /**
+     * 처리 중 표시 (키가 없을 때만)
+     * @param lockTtl 처리 중 표시 유지 시간 (서버가 처리 중 종료되어도 이후 재시도 가능)
+     * @return 표시했으면 true, 이미 키가 있으면 false
+     */
+    boolean reserve(String key, String fingerprint, Duration lockTtl);
+
+    /**
+     * 완료된 응답 저장 (처리 중 표시를 교체)
+     */
+    void complete(String key, IdempotentResponse response, Duration ttl);
+
+    /**
+     * 처리 중 표시 삭제 (처리에 실패해 재시도를 허용)
+     */
+    void release(String key);
+}
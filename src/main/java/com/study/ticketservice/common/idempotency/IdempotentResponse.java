@@ -0,0 +1,22 @@
+package com.study.ticketservice.common.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 멱등성 키로 저장한 요청 처리 결과
+ * @param fingerprint 요청 식별값 (메서드, URI, 본문 해시), 같은 키로 다른 요청이 오면 거부
+ * @param status HTTP 상태 코드, 처리 중이면 0
+ * @param contentType 응답 Content-Type
+ * @param body 응답 본문
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, byte[] body) {
+
+    public static IdempotentResponse inProgress(String fingerprint) {
+        return new IdempotentResponse(fingerprint, 0, null, null);
+    }
+
+    @JsonIgnore
+    public boolean isInProgress() {
+        return status == 0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.ticketservice.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 멱등성 키 저장소
+ * 완료된 응답은 서버 메모리의 LRU 캐시(local-max-entries 개)에도 보관해 재시도 응답을 Redis 조회 없이 반환
+ * 처리 중 표시는 여러 서버가 공유해야 하므로 Redis 에만 저장 (SET NX)
+ */
+@Slf4j
+@Component
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, LocalEntry> localCache;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${idempotency.local-max-entries:10000}") int localMaxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localMaxEntries;
+            }
+        };
+    }
+
+    @Override
+    public IdempotentResponse find(String key) {
+        IdempotentResponse local = findLocal(key);
+        if (local != null) {
+            return local;
+        }
+        String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (json == null) {
+            return null;
+        }
+        IdempotentResponse response = read(json);
+        if (!response.isInProgress()) {
+            Long ttlMs = redisTemplate.getExpire(KEY_PREFIX + key, TimeUnit.MILLISECONDS);
+            if (ttlMs != null && ttlMs > 0) {
+                putLocal(key, response, Duration.ofMillis(ttlMs));
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Duration lockTtl) {
+        Boolean reserved = redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + key, write(IdempotentResponse.inProgress(fingerprint)), lockTtl);
+        return Boolean.TRUE.equals(reserved);
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, write(response), ttl);
+        putLocal(key, response, ttl);
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    private synchronized IdempotentResponse findLocal(String key) {
+        LocalEntry entry = localCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMs() <= System.currentTimeMillis()) {
+            localCache.remove(key);
+            return null;
+        }
+        return entry.response();
+    }
+
+    private synchronized void putLocal(String key, IdempotentResponse response, Duration ttl) {
+        localCache.put(key, new LocalEntry(response, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    private String write(IdempotentResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 직렬화 실패", e);
+        }
+    }
+
+    private IdempotentResponse read(String json) {
+        try {
+            return objectMapper.readValue(json, IdempotentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 역직렬화 실패", e);
+        }
+    }
+
+    private record LocalEntry(IdempotentResponse response, long expiresAtMs) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.ticketservice.common.response;
+
+/**
+ * 커서 페이지 정보 전용 DTO (전체 개수 없음)
+ */
+public record CursorInfo(
+    int size,
+    String nextCursor,
+    boolean hasNext
+) {
+    public static CursorInfo of(int size, String nextCursor) {
+        return new CursorInfo(size, nextCursor, nextCursor != null);
+    }
+}
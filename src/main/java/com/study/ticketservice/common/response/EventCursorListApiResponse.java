@@ -0,0 +1,17 @@
+package com.study.ticketservice.common.response;
+
+import com.study.ticketservice.event.application.dto.response.EventListResponse;
+import java.util.List;
+
+/**
+ * 커서 기반 이벤트 목록 API 응답 전용
+ */
+public record EventCursorListApiResponse(
+    String code,
+    CursorInfo page,
+    List<EventListResponse> items
+) {
+    public static EventCursorListApiResponse of(String code, CursorInfo page, List<EventListResponse> items) {
+        return new EventCursorListApiResponse(code, page, items);
+    }
+}
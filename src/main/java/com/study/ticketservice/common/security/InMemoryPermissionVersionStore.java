@@ -0,0 +1,39 @@
+package com.study.ticketservice.common.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 기반 권한 버전 저장소 (Redis 를 사용할 수 없는 단일 서버 환경용)
+ * rbac.version-store=memory 일 때 사용
+ *
+ * 전체 버전은 서버 시작 시각(ms)에서 시작하므로 재시작하면 이전에 발급된 토큰의 버전과 일치하지 않음
+ * (재시작 이후 첫 요청은 토큰 대신 현재 권한을 조회)
+ */
+@Component
+@ConditionalOnProperty(name = "rbac.version-store", havingValue = "memory")
+public class InMemoryPermissionVersionStore implements PermissionVersionStore {
+
+    private final AtomicLong global = new AtomicLong(System.currentTimeMillis());
+    private final Map<Long, AtomicLong> users = new ConcurrentHashMap<>();
+
+    @Override
+    public PermissionVersion current(Long userId) {
+        AtomicLong user = users.get(userId);
+        return new PermissionVersion(global.get(), user == null ? 0L : user.get());
+    }
+
+    @Override
+    public void increaseUser(Long userId) {
+        users.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public void increaseGlobal() {
+        global.incrementAndGet();
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.ticketservice.common.security;
 
+import com.study.ticketservice.common.security.VerifiedTokenCache.VerifiedToken;
 import com.study.ticketservice.utils.JwtUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -24,6 +25,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -47,24 +49,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            Claims claims = jwtUtil.extractAccessClaims(token);
+            // 이미 검증한 토큰이면 서명 검증과 claim 파싱 생략
+            VerifiedToken verified = verifiedTokenCache.get(token, this::verify);
 
-            String type = claims.get("type", String.class);
-            if (!"access".equals(type)) {
-                throw new BadCredentialsException("INVALID_TOKEN");
-            }
-
-            Number userIdNum = claims.get("userId", Number.class);
-            if (userIdNum == null) {
-                throw new BadCredentialsException("MISSING_USER_ID");
-            }
-            Long userId = userIdNum.longValue();
-
-            // JWT 필터는 사용자 식별만 설정하고 권한 로딩은 별도 RBAC 필터에서 처리
+            // JWT 필터는 사용자 식별만 설정하고 권한 로딩은 별도 RBAC 필터에서 처리 (토큰에 담긴 권한은 details 로 전달)
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId,
+                    verified.userId(),
                     null,
                     List.of());
+            authentication.setDetails(verified.authorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
         } catch (ExpiredJwtException e) {
@@ -80,4 +73,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
 
     }
+
+    // 서명 검증 및 claim 확인
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtUtil.extractAccessClaims(token);
+
+        String type = claims.get("type", String.class);
+        if (!"access".equals(type)) {
+            throw new BadCredentialsException("INVALID_TOKEN");
+        }
+
+        Number userIdNum = claims.get("userId", Number.class);
+        if (userIdNum == null) {
+            throw new BadCredentialsException("MISSING_USER_ID");
+        }
+        // exp 가 없는 토큰은 캐시 유지 시간 동안만 재사용
+        long expiresAtMs = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+        return new VerifiedToken(token, userIdNum.longValue(), TokenAuthorities.from(claims), expiresAtMs);
+    }
 }
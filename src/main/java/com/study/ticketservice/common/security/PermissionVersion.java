@@ -0,0 +1,17 @@
+package com.study.ticketservice.common.security;
+
+/**
+ * 사용자 권한 버전
+ * @param global role_privileges 가 바뀔 때마다 증가 (모든 사용자), 저장소가 초기화되면 현재 시각(ms)에서 다시 시작
+ * @param user 해당 사용자의 user_roles 가 바뀔 때마다 증가
+ */
+public record PermissionVersion(long global, long user) {
+
+    /**
+     * 토큰에 담는 버전 값
+     * 두 값 모두 증가만 하므로 어느 쪽이 바뀌어도 합이 달라짐
+     */
+    public long value() {
+        return global + user;
+    }
+}
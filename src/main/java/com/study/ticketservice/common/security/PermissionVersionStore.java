@@ -0,0 +1,23 @@
+package com.study.ticketservice.common.security;
+
+/**
+ * 사용자 권한 버전 저장소
+ * 액세스 토큰에 담긴 권한이 발급 이후 바뀌었는지 확인하는 데 사용
+ */
+public interface PermissionVersionStore {
+
+    /**
+     * @return 현재 권한 버전, 조회할 수 없으면 null (토큰의 권한을 신뢰하지 않음)
+     */
+    PermissionVersion current(Long userId);
+
+    /**
+     * 사용자의 역할 변경 (user_roles)
+     */
+    void increaseUser(Long userId);
+
+    /**
+     * 역할별 권한 변경 (role_privileges), 모든 사용자에 적용
+     */
+    void increaseGlobal();
+}
@@ -1,9 +1,5 @@
 package com.study.ticketservice.common.security;
 
-import com.study.ticketservice.domain.auth.entity.UserRoleMap;
-import com.study.ticketservice.domain.auth.repository.RolePrivilegeMapRepository;
-import com.study.ticketservice.domain.auth.repository.UserRepository;
-import com.study.ticketservice.domain.auth.repository.UserRoleMapRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +12,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -24,8 +19,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class RbacAuthoritiesFilter extends OncePerRequestFilter {
 
-    private final UserRoleMapRepository userRoleMapRepository;
-    private final RolePrivilegeMapRepository rolePrivilegeMapRepository;
+    private final RbacAuthorityCache rbacAuthorityCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -43,7 +37,7 @@ public class RbacAuthoritiesFilter extends OncePerRequestFilter {
             return;
         }
 
-        Set<String> authorities = getAuthorities(userId); // Role & Privilege 모두 추가
+        Set<String> authorities = rbacAuthorityCache.resolve(userId, tokenAuthorities(authentication.getDetails())); // Role & Privilege 모두 추가
 
         List<SimpleGrantedAuthority> granted = authorities.stream().map(SimpleGrantedAuthority::new).toList();
         UsernamePasswordAuthenticationToken newAuth = new UsernamePasswordAuthenticationToken(
@@ -56,6 +50,11 @@ public class RbacAuthoritiesFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 액세스 토큰에 담긴 권한 (JwtAuthenticationFilter 에서 details 로 전달)
+    private TokenAuthorities tokenAuthorities(Object details) {
+        return details instanceof TokenAuthorities token ? token : null;
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
     String uri = request.getRequestURI();
@@ -63,23 +62,4 @@ public class RbacAuthoritiesFilter extends OncePerRequestFilter {
         || uri.equals("/api/v1/auth/logout")
         || uri.equals("/api/v1/auth/refresh");
     }
-
-    private Set<String> getAuthorities(Long userId) {
-        List<String> roleNames = userRoleMapRepository.findRoleNamesByUserId(userId);
-        Set<String> authorities = new HashSet<>(roleNames);
-
-        if (!roleNames.isEmpty()) {
-            List<UserRoleMap> userRoles = userRoleMapRepository.findAllByUserUserId(userId);
-            List<Long> roleIds = userRoles.stream()
-                    .map(urm -> urm.getRole().getRoleId())
-                    .toList();
-            if (!roleIds.isEmpty()) {
-                List<String> privilegeNames = rolePrivilegeMapRepository.findPrivilegeNamesByRoleIds(roleIds);
-                authorities.addAll(privilegeNames);
-            }
-        }
-        return authorities;
-    }
 }
-
-
@@ -0,0 +1,182 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.domain.auth.enums.PrivilegeEnum;
+import com.study.ticketservice.domain.auth.repository.RolePrivilegeMapRepository;
+import com.study.ticketservice.domain.auth.repository.UserRoleMapRepository;
+import com.study.ticketservice.utils.NearCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 권한(Role & Privilege) 캐시
+ * 요청마다 user_roles / role_privileges 를 조회하는 대신 메모리의 값을 사용
+ *
+ * - 역할별 권한(role → privilege)은 전체를 한 번에 적재해 메모리에서 계산, role-refresh-interval-ms 마다 다시 적재
+ * - 사용자별 권한은 최대 max-entries 명, ttl-ms 동안 보관 (캐시에 없으면 역할 이름만 조회)
+ * - 적재한 값에는 권한 버전(PermissionVersionStore)을 함께 보관하고, 버전이 바뀌었으면 다시 적재
+ *   (다른 서버에서 바뀐 권한도 버전으로 감지)
+ * - user_roles 가 바뀌면 해당 사용자, role_privileges 가 바뀌면 전체 버전을 커밋 후 증가 (RbacChangeListener)
+ *
+ * 액세스 토큰에 권한과 버전이 담겨 있고 버전이 현재와 같으면 DB/캐시 조회 없이 토큰의 권한을 사용 (resolve)
+ */
+@Slf4j
+@Component
+public class RbacAuthorityCache {
+
+    // 권한 버전을 알 수 없을 때의 버전 (토큰의 버전과 일치하지 않음)
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final UserRoleMapRepository userRoleMapRepository;
+    private final RolePrivilegeMapRepository rolePrivilegeMapRepository;
+    private final PermissionVersionStore permissionVersionStore;
+    private final NearCache<Long, UserAuthorities> authorities;
+
+    // 역할 이름 → 권한 이름, 아직 적재하지 않았으면 null
+    private volatile RolePrivileges rolePrivileges;
+
+    public RbacAuthorityCache(UserRoleMapRepository userRoleMapRepository,
+                              RolePrivilegeMapRepository rolePrivilegeMapRepository,
+                              PermissionVersionStore permissionVersionStore,
+                              @Value("${rbac.cache.max-entries:100000}") int maxEntries,
+                              @Value("${rbac.cache.ttl-ms:60000}") long ttlMs) {
+        this.userRoleMapRepository = userRoleMapRepository;
+        this.rolePrivilegeMapRepository = rolePrivilegeMapRepository;
+        this.permissionVersionStore = permissionVersionStore;
+        this.authorities = new NearCache<>(maxEntries, ttlMs);
+    }
+
+    /**
+     * 요청 사용자의 역할 이름과 권한 이름
+     * 토큰의 권한 버전이 현재 버전과 같으면 토큰의 권한을, 아니면 현재 권한을 사용
+     * @param token 액세스 토큰에 담긴 권한 (없으면 null)
+     */
+    public Set<String> resolve(Long userId, TokenAuthorities token) {
+        if (token != null) {
+            PermissionVersion version = permissionVersionStore.current(userId);
+            if (version != null && version.value() == token.version()) {
+                return token.authorities();
+            }
+        }
+        return getUserAuthorities(userId).all();
+    }
+
+    /**
+     * 사용자의 현재 역할, 권한, 권한 버전 (토큰 발급용)
+     */
+    public UserAuthorities getUserAuthorities(Long userId) {
+        PermissionVersion version = permissionVersionStore.current(userId);
+        UserAuthorities cached = authorities.get(userId, id -> load(id, version));
+        if (version != null && cached.version() != version.value()) {
+            authorities.invalidate(userId);
+            cached = authorities.get(userId, id -> load(id, version));
+        }
+        return cached;
+    }
+
+    /**
+     * 사용자의 역할 변경 반영 (user_roles 변경 시)
+     */
+    public void evictUser(Long userId) {
+        permissionVersionStore.increaseUser(userId);
+        authorities.invalidate(userId);
+    }
+
+    /**
+     * 역할별 권한 변경 반영 (role_privileges 변경 시)
+     * 역할별 권한을 다시 적재하고 모든 사용자 권한을 무효화
+     */
+    public void evictAll() {
+        permissionVersionStore.increaseGlobal();
+        rolePrivileges = null;
+        authorities.invalidateAll();
+    }
+
+    /**
+     * 역할별 권한을 다시 적재, 바뀐 내용이 있으면 모든 사용자 권한을 무효화
+     * 실패하면 기존 값을 유지하고 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${rbac.role-refresh-interval-ms:60000}",
+               initialDelayString = "${rbac.role-refresh-interval-ms:60000}")
+    public void refreshRolePrivileges() {
+        RolePrivileges previous = rolePrivileges;
+        Map<String, Set<String>> fresh;
+        try {
+            fresh = loadRolePrivileges();
+        } catch (Exception e) {
+            log.error("역할별 권한 적재 실패 (다음 주기에 재시도)", e);
+            return;
+        }
+        rolePrivileges = new RolePrivileges(previous == null ? UNKNOWN_VERSION : previous.globalVersion(), fresh);
+        if (previous != null && !previous.byRole().equals(fresh)) {
+            authorities.invalidateAll();
+            log.info("역할별 권한 변경 반영: roles={}", fresh.size());
+        }
+    }
+
+    private UserAuthorities load(Long userId, PermissionVersion version) {
+        long versionValue = version == null ? UNKNOWN_VERSION : version.value();
+        List<String> roleNames = userRoleMapRepository.findRoleNamesByUserId(userId);
+        if (roleNames.isEmpty()) {
+            return new UserAuthorities(versionValue, List.of(), Set.of());
+        }
+        Map<String, Set<String>> byRole = rolePrivileges(version).byRole();
+        Set<String> privileges = new HashSet<>();
+        for (String roleName : roleNames) {
+            privileges.addAll(byRole.getOrDefault(roleName, Set.of()));
+        }
+        return new UserAuthorities(versionValue, List.copyOf(roleNames), Set.copyOf(privileges));
+    }
+
+    // 전체 권한 버전이 바뀌었으면 다시 적재
+    private RolePrivileges rolePrivileges(PermissionVersion version) {
+        RolePrivileges current = rolePrivileges;
+        if (current == null || (version != null && current.globalVersion() != version.global())) {
+            current = new RolePrivileges(version == null ? UNKNOWN_VERSION : version.global(), loadRolePrivileges());
+            rolePrivileges = current;
+        }
+        return current;
+    }
+
+    private Map<String, Set<String>> loadRolePrivileges() {
+        Map<String, Set<String>> loaded = new HashMap<>();
+        for (Object[] row : rolePrivilegeMapRepository.findAllRolePrivilegeNames()) {
+            loaded.computeIfAbsent((String) row[0], role -> new HashSet<>()).add((String) row[1]);
+        }
+        Map<String, Set<String>> result = new HashMap<>();
+        loaded.forEach((role, privileges) -> result.put(role, Set.copyOf(privileges)));
+        return Map.copyOf(result);
+    }
+
+    /**
+     * 사용자 권한
+     * @param version 적재 시점의 권한 버전
+     * @param roles 역할 이름
+     * @param privileges 권한 이름
+     */
+    public record UserAuthorities(long version, List<String> roles, Set<String> privileges) {
+
+        public Set<String> all() {
+            Set<String> all = new HashSet<>(roles);
+            all.addAll(privileges);
+            return all;
+        }
+
+        /**
+         * @return 권한 비트마스크, PrivilegeEnum 에 없는 권한이 있으면 null
+         */
+        public Long privilegeMask() {
+            return PrivilegeEnum.toMask(privileges);
+        }
+    }
+
+    private record RolePrivileges(long globalVersion, Map<String, Set<String>> byRole) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.domain.auth.entity.RolePrivilegeMap;
+import com.study.ticketservice.domain.auth.entity.UserRoleMap;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * user_roles / role_privileges 변경 시 권한 캐시(RbacAuthorityCache) 무효화
+ * Hibernate 가 스프링 빈으로 가져오는 엔티티 리스너 (SpringBeanContainer)
+ * 캐시는 EntityManagerFactory 생성 중에 주입되므로 @Lazy 프록시로 받아 처음 변경될 때 찾음
+ * 트랜잭션 안에서 변경되면 커밋 이후에 무효화
+ */
+@Component
+public class RbacChangeListener {
+
+    private final RbacAuthorityCache cache;
+
+    public RbacChangeListener(@Lazy RbacAuthorityCache cache) {
+        this.cache = cache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof UserRoleMap userRole) {
+            Long userId = userRole.getUser().getUserId();
+            afterCommit(() -> cache.evictUser(userId));
+        } else if (entity instanceof RolePrivilegeMap) {
+            afterCommit(cache::evictAll);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
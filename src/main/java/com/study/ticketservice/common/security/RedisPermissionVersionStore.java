@@ -0,0 +1,111 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.utils.NearCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 기반 권한 버전 저장소 (기본)
+ * 여러 서버가 같은 버전을 공유
+ *
+ * - rbac:pv:global        역할별 권한 버전 (INCR), 없으면 현재 시각(ms)으로 초기화
+ * - rbac:pv:user:{userId} 사용자 역할 버전 (INCR)
+ *
+ * Redis 가 초기화(flush)되어도 전체 버전이 그동안 지난 시간(ms)만큼 커진 값으로 다시 시작하므로
+ * 초기화 이전에 발급된 토큰의 버전과 일치하지 않음 (권한이 회수된 토큰을 다시 신뢰하지 않음)
+ *
+ * 요청마다 Redis 를 조회하지 않도록 조회한 버전을 cache-ttl-ms 동안 서버 메모리에 보관
+ * (이 서버의 변경은 즉시, 다른 서버의 변경은 cache-ttl-ms 안에 반영)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rbac.version-store", havingValue = "redis", matchIfMissing = true)
+public class RedisPermissionVersionStore implements PermissionVersionStore {
+
+    private static final String KEY_PREFIX = "rbac:pv:";
+    private static final String GLOBAL_KEY = KEY_PREFIX + "global";
+
+    private final StringRedisTemplate redisTemplate;
+    private final NearCache<Long, PermissionVersion> versions;
+    private final LongSupplier clock;
+
+    public RedisPermissionVersionStore(StringRedisTemplate redisTemplate,
+                                       @Value("${rbac.version.cache-max-entries:100000}") int maxEntries,
+                                       @Value("${rbac.version.cache-ttl-ms:1000}") long ttlMs) {
+        this(redisTemplate, maxEntries, ttlMs, System::currentTimeMillis);
+    }
+
+    RedisPermissionVersionStore(StringRedisTemplate redisTemplate, int maxEntries, long ttlMs, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.versions = new NearCache<>(maxEntries, ttlMs);
+        this.clock = clock;
+    }
+
+    @Override
+    public PermissionVersion current(Long userId) {
+        try {
+            return versions.get(userId, this::load);
+        } catch (Exception e) {
+            log.error("권한 버전 조회 실패: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void increaseUser(Long userId) {
+        try {
+            redisTemplate.opsForValue().increment(userKey(userId));
+        } catch (Exception e) {
+            log.error("권한 버전 증가 실패: userId={}", userId, e);
+        }
+        versions.invalidate(userId);
+    }
+
+    @Override
+    public void increaseGlobal() {
+        try {
+            initGlobal();
+            redisTemplate.opsForValue().increment(GLOBAL_KEY);
+        } catch (Exception e) {
+            log.error("전체 권한 버전 증가 실패", e);
+        }
+        versions.invalidateAll();
+    }
+
+    private PermissionVersion load(Long userId) {
+        List<String> values = multiGet(userId);
+        if (values.get(0) == null) {
+            // 처음 사용하거나 Redis 가 초기화된 경우
+            initGlobal();
+            values = multiGet(userId);
+        }
+        return new PermissionVersion(parse(values.get(0)), parse(values.get(1)));
+    }
+
+    private List<String> multiGet(Long userId) {
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(GLOBAL_KEY, userKey(userId)));
+        if (values == null) {
+            throw new IllegalStateException("권한 버전 조회 결과 없음: userId=" + userId);
+        }
+        return values;
+    }
+
+    // 전체 버전이 없을 때만 현재 시각(ms)으로 생성 (여러 서버가 동시에 시도해도 한 값만 남음)
+    private void initGlobal() {
+        redisTemplate.opsForValue().setIfAbsent(GLOBAL_KEY, String.valueOf(clock.getAsLong()));
+    }
+
+    private static long parse(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private static String userKey(Long userId) {
+        return KEY_PREFIX + "user:" + userId;
+    }
+}
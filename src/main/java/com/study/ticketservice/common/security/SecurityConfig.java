@@ -2,6 +2,7 @@ package com.study.ticketservice.common.security;
 
 import com.study.ticketservice.utils.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -24,9 +25,15 @@ public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final RbacAuthoritiesFilter rbacAuthoritiesFilter;
 
+    @Value("${jwt.verified-cache.max-entries:100000}")
+    private int verifiedCacheMaxEntries;
+
+    @Value("${jwt.verified-cache.ttl-ms:300000}")
+    private long verifiedCacheTtlMs;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil);
+        return new JwtAuthenticationFilter(jwtUtil, new VerifiedTokenCache(verifiedCacheMaxEntries, verifiedCacheTtlMs));
     }
 
     @Bean
@@ -0,0 +1,40 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.domain.auth.enums.PrivilegeEnum;
+import io.jsonwebtoken.Claims;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 액세스 토큰에 담긴 권한 (JwtAuthenticationFilter 가 인증 정보의 details 로 전달)
+ * @param roles 역할 이름
+ * @param privileges 권한 비트마스크 (PrivilegeEnum)
+ * @param version 발급 시점의 권한 버전
+ */
+public record TokenAuthorities(List<String> roles, long privileges, long version) {
+
+    /**
+     * @return 토큰의 권한, 권한이나 버전이 없는 토큰이면 null
+     */
+    public static TokenAuthorities from(Claims claims) {
+        Number privileges = claims.get("privs", Number.class);
+        Number version = claims.get("pv", Number.class);
+        if (privileges == null || version == null) {
+            return null;
+        }
+        List<?> rawRoles = claims.get("roles", List.class);
+        List<String> roles = rawRoles == null ? List.of() : rawRoles.stream().map(String::valueOf).toList();
+        return new TokenAuthorities(roles, privileges.longValue(), version.longValue());
+    }
+
+    /**
+     * @return 역할 이름과 권한 이름
+     */
+    public Set<String> authorities() {
+        Set<String> authorities = new HashSet<>(roles);
+        authorities.addAll(PrivilegeEnum.fromMask(privileges));
+        return authorities;
+    }
+}
@@ -0,0 +1,71 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.utils.NearCache;
+
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 검증을 마친 액세스 토큰 캐시
+ * 같은 토큰이 다시 오면 서명 검증과 claim 파싱 없이 검증 결과를 사용
+ *
+ * - 토큰의 64비트 해시를 키로 최대 maxEntries 개를 ttlMs 동안 보관 (가득 차면 가장 오래 조회되지 않은 토큰부터 제거)
+ * - 해시가 같아도 토큰 전체가 같을 때만 사용 (충돌한 토큰은 항상 다시 검증)
+ * - 토큰의 만료 시각(exp)이 지나면 사용하지 않고 다시 검증 (만료 예외는 검증 쪽에서 발생)
+ * - 검증에 실패한 토큰은 보관하지 않음
+ */
+public class VerifiedTokenCache {
+
+    private final NearCache<Long, VerifiedToken> tokens;
+    private final LongSupplier clock;
+
+    public VerifiedTokenCache(int maxEntries, long ttlMs) {
+        this(maxEntries, ttlMs, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxEntries, long ttlMs, LongSupplier clock) {
+        this.tokens = new NearCache<>(maxEntries, ttlMs);
+        this.clock = clock;
+    }
+
+    /**
+     * 검증된 토큰 조회, 처음 보거나 만료된 토큰이면 verifier 로 검증해 보관
+     * @param verifier 서명 검증 및 claim 파싱 (실패하면 예외를 던짐)
+     * @return 검증 결과 (verifier 가 던진 예외는 그대로 전달)
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        long key = hash(token);
+        VerifiedToken cached = tokens.get(key, k -> verifier.apply(token));
+        if (!cached.token().equals(token)) {
+            return verifier.apply(token);
+        }
+        if (cached.expiresAtMs() <= clock.getAsLong()) {
+            tokens.invalidate(key);
+            return verifier.apply(token);
+        }
+        return cached;
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    // 64비트 다항식 해시 (String.hashCode 는 32비트라 토큰 수가 많으면 충돌이 잦음)
+    private static long hash(String token) {
+        long h = 1125899906842597L;
+        for (int i = 0; i < token.length(); i++) {
+            h = 31 * h + token.charAt(i);
+        }
+        return h;
+    }
+
+    /**
+     * 검증을 마친 토큰
+     * @param token 토큰 원문 (해시 충돌 확인용)
+     * @param userId 사용자 ID
+     * @param authorities 토큰에 담긴 권한 (없으면 null)
+     * @param expiresAtMs 토큰 만료 시각
+     */
+    public record VerifiedToken(String token, Long userId, TokenAuthorities authorities, long expiresAtMs) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.ticketservice.domain.auth.entity;
 
+import com.study.ticketservice.common.security.RbacChangeListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "role_privileges")
+@EntityListeners(RbacChangeListener.class)
 public class RolePrivilegeMap {
 
     @Id
@@ -1,5 +1,13 @@
 package com.study.ticketservice.domain.auth.enums;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 권한 목록
+ * 액세스 토큰에는 권한을 순서(ordinal) 위치의 비트로 담으므로 새 권한은 맨 뒤에 추가 (최대 63개)
+ */
 public enum PrivilegeEnum {
     // ADMIN 권한
     EVENT_CREATE,
@@ -8,5 +16,49 @@ public enum PrivilegeEnum {
 
     // 유저 권한
     EVENT_SEAT_RESERVE,
-    EVENT_SEAT_CANCEL
+    EVENT_SEAT_CANCEL;
+
+    private static final PrivilegeEnum[] VALUES = values();
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * 권한 이름 목록을 비트마스크로 변환
+     * @return 비트마스크, 목록에 없는 권한 이름이 있으면 null (비트로 표현할 수 없음)
+     */
+    public static Long toMask(Collection<String> names) {
+        long mask = 0L;
+        for (String name : names) {
+            PrivilegeEnum privilege = find(name);
+            if (privilege == null) {
+                return null;
+            }
+            mask |= privilege.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 권한 이름 목록으로 변환 (알 수 없는 비트는 무시)
+     */
+    public static List<String> fromMask(long mask) {
+        List<String> names = new ArrayList<>(Long.bitCount(mask));
+        for (PrivilegeEnum privilege : VALUES) {
+            if ((mask & privilege.bit()) != 0) {
+                names.add(privilege.name());
+            }
+        }
+        return names;
+    }
+
+    private static PrivilegeEnum find(String name) {
+        for (PrivilegeEnum privilege : VALUES) {
+            if (privilege.name().equals(name)) {
+                return privilege;
+            }
+        }
+        return null;
+    }
 }
@@ -11,6 +11,10 @@ import java.util.List;
 public interface RolePrivilegeMapRepository extends JpaRepository<RolePrivilegeMap, Long> {
     @Query("select distinct p.name from RolePrivilegeMap map join map.privilege p where map.role.roleId in :roleIds")
     List<String> findPrivilegeNamesByRoleIds(@Param("roleIds") Collection<Long> roleIds);
+
+    // 역할 이름, 권한 이름 (역할별 권한 캐시 적재용)
+    @Query("select r.name, p.name from RolePrivilegeMap map join map.role r join map.privilege p")
+    List<Object[]> findAllRolePrivilegeNames();
 }
 
 
@@ -1,9 +1,10 @@
 package com.study.ticketservice.domain.auth.service;
 
 import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.common.security.RbacAuthorityCache;
+import com.study.ticketservice.common.security.RbacAuthorityCache.UserAuthorities;
 import com.study.ticketservice.domain.auth.entity.User;
 import com.study.ticketservice.domain.auth.repository.UserRepository;
-import com.study.ticketservice.domain.auth.repository.UserRoleMapRepository;
 import com.study.ticketservice.domain.auth.controller.request.LoginRequest;
 import com.study.ticketservice.domain.auth.controller.response.LoginResponse;
 import com.study.ticketservice.utils.JwtUtil;
@@ -24,7 +25,7 @@ public class AuthService {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final UserRoleMapRepository userRoleMapRepository;
+    private final RbacAuthorityCache rbacAuthorityCache;
     private final PasswordEncoder passwordEncoder;
 
     public LoginResponse login(LoginRequest request, HttpServletResponse response) {
@@ -38,9 +39,10 @@ public class AuthService {
         Long userId = user.getUserId();
         String email = user.getEmail();
         String name = user.getName();
-        List<String> roles = userRoleMapRepository.findRoleNamesByUserId(userId);
+        UserAuthorities authorities = rbacAuthorityCache.getUserAuthorities(userId);
+        List<String> roles = authorities.roles();
 
-        String access = jwtUtil.createAccessToken(userId, roles);
+        String access = createAccessToken(userId, authorities);
         String refresh = jwtUtil.createRefreshToken(userId, roles);
         jwtUtil.setTokenCookies(response, access, refresh);
 
@@ -69,12 +71,20 @@ public class AuthService {
             return null;
         }
 
-        String newAccess = jwtUtil.createAccessToken(userId, roles);
-        String newRefresh = jwtUtil.createRefreshToken(userId, roles);
+        // 새 액세스 토큰에는 리프레시 토큰 발급 이후 바뀐 권한까지 반영
+        UserAuthorities authorities = rbacAuthorityCache.getUserAuthorities(userId);
+        String newAccess = createAccessToken(userId, authorities);
+        String newRefresh = jwtUtil.createRefreshToken(userId, authorities.roles());
         jwtUtil.setTokenCookies(response, newAccess, newRefresh);
         return "ACCESS_TOKEN_REFRESHED";
     }
 
+    // 권한 비트마스크와 권한 버전을 담은 액세스 토큰
+    private String createAccessToken(Long userId, UserAuthorities authorities) {
+        return jwtUtil.createAccessToken(userId, authorities.roles(),
+                authorities.privilegeMask(), authorities.version());
+    }
+
     public void logout(HttpServletResponse response) {
         Cookie accessCookie = new Cookie("accessToken", "");
         accessCookie.setPath("/");
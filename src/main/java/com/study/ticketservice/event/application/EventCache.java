@@ -0,0 +1,135 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
+import com.study.ticketservice.event.application.dto.response.EventListResponse;
+import com.study.ticketservice.utils.NearCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 이벤트 조회 2단계 캐시
+ * L1 은 서버 메모리(NearCache), L2 는 여러 서버가 공유하는 EventCacheStore(Redis)
+ * 상세 조회 응답은 이벤트별로, 목록 조회 응답은 검색어/페이지별로 보관
+ *
+ * - L1 은 최대 max-entries(상세)/page-max-entries(목록) 개, detail-ttl-ms/page-ttl-ms 가 지나면 만료
+ * - L1 에 없으면 L2, L2 에도 없으면 원본을 조회해 L2 와 L1 에 저장
+ * - 이벤트가 바뀌면 커밋 이후 L2 세대를 올리고 pub/sub 으로 알려 모든 서버의 L1 에서 제거
+ * - 이 서버의 L1 은 트랜잭션 안에서 바로 한 번, 커밋 이후 한 번 더 제거 (커밋 전 상태가 다시 캐시되지 않도록)
+ */
+@Component
+public class EventCache {
+
+    private static final String DETAIL_PREFIX = "detail:";
+    private static final String PAGES = "pages";
+
+    private final EventCacheStore store;
+    private final NearCache<Long, EventDetailResponse> details;
+    private final NearCache<String, CachedPage> pages;
+
+    public EventCache(EventCacheStore store,
+                      @Value("${event-cache.max-entries:10000}") int maxEntries,
+                      @Value("${event-cache.detail-ttl-ms:5000}") long detailTtlMs,
+                      @Value("${event-cache.page-max-entries:1000}") int pageMaxEntries,
+                      @Value("${event-cache.page-ttl-ms:5000}") long pageTtlMs) {
+        this.store = store;
+        this.details = new NearCache<>(maxEntries, detailTtlMs);
+        this.pages = new NearCache<>(pageMaxEntries, pageTtlMs);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        store.subscribe(this::onInvalidated);
+    }
+
+    /**
+     * 이벤트 상세 조회
+     * @param loader 캐시에 없을 때 사용할 조회 함수
+     * @return 이벤트 상세 응답
+     */
+    public EventDetailResponse getDetail(Long eventId, Function<Long, EventDetailResponse> loader) {
+        return details.get(eventId, id ->
+                loadShared(DETAIL_PREFIX + id, "", EventDetailResponse.class, () -> loader.apply(id)));
+    }
+
+    /**
+     * 이벤트 목록 조회
+     * @param loader 캐시에 없을 때 사용할 조회 함수
+     * @return 페이징된 이벤트 목록
+     */
+    public Page<EventListResponse> getPage(String keyword, Pageable pageable, Supplier<Page<EventListResponse>> loader) {
+        String key = (keyword == null ? "" : keyword) + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize()
+                + "|" + pageable.getSort();
+        CachedPage page = pages.get(key, k -> loadShared(PAGES, k, CachedPage.class, () -> CachedPage.from(loader.get())));
+        return new PageImpl<>(page.content(), pageable, page.totalElements());
+    }
+
+    /**
+     * 이벤트 상세 및 목록 캐시 무효화 (이벤트 생성/수정/상태 변경)
+     */
+    public void evict(Long eventId) {
+        invalidate(List.of(DETAIL_PREFIX + eventId, PAGES));
+    }
+
+    /**
+     * 이벤트 상세 캐시만 무효화 (예약 집계 반영)
+     * 목록의 예약 좌석 수는 page-ttl-ms 안에 반영
+     */
+    public void evictDetail(Long eventId) {
+        invalidate(List.of(DETAIL_PREFIX + eventId));
+    }
+
+    private void invalidate(List<String> namespaces) {
+        namespaces.forEach(this::onInvalidated);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            namespaces.forEach(store::invalidate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                namespaces.forEach(namespace -> {
+                    onInvalidated(namespace);
+                    store.invalidate(namespace);
+                });
+            }
+        });
+    }
+
+    private void onInvalidated(String namespace) {
+        if (PAGES.equals(namespace)) {
+            pages.invalidateAll();
+        } else if (namespace.startsWith(DETAIL_PREFIX)) {
+            details.invalidate(Long.valueOf(namespace.substring(DETAIL_PREFIX.length())));
+        }
+    }
+
+    private <T> T loadShared(String namespace, String key, Class<T> type, Supplier<T> loader) {
+        long generation = store.generation(namespace);
+        T cached = store.get(namespace, generation, key, type);
+        if (cached != null) {
+            return cached;
+        }
+        T value = loader.get();
+        store.put(namespace, generation, key, value);
+        return value;
+    }
+
+    /**
+     * 목록 조회 캐시 항목 (페이지 내용과 전체 개수)
+     */
+    public record CachedPage(List<EventListResponse> content, long totalElements) {
+        static CachedPage from(Page<EventListResponse> page) {
+            return new CachedPage(page.getContent(), page.getTotalElements());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.ticketservice.event.application;
+
+import java.util.function.Consumer;
+
+/**
+ * 여러 서버가 공유하는 이벤트 조회 캐시 (2단계 캐시의 L2)
+ * 값은 이름공간(namespace)의 세대(generation)별로 저장하고, 무효화는 세대를 올린 뒤 모든 서버에 알림
+ * 세대를 먼저 읽고 원본을 조회해 저장하므로 무효화 이전에 시작한 조회 결과는 이전 세대에 저장되어 보이지 않음
+ * 저장소를 사용할 수 없으면 예외 대신 캐시가 없는 것으로 처리
+ */
+public interface EventCacheStore {
+
+    /**
+     * @param namespace 이름공간 (예: 이벤트 상세, 이벤트 목록)
+     * @return 현재 세대, 저장소를 사용할 수 없으면 -1
+     */
+    long generation(String namespace);
+
+    /**
+     * @param generation generation() 으로 읽은 세대
+     * @param key 이름공간 안의 키
+     * @return 저장된 값, 없으면 null
+     */
+    <T> T get(String namespace, long generation, String key, Class<T> type);
+
+    /**
+     * 값 저장 (공유 캐시 TTL 적용)
+     * @param generation 원본 조회 전에 generation() 으로 읽은 세대
+     */
+    void put(String namespace, long generation, String key, Object value);
+
+    /**
+     * 이름공간 무효화
+     * 세대를 올려 저장된 값을 모두 버리고 모든 서버의 구독자에게 알림
+     */
+    void invalidate(String namespace);
+
+    /**
+     * 무효화 알림 구독
+     * @param listener 무효화된 이름공간을 받는 함수 (이 서버의 무효화 포함)
+     */
+    void subscribe(Consumer<String> listener);
+}
@@ -1,8 +1,14 @@
 package com.study.ticketservice.event.application;
 
+import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
+import com.study.ticketservice.event.application.dto.response.EventListResponse;
 import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 /**
  * Event 읽기 전용 인터페이스
@@ -19,12 +25,28 @@ public interface EventReader {
     Event findById(Long eventId);
     
     /**
-     * 이벤트 목록 조회 (페이징 및 키워드 검색 지원)
-     * @param keyword 검색 키워드 (제목에서 검색, null이면 전체 조회)
+     * 이벤트 상세 조회 (조회 전용, 응답 DTO로 바로 조회)
+     * @param eventId 조회할 이벤트 ID
+     * @return 이벤트 상세 응답
+     * @throws ApiException 이벤트가 존재하지 않을 경우 EVENT_NOT_FOUND
+     */
+    EventDetailResponse findDetailById(Long eventId);
+
+    /**
+     * 이벤트 목록 조회 (페이징 및 키워드 검색 지원, 조회 전용, 응답 DTO로 바로 조회)
+     * @param keyword 검색 키워드 (제목/설명에서 검색, null이면 전체 조회)
      * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬)
-     * @return 페이징된 이벤트 목록
+     * @return 페이징된 이벤트 목록 응답
      */
-    Page<Event> findEvents(String keyword, Pageable pageable);
+    Page<EventListResponse> findEventList(String keyword, Pageable pageable);
+
+    /**
+     * 커서 다음의 이벤트 목록 조회 (생성 시간, 이벤트 ID 내림차순, 전체 개수는 세지 않음)
+     * @param cursor 마지막으로 조회한 이벤트의 커서 (null이면 처음부터)
+     * @param size 조회할 이벤트 수
+     * @return 이벤트 목록 응답과 다음 페이지 존재 여부
+     */
+    Slice<EventListResponse> findEventListAfter(EventCursor cursor, int size);
     
     /**
      * 이벤트 존재 여부 확인
@@ -33,4 +55,11 @@ public interface EventReader {
      * @return 존재하면 true, 없으면 false
      */
     boolean existsById(Long eventId);
-}
\ No newline at end of file
+
+    /**
+     * 좌석이 모두 생성되지 않은 DRAFT 이벤트 조회
+     * 서버 재시작 시 중단된 좌석 생성을 이어서 하기 위해 사용
+     * @return 좌석 수가 총 좌석 수보다 적은 DRAFT 이벤트 목록
+     */
+    List<Event> findDraftEventsWithMissingSeats();
+}
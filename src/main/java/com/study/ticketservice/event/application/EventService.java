@@ -3,23 +3,33 @@ package com.study.ticketservice.event.application;
 import com.study.ticketservice.common.exception.ApiException;
 import com.study.ticketservice.event.application.dto.request.EventCreateRequest;
 import com.study.ticketservice.event.application.dto.request.EventUpdateRequest;
+import com.study.ticketservice.event.application.dto.response.EventCursorPageResponse;
 import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
 import com.study.ticketservice.event.application.dto.response.EventListResponse;
 import com.study.ticketservice.event.application.dto.response.SeatDetailResponse;
+import com.study.ticketservice.event.application.dto.response.SeatMapChangesResponse;
+import com.study.ticketservice.event.application.dto.response.SeatProvisioningResponse;
 import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventCursor;
 import com.study.ticketservice.event.domain.EventErrorCode;
-import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatMapChanges;
 import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.event.domain.SeatStatusCounts;
+import com.study.ticketservice.event.domain.SeatStorageMode;
+import com.study.ticketservice.queue.application.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Event 애플리케이션 서비스
@@ -33,10 +43,17 @@ public class EventService {
     private final EventReader eventReader;
     private final EventWriter eventWriter;
     private final SeatReader seatReader;
-    private final SeatWriter seatWriter;
+    private final WaitingRoomService waitingRoomService;
+    private final SeatProvisioningService seatProvisioningService;
+    private final EventCache eventCache;
+    private final SeatStatistics seatStatistics;
+
+    @Value("${event-list.max-cursor-size:100}")
+    private int maxCursorSize;
 
     /**
-     * 이벤트 생성 - 비동기 좌석 생성
+     * 이벤트 생성
+     * 좌석은 커밋 후 SeatProvisioningService 의 작업 스레드에서 생성 (진행 상황은 getSeatProvisioning 으로 조회)
      */
     @Transactional
     public EventDetailResponse createEvent(EventCreateRequest request) {
@@ -54,41 +71,13 @@ public class EventService {
 
         Event savedEvent = eventWriter.save(event);
         
-        createSeatsAsync(savedEvent);
+        seatProvisioningService.provision(savedEvent);
+        eventCache.evict(savedEvent.getEventId());
         
         log.info("이벤트 생성 완료: eventId={}", savedEvent.getEventId());
         return EventDetailResponse.from(savedEvent);
     }
 
-    /**
-     * 비동기 좌석 생성
-     */
-    @Async
-    public void createSeatsAsync(Event event) {
-        log.info("좌석 생성 시작 (비동기): eventId={}", event.getEventId());
-        long startTime = System.currentTimeMillis();
-        
-        try {
-            List<Seat> seats = new ArrayList<>();
-            
-            for (int row = 1; row <= event.getTotalRows(); row++) {
-                for (int col = 1; col <= event.getTotalCols(); col++) {
-                    seats.add(new Seat(event.getEventId(), row, col, 10000));
-                }
-            }
-            
-            seatWriter.saveAll(seats);
-            
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("좌석 생성 완료 (비동기): eventId={}, 소요시간: {}ms", 
-                     event.getEventId(), duration);
-                     
-        } catch (Exception e) {
-            log.error("좌석 생성 실패 (비동기): eventId={}", event.getEventId(), e);
-            // 이벤트는 보존, 좌석 생성만 실패
-        }
-    }
-
     /**
      * 이벤트 수정
      */
@@ -105,20 +94,29 @@ public class EventService {
         );
         
         Event updatedEvent = eventWriter.save(event);
+        eventCache.evict(eventId);
         log.info("이벤트 수정 완료: eventId={}", eventId);
         return EventDetailResponse.from(updatedEvent);
     }
 
     /**
      *  이벤트 발행
+     *  좌석을 미리 저장하는 방식(eager)이면 DB에 저장된 좌석 수가 행 × 열 이상일 때만 발행
+     *  (좌석 생성 작업은 다른 서버에서 실행 중일 수 있으므로 이 서버의 작업 상태 대신 저장된 좌석 수로 확인)
      */
     @Transactional
     public EventDetailResponse publishEvent(Long eventId) {
         log.info("이벤트 발행 시작: eventId={}", eventId);
         
         Event event = eventReader.findById(eventId);
+        if (seatProvisioningService.getMode() == SeatStorageMode.EAGER
+                && seatReader.countByEventId(eventId) < (long) event.getTotalRows() * event.getTotalCols()) {
+            throw new ApiException(EventErrorCode.INVALID_EVENT_STATUS, "좌석 생성이 완료되지 않았습니다");
+        }
         event.publish();
         Event savedEvent = eventWriter.save(event);
+        eventCache.evict(eventId);
+        waitingRoomService.open(eventId);
         
         log.info("이벤트 발행 완료: eventId={}", eventId);
         return EventDetailResponse.from(savedEvent);
@@ -134,6 +132,8 @@ public class EventService {
         Event event = eventReader.findById(eventId);
         event.close();
         Event savedEvent = eventWriter.save(event);
+        eventCache.evict(eventId);
+        waitingRoomService.close(eventId);
         
         log.info("이벤트 종료 완료: eventId={}", eventId);
         return EventDetailResponse.from(savedEvent);
@@ -149,6 +149,8 @@ public class EventService {
         Event event = eventReader.findById(eventId);
         event.cancel();
         Event savedEvent = eventWriter.save(event);
+        eventCache.evict(eventId);
+        waitingRoomService.close(eventId);
         
         log.info("이벤트 취소 완료: eventId={}", eventId);
         return EventDetailResponse.from(savedEvent);
@@ -156,36 +158,102 @@ public class EventService {
 
     /**
      * 이벤트 목록 조회
+     * 2단계 캐시(EventCache)에서 먼저 조회, 없으면 응답 DTO로 바로 조회 (엔티티/도메인 객체 없이)
+     * 좌석 상태별 개수는 캐시 밖에서 SeatStatistics 로 채움 (페이지의 이벤트를 한 번에 조회)
      */
     public Page<EventListResponse> getEvents(String keyword, Pageable pageable) {
-        Page<Event> events = eventReader.findEvents(keyword, pageable);
-        return events.map(EventListResponse::from);
+        Page<EventListResponse> page = eventCache.getPage(keyword, pageable,
+                () -> eventReader.findEventList(keyword, pageable));
+        List<EventListResponse> items = withSeatCounts(page.getContent());
+        return new PageImpl<>(items, pageable, page.getTotalElements());
+    }
+
+    /**
+     * 커서 기반 이벤트 목록 조회 (생성 시간, 이벤트 ID 내림차순)
+     * 마지막으로 받은 이벤트 다음부터 조회하므로 깊은 페이지도 느려지지 않고 전체 개수는 세지 않음
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 조회할 이벤트 수
+     * @throws ApiException 커서 형식이 잘못되었거나 size 가 범위를 벗어나면 INVALID_PARAMETER
+     */
+    public EventCursorPageResponse getEventsAfter(String cursor, int size) {
+        if (size < 1 || size > maxCursorSize) {
+            throw new ApiException(EventErrorCode.INVALID_PARAMETER, "size 는 1~" + maxCursorSize + " 사이여야 합니다");
+        }
+        Slice<EventListResponse> events = eventReader.findEventListAfter(EventCursor.decode(cursor), size);
+
+        List<EventListResponse> items = withSeatCounts(events.getContent());
+        String nextCursor = null;
+        if (events.hasNext()) {
+            // 마지막으로 조회한 이벤트의 생성 시간, 이벤트 ID 다음부터 조회
+            EventListResponse last = items.get(items.size() - 1);
+            nextCursor = new EventCursor(last.createdAt(), last.eventId()).encode();
+        }
+        return new EventCursorPageResponse(items, nextCursor);
     }
 
     /**
      * 이벤트 상세 조회
+     * 2단계 캐시(EventCache)에서 먼저 조회, 없으면 응답 DTO로 바로 조회 (엔티티/도메인 객체 없이)
+     * 좌석 상태별 개수는 캐시 밖에서 SeatStatistics 로 채움
      */
     public EventDetailResponse getEvent(Long eventId) {
-        Event event = eventReader.findById(eventId);
-        return EventDetailResponse.from(event);
+        EventDetailResponse detail = eventCache.getDetail(eventId, eventReader::findDetailById);
+        return detail.withSeatCounts(seatStatistics.getCounts(eventId, detail.totalRows() * detail.totalCols()));
+    }
+
+    private List<EventListResponse> withSeatCounts(List<EventListResponse> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+        Map<Long, Integer> capacities = new HashMap<>();
+        events.forEach(event -> capacities.put(event.eventId(), event.totalSeats()));
+        Map<Long, SeatStatusCounts> counts = seatStatistics.getCounts(capacities);
+        return events.stream()
+                .map(event -> event.withSeatCounts(counts.get(event.eventId())))
+                .toList();
     }
 
     /**
      * 이벤트 좌석 조회
      */
     public List<SeatDetailResponse> getEventSeats(Long eventId, SeatStatus status) {
-        List<Seat> seats;
-        if (status != null) {
-            seats = seatReader.findByEventIdAndStatus(eventId, status);
-        } else {
-            seats = seatReader.findByEventId(eventId);
-        }
+        // 좌석 배치도에서 응답으로 바로 변환 (Seat 도메인 객체를 거치지 않음)
+        List<SeatDetailResponse> seats = seatReader.findSeatViews(eventId, status, SeatDetailResponse::of);
         
         // 좌석이 없고 이벤트도 존재하지 않는 경우에만 예외 발생
         if (seats.isEmpty() && !eventReader.existsById(eventId)) {
             throw new ApiException(EventErrorCode.EVENT_NOT_FOUND);
         }
         
-        return seats.stream().map(SeatDetailResponse::from).toList();
+        return seats;
+    }
+
+    /**
+     * 이벤트 좌석 변경분 조회
+     * sinceVersion 이후 바뀐 좌석만 반환하고, 버전이 너무 오래되었으면 전체 좌석 반환 (snapshot)
+     */
+    public SeatMapChangesResponse getEventSeatChanges(Long eventId, long sinceVersion) {
+        SeatMapChanges changes = seatReader.findChangesSince(eventId, sinceVersion);
+        if (changes == null) {
+            throw new ApiException(EventErrorCode.EVENT_NOT_FOUND);
+        }
+        return SeatMapChangesResponse.of(eventId, changes);
+    }
+
+    /**
+     * 이벤트 좌석 생성 진행 상황 조회
+     * 이 서버에 작업 기록이 없으면 저장된 좌석 수로 완료 여부 판단 (지연 생성 방식이면 항상 완료)
+     */
+    public SeatProvisioningResponse getSeatProvisioning(Long eventId) {
+        SeatProvisioningJob job = seatProvisioningService.getJob(eventId);
+        if (job != null) {
+            return SeatProvisioningResponse.from(job);
+        }
+        Event event = eventReader.findById(eventId);
+        if (seatProvisioningService.getMode() == SeatStorageMode.LAZY) {
+            // 좌석은 이벤트 배치로 구성되므로 저장된 좌석 수와 관계없이 모두 준비된 상태
+            return SeatProvisioningResponse.of(event, (long) event.getTotalRows() * event.getTotalCols());
+        }
+        return SeatProvisioningResponse.of(event, seatReader.countByEventId(eventId));
     }
-}
\ No newline at end of file
+}
@@ -20,4 +20,13 @@ public interface EventWriter {
      * @param eventId 삭제할 이벤트 ID
      */
     void delete(Long eventId);
+
+    /**
+     * 예약 집계(예약 좌석 수, 결제 금액) 증감 반영 요청
+     * 이벤트 행을 매번 갱신하지 않고 모아서 주기적으로 DB에 반영
+     * @param eventId 이벤트 ID
+     * @param seatsDelta 예약 좌석 수 증감
+     * @param amountDelta 결제 금액 증감
+     */
+    void addReservationAsync(Long eventId, int seatsDelta, long amountDelta);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * SeatHoldStore 에 기록된 AVAILABLE 이 아닌 좌석 상태
+ * @param position 좌석 위치
+ * @param status HOLD 또는 SOLD
+ * @param holdExpiresAt HOLD 만료 시간 (SOLD 이면 null)
+ */
+public record HeldSeat(SeatPosition position, SeatStatus status, LocalDateTime holdExpiresAt) {
+}
@@ -0,0 +1,202 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.utils.HierarchicalTimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 HOLD 만료 서비스
+ * HOLD 만료 시각(Seat.holdExpiresAt)을 계층형 타이밍 휠에 등록하고 만료되는 즉시 해제
+ *
+ * - 등록/취소는 좌석당 O(1), 전용 스레드가 tick-ms 마다 시계를 진행
+ * - 만료된 좌석은 작업 스레드에서 좌석 잠금을 잡고 SeatHoldStore 로 해제한 뒤 DB에는 조건부 UPDATE 로 반영
+ * - 서버 시작 시 DB의 HOLD 좌석으로 휠을 복구
+ * - 다른 서버에서 등록된 HOLD 가 남지 않도록 sweep-interval-ms 마다 만료된 HOLD 를 한 번 더 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldExpiryService {
+
+    private final SeatHoldStore seatHoldStore;
+    private final SeatReader seatReader;
+    private final SeatWriter seatWriter;
+    private final SeatLockManager seatLockManager;
+    private final SeatStatistics seatStatistics;
+
+    @Value("${seat-hold.expiry.tick-ms:10}")
+    private long tickMs;
+
+    @Value("${seat-hold.expiry.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${seat-hold.expiry.workers:4}")
+    private int workers;
+
+    @Value("${seat-hold.expiry.lock-timeout-ms:50}")
+    private long lockTimeoutMs;
+
+    // 좌석 -> 휠에 등록된 만료 일정 (좌석당 최대 1개)
+    private final Map<HoldKey, HierarchicalTimingWheel.Timeout<Hold>> scheduled = new ConcurrentHashMap<>();
+
+    private HierarchicalTimingWheel<Hold> wheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService expiryExecutor;
+
+    @PostConstruct
+    public void start() {
+        wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(daemonThreads("seat-hold-expiry-ticker"));
+        expiryExecutor = Executors.newFixedThreadPool(workers, daemonThreads("seat-hold-expiry"));
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        expiryExecutor.shutdownNow();
+    }
+
+    /**
+     * 좌석 HOLD 만료 일정 등록
+     * 같은 좌석에 등록된 일정이 있으면 교체
+     */
+    public void schedule(Long eventId, SeatPosition position, LocalDateTime holdExpiresAt) {
+        HoldKey key = new HoldKey(eventId, position);
+        Hold hold = new Hold(key);
+        long deadlineMs = holdExpiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        HierarchicalTimingWheel.Timeout<Hold> timeout = scheduled.compute(key, (k, previous) -> {
+            wheel.cancel(previous);
+            return wheel.schedule(hold, deadlineMs);
+        });
+        if (timeout == null) {
+            // 이미 만료 시각이 지난 HOLD
+            dispatch(List.of(hold));
+        }
+    }
+
+    /**
+     * 좌석 HOLD 만료 일정 취소 (해제/판매된 좌석)
+     */
+    public void cancel(Long eventId, SeatPosition position) {
+        HierarchicalTimingWheel.Timeout<Hold> timeout = scheduled.remove(new HoldKey(eventId, position));
+        wheel.cancel(timeout);
+    }
+
+    /**
+     * 서버 시작 시 DB의 HOLD 좌석으로 만료 일정 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Seat> heldSeats = seatReader.findByStatus(SeatStatus.HOLD);
+        for (Seat seat : heldSeats) {
+            LocalDateTime holdExpiresAt = seat.getHoldExpiresAt() == null ? LocalDateTime.now() : seat.getHoldExpiresAt();
+            schedule(seat.getEventId(), new SeatPosition(seat.getRow(), seat.getCol()), holdExpiresAt);
+        }
+        log.info("좌석 HOLD 만료 일정 복구: {}건", heldSeats.size());
+    }
+
+    /**
+     * 휠에 등록되지 않은 만료 HOLD 처리 (다른 서버가 등록 후 종료된 경우 등)
+     * 만료된 HOLD 만 인덱스 범위로 조회하므로 평상시에는 결과가 거의 없음
+     */
+    @Scheduled(fixedDelayString = "${seat-hold.expiry.sweep-interval-ms:60000}",
+               initialDelayString = "${seat-hold.expiry.sweep-interval-ms:60000}")
+    public void sweep() {
+        for (Seat seat : seatReader.findExpiredHoldSeats(LocalDateTime.now())) {
+            HoldKey key = new HoldKey(seat.getEventId(), new SeatPosition(seat.getRow(), seat.getCol()));
+            if (!scheduled.containsKey(key)) {
+                dispatch(List.of(new Hold(key)));
+            }
+        }
+    }
+
+    private void tick() {
+        try {
+            List<Hold> expired = wheel.advance(System.currentTimeMillis());
+            if (!expired.isEmpty()) {
+                for (Hold hold : expired) {
+                    // 이후에 다시 등록된 일정은 남겨둠
+                    scheduled.computeIfPresent(hold.key(), (k, timeout) -> timeout.getItem() == hold ? null : timeout);
+                }
+                dispatch(expired);
+            }
+        } catch (Exception e) {
+            log.error("좌석 HOLD 만료 처리 실패", e);
+        }
+    }
+
+    private void dispatch(List<Hold> holds) {
+        for (Hold hold : holds) {
+            expiryExecutor.execute(() -> expire(hold.key()));
+        }
+    }
+
+    private void expire(HoldKey key) {
+        SeatLockManager.SeatLocks locks = seatLockManager.tryLock(key.eventId(), List.of(key.position()),
+                lockTimeoutMs, TimeUnit.MILLISECONDS);
+        if (locks == null) {
+            // 사용자 요청이 처리 중인 좌석, 남은 HOLD 는 sweep 에서 다시 확인
+            log.debug("좌석 HOLD 만료 보류 (잠금 대기 초과): eventId={}, position={}", key.eventId(), key.position());
+            return;
+        }
+        try (locks) {
+            if (!seatHoldStore.expire(key.eventId(), key.position())) {
+                return;
+            }
+            Seat seat = seatReader.findByEventIdAndPosition(key.eventId(), key.position().row(), key.position().col());
+            if (seat.getStatus() != SeatStatus.HOLD
+                    || (seat.getHoldExpiresAt() != null && seat.getHoldExpiresAt().isAfter(LocalDateTime.now()))) {
+                return;
+            }
+            // 읽은 뒤에 다시 HOLD/판매된 좌석은 버전이 달라 변경되지 않음
+            seat.changeStatus(SeatStatus.AVAILABLE, null);
+            SeatTransitionResult result = seatWriter.transition(List.of(seat), SeatStatus.HOLD);
+            if (result.success()) {
+                seatStatistics.record(key.eventId(), SeatStatus.HOLD, SeatStatus.AVAILABLE, 1);
+                log.debug("좌석 HOLD 만료: eventId={}, seat={}", key.eventId(), seat.getSeatNumber());
+            }
+        } catch (Exception e) {
+            log.error("좌석 HOLD 만료 해제 실패: eventId={}, position={}", key.eventId(), key.position(), e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record HoldKey(Long eventId, SeatPosition position) {
+    }
+
+    // 등록마다 새로 생성 (같은 좌석의 이전 일정과 구분)
+    private record Hold(HoldKey key) {
+    }
+}
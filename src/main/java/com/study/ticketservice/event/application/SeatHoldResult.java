@@ -0,0 +1,19 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.SeatPosition;
+
+/**
+ * 좌석 상태 전이 결과
+ * @param success 성공 여부
+ * @param conflict 실패 시 상태 전이가 불가능했던 좌석 (성공 시 null)
+ */
+public record SeatHoldResult(boolean success, SeatPosition conflict) {
+
+    public static SeatHoldResult succeeded() {
+        return new SeatHoldResult(true, null);
+    }
+
+    public static SeatHoldResult conflicted(SeatPosition conflict) {
+        return new SeatHoldResult(false, conflict);
+    }
+}
@@ -0,0 +1,245 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.event.application.dto.response.SeatDetailResponse;
+import com.study.ticketservice.event.application.dto.response.SeatHoldResponse;
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventErrorCode;
+import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatBlock;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.queue.application.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 좌석 HOLD/해제/판매 애플리케이션 서비스
+ * 상태 전이는 SeatHoldStore(Redis)에서 원자적으로 처리하고 DB에는 비동기로 반영
+ * 같은 좌석의 변경은 SeatLockManager 로 서버 안에서 먼저 직렬화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldService {
+
+    private final EventReader eventReader;
+    private final EventWriter eventWriter;
+    private final SeatReader seatReader;
+    private final SeatWriter seatWriter;
+    private final SeatHoldStore seatHoldStore;
+    private final SeatHoldExpiryService seatHoldExpiryService;
+    private final WaitingRoomService waitingRoomService;
+    private final SeatLockManager seatLockManager;
+    private final SeatStatistics seatStatistics;
+
+    private static final Comparator<SeatPosition> SEAT_ORDER =
+            Comparator.comparingInt(SeatPosition::row).thenComparingInt(SeatPosition::col);
+
+    @Value("${seat-hold.hold-minutes:10}")
+    private int holdMinutes;
+
+    @Value("${seat-hold.max-seats-per-request:10}")
+    private int maxSeatsPerRequest;
+
+    @Value("${seat-hold.best-available-attempts:3}")
+    private int bestAvailableAttempts;
+
+    /**
+     * 여러 좌석 HOLD (모두 성공하거나 모두 실패)
+     * 좌석은 (행, 열) 순으로 정렬해 항상 같은 순서로 처리하고 상태 전이는 저장소 호출 한 번으로 수행
+     * @param admissionToken 대기열 입장 토큰
+     * @throws ApiException 좌석 목록이 비었거나 중복/최대 개수 초과 시 INVALID_PARAMETER
+     * @throws ApiException 입장 토큰이 없거나 유효하지 않으면 ADMISSION_REQUIRED/INVALID_ADMISSION_TOKEN
+     * @throws ApiException 하나라도 이미 HOLD/SOLD 된 좌석이면 SEAT_NOT_AVAILABLE (해당 좌석 번호 포함)
+     * @throws ApiException 같은 좌석에 요청이 몰려 잠금을 얻지 못하면 SEAT_BUSY
+     */
+    public SeatHoldResponse holdSeats(Long eventId, Long userId, String admissionToken, List<SeatPosition> positions) {
+        validatePositions(positions);
+        waitingRoomService.verifyAdmission(eventId, userId, admissionToken);
+        List<Seat> seats = holdAll(eventId, userId, positions);
+        return SeatHoldResponse.of(eventId, seats, seats.get(0).getHoldExpiresAt());
+    }
+
+    /**
+     * 추천 연속 좌석 HOLD
+     * 좌석 배치도에서 앞 행, 가운데 순으로 연속된 빈 좌석을 찾아 HOLD
+     * 다른 사용자가 먼저 HOLD 해 충돌하면 다음 후보로 재시도 (최대 best-available-attempts 회)
+     * @param admissionToken 대기열 입장 토큰
+     * @throws ApiException 좌석 수가 1 미만이거나 최대 개수 초과 시 INVALID_PARAMETER
+     * @throws ApiException 입장 토큰이 없거나 유효하지 않으면 ADMISSION_REQUIRED/INVALID_ADMISSION_TOKEN
+     * @throws ApiException 연속된 빈 좌석이 없으면 SEAT_NOT_AVAILABLE
+     */
+    public SeatHoldResponse holdBestAvailable(Long eventId, Long userId, String admissionToken, int count) {
+        if (count < 1 || count > maxSeatsPerRequest) {
+            throw new ApiException(EventErrorCode.INVALID_PARAMETER,
+                    "한 번에 1~" + maxSeatsPerRequest + "개의 좌석을 HOLD 할 수 있습니다");
+        }
+        waitingRoomService.verifyAdmission(eventId, userId, admissionToken);
+        validateOnSale(eventId);
+
+        for (SeatBlock block : seatReader.findBestAvailable(eventId, count, bestAvailableAttempts)) {
+            HoldAttempt attempt = tryHold(eventId, userId, block.positions());
+            if (attempt.conflict() == null) {
+                return SeatHoldResponse.of(eventId, attempt.seats(), attempt.seats().get(0).getHoldExpiresAt());
+            }
+            log.debug("추천 좌석 HOLD 충돌, 다음 후보로 재시도: eventId={}, block={}", eventId, block);
+        }
+        throw new ApiException(EventErrorCode.SEAT_NOT_AVAILABLE, "연속된 " + count + "개의 빈 좌석이 없습니다");
+    }
+
+    private List<Seat> holdAll(Long eventId, Long userId, List<SeatPosition> positions) {
+        validateOnSale(eventId);
+        List<SeatPosition> ordered = positions.stream()
+                .sorted(SEAT_ORDER)
+                .toList();
+        HoldAttempt attempt = tryHold(eventId, userId, ordered);
+        if (attempt.conflict() != null) {
+            throw new ApiException(EventErrorCode.SEAT_NOT_AVAILABLE, attempt.conflict().seatNumber());
+        }
+        return attempt.seats();
+    }
+
+    /**
+     * (행, 열) 순으로 정렬된 좌석을 한 번에 HOLD
+     * @return HOLD 된 좌석 목록, 이미 HOLD/SOLD 된 좌석이 있으면 충돌한 좌석
+     */
+    private HoldAttempt tryHold(Long eventId, Long userId, List<SeatPosition> ordered) {
+        List<Seat> seats;
+        SeatLockManager.SeatLocks locks = seatLockManager.lock(eventId, ordered);
+        try {
+            // 잠금 안에서 읽어야 변경 전 버전이 최신 값
+            seats = findSeats(eventId, ordered);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime holdExpiresAt = now.plusMinutes(holdMinutes);
+            SeatHoldResult result = seatHoldStore.hold(eventId, userId, ordered, holdExpiresAt);
+            if (!result.success()) {
+                return new HoldAttempt(List.of(), result.conflict());
+            }
+
+            for (Seat seat : seats) {
+                seat.changeStatus(SeatStatus.HOLD, holdExpiresAt, now);
+            }
+            seatWriter.updateStatusAsync(seats, SeatStatus.AVAILABLE);
+            seatStatistics.record(eventId, SeatStatus.AVAILABLE, SeatStatus.HOLD, seats.size());
+            for (SeatPosition position : ordered) {
+                seatHoldExpiryService.schedule(eventId, position, holdExpiresAt);
+            }
+        } finally {
+            locks.close();
+        }
+        log.debug("좌석 HOLD: eventId={}, seats={}, userId={}", eventId, ordered, userId);
+        return new HoldAttempt(seats, null);
+    }
+
+    /**
+     * 좌석 HOLD 해제 (HOLD -> AVAILABLE, 모두 성공하거나 모두 실패)
+     * 본인이 HOLD 한 좌석만 해제 가능
+     * @throws ApiException 좌석 목록이 비었거나 중복/최대 개수 초과 시 INVALID_PARAMETER
+     * @throws ApiException 하나라도 본인의 HOLD 좌석이 아니면 INVALID_SEAT_STATUS (해당 좌석 번호 포함)
+     * @throws ApiException 같은 좌석에 요청이 몰려 잠금을 얻지 못하면 SEAT_BUSY
+     */
+    public List<SeatDetailResponse> releaseSeats(Long eventId, Long userId, List<SeatPosition> positions) {
+        validatePositions(positions);
+        List<SeatPosition> ordered = positions.stream()
+                .sorted(SEAT_ORDER)
+                .toList();
+        List<Seat> seats;
+        SeatLockManager.SeatLocks locks = seatLockManager.lock(eventId, ordered);
+        try {
+            seats = findSeats(eventId, ordered);
+            SeatHoldResult result = seatHoldStore.release(eventId, userId, ordered);
+            if (!result.success()) {
+                throw new ApiException(EventErrorCode.INVALID_SEAT_STATUS, result.conflict().seatNumber());
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Seat seat : seats) {
+                seat.changeStatus(SeatStatus.AVAILABLE, null, now);
+            }
+            seatWriter.updateStatusAsync(seats, SeatStatus.HOLD);
+            seatStatistics.record(eventId, SeatStatus.HOLD, SeatStatus.AVAILABLE, seats.size());
+            for (SeatPosition position : ordered) {
+                seatHoldExpiryService.cancel(eventId, position);
+            }
+        } finally {
+            locks.close();
+        }
+        log.debug("좌석 HOLD 해제: eventId={}, seats={}, userId={}", eventId, ordered, userId);
+        return seats.stream().map(SeatDetailResponse::from).toList();
+    }
+
+    /**
+     * 좌석 판매 확정 (HOLD -> SOLD, 모두 성공하거나 모두 실패)
+     * 본인이 HOLD 하고 만료되지 않은 좌석만 판매 가능
+     * 이벤트의 예약 집계는 모아서 주기적으로 반영
+     * @throws ApiException 좌석 목록이 비었거나 중복/최대 개수 초과 시 INVALID_PARAMETER
+     * @throws ApiException 하나라도 유효한 본인의 HOLD 좌석이 아니면 INVALID_SEAT_STATUS (해당 좌석 번호 포함)
+     * @throws ApiException 같은 좌석에 요청이 몰려 잠금을 얻지 못하면 SEAT_BUSY
+     */
+    public List<SeatDetailResponse> sellSeats(Long eventId, Long userId, List<SeatPosition> positions) {
+        validatePositions(positions);
+        validateOnSale(eventId);
+        List<SeatPosition> ordered = positions.stream()
+                .sorted(SEAT_ORDER)
+                .toList();
+        List<Seat> seats;
+        SeatLockManager.SeatLocks locks = seatLockManager.lock(eventId, ordered);
+        try {
+            seats = findSeats(eventId, ordered);
+            SeatHoldResult result = seatHoldStore.sell(eventId, userId, ordered);
+            if (!result.success()) {
+                throw new ApiException(EventErrorCode.INVALID_SEAT_STATUS, result.conflict().seatNumber());
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Seat seat : seats) {
+                seat.changeStatus(SeatStatus.SOLD, null, now);
+            }
+            seatWriter.updateStatusAsync(seats, SeatStatus.HOLD);
+            seatStatistics.record(eventId, SeatStatus.HOLD, SeatStatus.SOLD, seats.size());
+            for (SeatPosition position : ordered) {
+                seatHoldExpiryService.cancel(eventId, position);
+            }
+        } finally {
+            locks.close();
+        }
+        long amount = seats.stream().mapToLong(Seat::getPrice).sum();
+        eventWriter.addReservationAsync(eventId, seats.size(), amount);
+        log.info("좌석 판매: eventId={}, seats={}, userId={}", eventId, ordered, userId);
+        return seats.stream().map(SeatDetailResponse::from).toList();
+    }
+
+    private List<Seat> findSeats(Long eventId, List<SeatPosition> ordered) {
+        return ordered.stream()
+                .map(position -> seatReader.findByEventIdAndPosition(eventId, position.row(), position.col()))
+                .toList();
+    }
+
+    private void validatePositions(List<SeatPosition> positions) {
+        if (positions.isEmpty() || positions.size() > maxSeatsPerRequest) {
+            throw new ApiException(EventErrorCode.INVALID_PARAMETER,
+                    "한 번에 1~" + maxSeatsPerRequest + "개의 좌석을 요청할 수 있습니다");
+        }
+        if (positions.stream().distinct().count() != positions.size()) {
+            throw new ApiException(EventErrorCode.INVALID_PARAMETER, "중복된 좌석이 있습니다");
+        }
+    }
+
+    private void validateOnSale(Long eventId) {
+        Event event = eventReader.findById(eventId);
+        if (event.getStatus() != EventStatus.PUBLISHED) {
+            throw new ApiException(EventErrorCode.INVALID_EVENT_STATUS, "발행된 이벤트의 좌석만 예약할 수 있습니다");
+        }
+    }
+
+    private record HoldAttempt(List<Seat> seats, SeatPosition conflict) {
+    }
+}
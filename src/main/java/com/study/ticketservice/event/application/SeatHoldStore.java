@@ -0,0 +1,58 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.SeatPosition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좌석 상태 전이(HOLD/해제/판매)를 원자적으로 처리하는 저장소
+ * 전달된 좌석은 모두 성공하거나 모두 실패
+ * 좌석 상태의 기준 저장소 (DB는 쓰기 지연 큐로 뒤따라 반영되며 유실된 변경은 SeatStateReconciler 가 복구)
+ */
+public interface SeatHoldStore {
+
+    /**
+     * 좌석 HOLD (AVAILABLE -> HOLD)
+     * @param eventId 이벤트 ID
+     * @param userId HOLD 하는 사용자 ID
+     * @param seats HOLD 할 좌석 목록
+     * @param holdExpiresAt HOLD 만료 시간
+     * @return 처리 결과 (실패 시 충돌한 좌석 포함)
+     */
+    SeatHoldResult hold(Long eventId, Long userId, List<SeatPosition> seats, LocalDateTime holdExpiresAt);
+
+    /**
+     * 좌석 HOLD 해제 (HOLD -> AVAILABLE)
+     * 본인이 HOLD 한 좌석만 해제 가능
+     */
+    SeatHoldResult release(Long eventId, Long userId, List<SeatPosition> seats);
+
+    /**
+     * 좌석 판매 확정 (HOLD -> SOLD)
+     * 본인이 HOLD 하고 만료되지 않은 좌석만 판매 가능
+     */
+    SeatHoldResult sell(Long eventId, Long userId, List<SeatPosition> seats);
+
+    /**
+     * 만료된 좌석 HOLD 해제 (HOLD -> AVAILABLE)
+     * 만료 시각이 지나지 않은 HOLD 나 SOLD 좌석은 변경하지 않음
+     * @return 좌석이 AVAILABLE 상태가 되었으면(이미 해제된 경우 포함) true
+     */
+    boolean expire(Long eventId, SeatPosition seat);
+
+    /**
+     * 좌석 상태가 기록된 이벤트 ID 목록
+     */
+    List<Long> findEventIds();
+
+    /**
+     * 이벤트의 HOLD/SOLD 좌석 목록 (기록된 것이 없으면 빈 목록)
+     */
+    List<HeldSeat> findHeldSeats(Long eventId);
+
+    /**
+     * @return 좌석의 HOLD/SOLD 상태, AVAILABLE 이면 null
+     */
+    HeldSeat findHeldSeat(Long eventId, SeatPosition seat);
+}
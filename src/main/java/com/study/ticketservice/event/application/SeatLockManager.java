@@ -0,0 +1,179 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.event.domain.EventErrorCode;
+import com.study.ticketservice.event.domain.SeatPosition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좌석 상태 변경용 스트라이프 잠금
+ * (eventId, 좌석 위치)를 고정된 개수의 잠금 중 하나에 대응시켜 같은 좌석의 변경을 서버 안에서 직렬화
+ *
+ * - 같은 좌석을 노리는 요청은 Redis/DB 에 도달하기 전에 서버 안에서 대기
+ * - 여러 좌석은 잠금 번호 순으로 획득해 교착을 막고, 시간 안에 모두 획득하지 못하면 획득한 잠금을 모두 해제
+ * - 서로 다른 좌석이 같은 잠금에 대응될 수 있음 (stripes 가 클수록 드묾)
+ * - 서버 간 정합성은 여전히 SeatHoldStore / 조건부 UPDATE 가 보장
+ */
+@Slf4j
+@Component
+public class SeatLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMs;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private long lastLoggedContended;
+
+    public SeatLockManager(@Value("${seat-lock.stripes:1024}") int stripes,
+                           @Value("${seat-lock.timeout-ms:200}") long timeoutMs) {
+        // 2의 거듭제곱으로 맞춰 비트 연산으로 잠금 번호 계산
+        int size = Integer.highestOneBit(Math.max(stripes - 1, 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 좌석 잠금 획득 (설정된 seat-lock.timeout-ms 만큼 대기)
+     * @throws ApiException 시간 안에 잠금을 획득하지 못하면 SEAT_BUSY
+     */
+    public SeatLocks lock(Long eventId, List<SeatPosition> positions) {
+        SeatLocks locks = tryLock(eventId, positions, timeoutMs, TimeUnit.MILLISECONDS);
+        if (locks == null) {
+            throw new ApiException(EventErrorCode.SEAT_BUSY);
+        }
+        return locks;
+    }
+
+    /**
+     * 좌석 잠금 획득 시도
+     * 좌석이 대응되는 잠금을 번호 순으로 획득하며, 전체 대기 시간은 timeout 을 넘지 않음
+     * @return 획득한 잠금 (try-with-resources 로 해제), 시간 안에 획득하지 못하면 null
+     */
+    public SeatLocks tryLock(Long eventId, List<SeatPosition> positions, long timeout, TimeUnit unit) {
+        int[] indexes = positions.stream()
+                .mapToInt(position -> stripeIndex(eventId, position))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        long start = System.nanoTime();
+        long deadline = start + unit.toNanos(timeout);
+        int held = 0;
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock()) {
+                    contended.increment();
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !lock.tryLock(remaining, TimeUnit.NANOSECONDS)) {
+                        timedOut.increment();
+                        unlock(indexes, held);
+                        return null;
+                    }
+                }
+                held++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlock(indexes, held);
+            return null;
+        } finally {
+            waitNanos.add(System.nanoTime() - start);
+        }
+        acquired.increment();
+        return new SeatLocks(indexes);
+    }
+
+    /**
+     * @return 서버 시작 이후 누적 잠금 통계
+     */
+    public SeatLockStats stats() {
+        return new SeatLockStats(acquired.sum(), contended.sum(), timedOut.sum(),
+                TimeUnit.NANOSECONDS.toMicros(waitNanos.sum()));
+    }
+
+    /**
+     * 경합이 있었던 경우에만 누적 잠금 통계 기록
+     */
+    @Scheduled(fixedDelayString = "${seat-lock.stats-log-interval-ms:60000}",
+               initialDelayString = "${seat-lock.stats-log-interval-ms:60000}")
+    public void logStats() {
+        SeatLockStats stats = stats();
+        if (stats.contended() == lastLoggedContended) {
+            return;
+        }
+        lastLoggedContended = stats.contended();
+        log.info("좌석 잠금 통계: acquired={}, contended={}, timedOut={}, avgWaitMicros={}",
+                stats.acquired(), stats.contended(), stats.timedOut(), stats.averageWaitMicros());
+    }
+
+    int stripeIndex(Long eventId, SeatPosition position) {
+        long key = eventId * 0x9E3779B97F4A7C15L + ((long) position.row() << 32 | position.col());
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return (int) key & (stripes.length - 1);
+    }
+
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    /**
+     * 획득한 좌석 잠금 (획득한 스레드에서 close 로 해제)
+     */
+    public final class SeatLocks implements AutoCloseable {
+
+        private final int[] indexes;
+        private boolean released;
+
+        private SeatLocks(int[] indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                unlock(indexes, indexes.length);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "SeatLocks" + Arrays.toString(indexes);
+        }
+    }
+
+    /**
+     * 좌석 잠금 누적 통계
+     * @param acquired 획득 성공 횟수
+     * @param contended 다른 스레드가 잡고 있어 대기한 횟수 (잠금 단위)
+     * @param timedOut 시간 안에 획득하지 못한 횟수
+     * @param waitMicros 잠금 획득에 걸린 총 시간
+     */
+    public record SeatLockStats(long acquired, long contended, long timedOut, long waitMicros) {
+
+        public long averageWaitMicros() {
+            long attempts = acquired + timedOut;
+            return attempts == 0 ? 0 : waitMicros / attempts;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.SeatProvisioningStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 하나의 좌석 생성 작업 진행 상황
+ * 작업 스레드가 갱신하고 조회 API 가 읽음
+ */
+public class SeatProvisioningJob {
+
+    private final Event event;
+    private volatile SeatProvisioningStatus status = SeatProvisioningStatus.QUEUED;
+    private volatile int provisionedSeats;
+    private volatile int attempts;
+    private volatile String lastError;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public SeatProvisioningJob(Event event) {
+        this.event = event;
+    }
+
+    void start() {
+        attempts++;
+        status = SeatProvisioningStatus.RUNNING;
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+    }
+
+    void progress(int provisionedSeats) {
+        this.provisionedSeats = provisionedSeats;
+    }
+
+    void complete() {
+        status = SeatProvisioningStatus.COMPLETED;
+        lastError = null;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void retrying(String error) {
+        status = SeatProvisioningStatus.RETRYING;
+        lastError = error;
+    }
+
+    void fail(String error) {
+        status = SeatProvisioningStatus.FAILED;
+        lastError = error;
+        finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * @return 작업이 끝나지 않았거나 실패해 좌석이 모두 준비되지 않았으면 true
+     */
+    public boolean isIncomplete() {
+        return status != SeatProvisioningStatus.COMPLETED;
+    }
+
+    public Event getEvent() { return event; }
+    public Long getEventId() { return event.getEventId(); }
+    public SeatProvisioningStatus getStatus() { return status; }
+    public int getTotalSeats() { return event.getTotalRows() * event.getTotalCols(); }
+    public int getProvisionedSeats() { return provisionedSeats; }
+    public int getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+}
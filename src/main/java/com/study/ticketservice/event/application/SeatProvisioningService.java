@@ -0,0 +1,229 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStorageMode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 생성(provisioning) 서비스
+ * 이벤트 생성 트랜잭션이 커밋된 후 전용 작업 스레드에서 좌석을 생성
+ *
+ * - 작업 스레드 수(workers)와 대기 큐 크기(queue-capacity)가 정해진 실행기 사용, 큐가 가득 차면 재시도로 처리
+ * - 행 단위로 나누어 batch-rows 행씩 여러 행 INSERT 로 저장하고 진행 상황을 작업별로 기록
+ * - 실패하면 retry-delay-ms × 시도 횟수 뒤에 이미 저장된 행 다음부터 다시 시도 (최대 max-attempts 회)
+ * - 서버 시작 시 좌석이 모두 생성되지 않은 DRAFT 이벤트의 좌석 생성을 이어서 수행
+ * - 끝난(COMPLETED/FAILED) 작업 기록은 job-retention-ms 가 지나면 제거 (이후 조회는 저장된 좌석 수로 판단)
+ *
+ * mode=lazy 이면 좌석을 미리 저장하지 않고 작업을 바로 완료 처리
+ * (좌석 조회는 이벤트 배치로 채우고 상태가 바뀐 좌석만 저장, SeatStorageMode 참고)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatProvisioningService {
+
+    private final SeatReader seatReader;
+    private final SeatWriter seatWriter;
+    private final EventReader eventReader;
+
+    @Value("${seat-provisioning.mode:eager}")
+    private SeatStorageMode mode;
+
+    @Value("${seat-provisioning.workers:2}")
+    private int workers;
+
+    @Value("${seat-provisioning.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${seat-provisioning.batch-rows:10}")
+    private int batchRows;
+
+    @Value("${seat-provisioning.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${seat-provisioning.retry-delay-ms:1000}")
+    private long retryDelayMs;
+
+    @Value("${seat-provisioning.job-retention-ms:3600000}")
+    private long jobRetentionMs;
+
+    // eventId -> 좌석 생성 작업 (이 서버에서 실행한 작업)
+    private final Map<Long, SeatProvisioningJob> jobs = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService retryScheduler;
+
+    @PostConstruct
+    public void start() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("seat-provisioning"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("seat-provisioning-retry"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        retryScheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 이벤트 좌석 생성 요청
+     * 트랜잭션 안에서 호출되면 커밋 이후에 작업 등록 (롤백되면 생성하지 않음)
+     * @return 좌석 생성 작업
+     */
+    public SeatProvisioningJob provision(Event event) {
+        SeatProvisioningJob job = new SeatProvisioningJob(event);
+        jobs.put(event.getEventId(), job);
+        if (mode == SeatStorageMode.LAZY) {
+            job.start();
+            job.progress(job.getTotalSeats());
+            job.complete();
+            return job;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(job);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        jobs.remove(event.getEventId(), job);
+                    }
+                }
+            });
+        } else {
+            submit(job);
+        }
+        return job;
+    }
+
+    /**
+     * @return 이 서버에서 실행한 좌석 생성 작업, 없으면 null
+     */
+    public SeatProvisioningJob getJob(Long eventId) {
+        return jobs.get(eventId);
+    }
+
+    /**
+     * @return 좌석 저장 방식
+     */
+    public SeatStorageMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 끝난 지 job-retention-ms 가 지난 작업 기록 제거
+     * 진행 중이거나 재시도 대기 중인 작업은 유지
+     */
+    @Scheduled(fixedDelayString = "${seat-provisioning.job-retention-ms:3600000}",
+               initialDelayString = "${seat-provisioning.job-retention-ms:3600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime finishedBefore = LocalDateTime.now().minus(jobRetentionMs, ChronoUnit.MILLIS);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(finishedBefore));
+    }
+
+    /**
+     * 서버 시작 시 중단된 좌석 생성 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        if (mode == SeatStorageMode.LAZY) {
+            return;
+        }
+        List<Event> events = eventReader.findDraftEventsWithMissingSeats();
+        for (Event event : events) {
+            provision(event);
+        }
+        if (!events.isEmpty()) {
+            log.info("중단된 좌석 생성 재개: {}건", events.size());
+        }
+    }
+
+    private void submit(SeatProvisioningJob job) {
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            retryOrFail(job, "좌석 생성 대기 큐가 가득 찼습니다");
+        }
+    }
+
+    private void run(SeatProvisioningJob job) {
+        Event event = job.getEvent();
+        job.start();
+        long startTime = System.currentTimeMillis();
+        try {
+            // 행 단위로 커밋하므로 이미 저장된 행 다음부터 이어서 생성
+            int provisioned = (int) seatReader.countByEventId(event.getEventId());
+            int fromRow = provisioned / event.getTotalCols() + 1;
+            job.progress(Math.min(provisioned, job.getTotalSeats()));
+
+            for (int row = fromRow; row <= event.getTotalRows(); row += batchRows) {
+                int toRow = Math.min(row + batchRows - 1, event.getTotalRows());
+                List<Seat> seats = new ArrayList<>((toRow - row + 1) * event.getTotalCols());
+                for (int r = row; r <= toRow; r++) {
+                    for (int col = 1; col <= event.getTotalCols(); col++) {
+                        seats.add(new Seat(event.getEventId(), r, col, Seat.DEFAULT_PRICE));
+                    }
+                }
+                seatWriter.insertAll(seats);
+                job.progress(toRow * event.getTotalCols());
+            }
+
+            job.complete();
+            log.info("좌석 생성 완료: eventId={}, 좌석 수={}, 소요시간: {}ms",
+                    event.getEventId(), job.getTotalSeats(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("좌석 생성 실패: eventId={}, 시도={}", event.getEventId(), job.getAttempts(), e);
+            retryOrFail(job, e.getMessage());
+        }
+    }
+
+    private void retryOrFail(SeatProvisioningJob job, String error) {
+        if (job.getAttempts() >= maxAttempts) {
+            job.fail(error);
+            log.error("좌석 생성 최종 실패: eventId={}, 시도={}", job.getEventId(), job.getAttempts());
+            return;
+        }
+        job.retrying(error);
+        long delayMs = retryDelayMs * Math.max(job.getAttempts(), 1);
+        retryScheduler.schedule(() -> submit(job), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,13 +1,18 @@
 package com.study.ticketservice.event.application;
 
 import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatBlock;
+import com.study.ticketservice.event.domain.SeatMapChanges;
 import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.event.domain.SeatView;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Seat 읽기 전용 인터페이스
  * 좌석 조회 관련 모든 읽기 작업을 담당
+ * 이벤트 좌석 조회는 DB에 저장되지 않은 위치를 이벤트 배치와 기본 가격의 AVAILABLE 좌석(좌석 ID 없음)으로 채워서 반환
  */
 public interface SeatReader {
     
@@ -33,4 +38,63 @@ public interface SeatReader {
      * @return 해당 상태의 좌석 목록 (행, 열 순으로 정렬)
      */
     List<Seat> findByEventIdAndStatus(Long eventId, SeatStatus status);
-}
\ No newline at end of file
+
+    /**
+     * 특정 이벤트의 좌석을 응답 형태로 바로 조회 (조회 전용, Seat 도메인 객체를 만들지 않음)
+     * @param eventId 이벤트 ID
+     * @param status 조회할 좌석 상태 (null이면 모든 좌석)
+     * @param view 좌석 변환 함수
+     * @return 변환된 좌석 목록 (행, 열 순으로 정렬)
+     */
+    <T> List<T> findSeatViews(Long eventId, SeatStatus status, SeatView<T> view);
+
+    /**
+     * 특정 이벤트의 좌석을 위치(행, 열)로 조회
+     * @param eventId 이벤트 ID
+     * @param row 행 번호
+     * @param col 열 번호
+     * @return Seat 도메인 객체
+     * @throws ApiException 좌석이 존재하지 않을 경우 SEAT_NOT_FOUND
+     */
+    Seat findByEventIdAndPosition(Long eventId, int row, int col);
+
+    /**
+     * 연속된 AVAILABLE 좌석 묶음 추천
+     * @param eventId 이벤트 ID
+     * @param count 연속 좌석 수
+     * @param limit 최대 추천 개수
+     * @return 선호도 순(앞 행 우선, 같은 행에서는 가운데 우선)으로 정렬된 좌석 묶음 목록
+     */
+    List<SeatBlock> findBestAvailable(Long eventId, int count, int limit);
+
+    /**
+     * 특정 버전 이후 변경된 좌석 조회
+     * @param eventId 이벤트 ID
+     * @param sinceVersion 클라이언트가 마지막으로 받은 좌석 배치도 버전
+     * @return 현재 버전과 변경된 좌석 (버전이 너무 오래되었으면 전체 좌석), 이벤트가 없으면 null
+     */
+    SeatMapChanges findChangesSince(Long eventId, long sinceVersion);
+
+    /**
+     * 특정 이벤트의 저장된 좌석 수 (DB 조회)
+     * 좌석 생성 진행 상황 확인 및 이어서 생성할 때 사용
+     * @param eventId 이벤트 ID
+     * @return 저장된 좌석 수
+     */
+    long countByEventId(Long eventId);
+
+    /**
+     * 전체 이벤트에서 특정 상태의 좌석 조회 (DB 조회)
+     * 서버 시작 시 HOLD 만료 일정 복구에 사용
+     * @param status 조회할 좌석 상태
+     * @return 해당 상태의 좌석 목록
+     */
+    List<Seat> findByStatus(SeatStatus status);
+
+    /**
+     * 만료 시간이 지난 HOLD 좌석 조회 (DB 조회)
+     * @param currentTime 현재 시간
+     * @return 만료된 HOLD 좌석 목록
+     */
+    List<Seat> findExpiredHoldSeats(LocalDateTime currentTime);
+}
@@ -0,0 +1,142 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SeatHoldStore(Redis) 기준으로 DB 좌석 상태 복구
+ * HOLD/해제/판매는 SeatHoldStore 에 먼저 반영되고 DB에는 쓰기 지연 큐로 flush-interval 만큼 늦게 반영되므로
+ * 서버가 반영 전에 종료되면 DB에서만 변경이 유실됨 (SeatHoldStore 의 상태는 유지)
+ *
+ * - 서버 시작 시와 reconcile-interval-ms 주기로 SeatHoldStore 와 좌석 상태를 비교해 다른 좌석을 DB에 다시 반영
+ * - 다른 서버에서 아직 반영 중일 수 있는 최근 변경(reconcile-quiet-ms 이내)은 건너뜀
+ * - 복구된 HOLD 는 만료 일정도 다시 등록 (DB에 없던 HOLD 는 서버 시작 시 복구되지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatStateReconciler {
+
+    private final EventReader eventReader;
+    private final SeatHoldStore seatHoldStore;
+    private final SeatReader seatReader;
+    private final SeatWriter seatWriter;
+    private final SeatLockManager seatLockManager;
+    private final SeatHoldExpiryService seatHoldExpiryService;
+    private final SeatStatistics seatStatistics;
+
+    @Value("${seat-hold.reconcile-quiet-ms:10000}")
+    private long reconcileQuietMs;
+
+    @Value("${seat-hold.expiry.lock-timeout-ms:50}")
+    private long lockTimeoutMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * 좌석 상태가 기록된 모든 이벤트의 DB 좌석 상태 복구
+     */
+    @Scheduled(fixedDelayString = "${seat-hold.reconcile-interval-ms:300000}",
+               initialDelayString = "${seat-hold.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        int repaired = 0;
+        for (Long eventId : seatHoldStore.findEventIds()) {
+            try {
+                repaired += reconcile(eventId);
+            } catch (Exception e) {
+                log.error("좌석 상태 복구 실패 (다음 주기에 재시도): eventId={}", eventId, e);
+            }
+        }
+        if (repaired > 0) {
+            log.warn("DB에 반영되지 않은 좌석 상태 복구: {}건", repaired);
+        }
+    }
+
+    /**
+     * 이벤트 하나의 DB 좌석 상태 복구
+     * @return 다시 반영한 좌석 수
+     */
+    int reconcile(Long eventId) {
+        if (!eventReader.existsById(eventId)) {
+            return 0;
+        }
+        // SeatHoldStore 또는 DB 중 한 쪽이라도 HOLD/SOLD 인 좌석만 비교
+        Set<SeatPosition> candidates = new LinkedHashSet<>();
+        for (HeldSeat held : seatHoldStore.findHeldSeats(eventId)) {
+            candidates.add(held.position());
+        }
+        for (SeatStatus status : List.of(SeatStatus.HOLD, SeatStatus.SOLD)) {
+            for (Seat seat : seatReader.findByEventIdAndStatus(eventId, status)) {
+                candidates.add(new SeatPosition(seat.getRow(), seat.getCol()));
+            }
+        }
+
+        LocalDateTime quietBefore = LocalDateTime.now().minus(reconcileQuietMs, ChronoUnit.MILLIS);
+        int repaired = 0;
+        for (SeatPosition position : candidates) {
+            if (repair(eventId, position, quietBefore)) {
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    private boolean repair(Long eventId, SeatPosition position, LocalDateTime quietBefore) {
+        SeatLockManager.SeatLocks locks = seatLockManager.tryLock(eventId, List.of(position),
+                lockTimeoutMs, TimeUnit.MILLISECONDS);
+        if (locks == null) {
+            // 사용자 요청이 처리 중인 좌석은 그 요청이 반영
+            return false;
+        }
+        try {
+            Seat seat = seatReader.findByEventIdAndPosition(eventId, position.row(), position.col());
+            if (seat.getSeatId() != null && seat.getUpdatedAt().isAfter(quietBefore)) {
+                return false;
+            }
+            HeldSeat held = seatHoldStore.findHeldSeat(eventId, position);
+            SeatStatus status = held == null ? SeatStatus.AVAILABLE : held.status();
+            LocalDateTime holdExpiresAt = held == null ? null : held.holdExpiresAt();
+            if (seat.getStatus() == status && Objects.equals(truncate(seat.getHoldExpiresAt()), truncate(holdExpiresAt))) {
+                return false;
+            }
+
+            SeatStatus expectedStatus = seat.getStatus();
+            seat.changeStatus(status, holdExpiresAt, LocalDateTime.now());
+            seatWriter.updateStatusAsync(List.of(seat), expectedStatus);
+            seatStatistics.record(eventId, expectedStatus, status, 1);
+            if (status == SeatStatus.HOLD) {
+                seatHoldExpiryService.schedule(eventId, position, holdExpiresAt);
+            } else if (expectedStatus == SeatStatus.HOLD) {
+                seatHoldExpiryService.cancel(eventId, position);
+            }
+            log.debug("좌석 상태 복구: eventId={}, seat={}, {} -> {}", eventId, seat.getSeatNumber(), expectedStatus, status);
+            return true;
+        } finally {
+            locks.close();
+        }
+    }
+
+    // SeatHoldStore 는 만료 시각을 ms 단위로 기록
+    private static LocalDateTime truncate(LocalDateTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.MILLIS);
+    }
+}
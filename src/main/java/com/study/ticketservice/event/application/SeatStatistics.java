@@ -0,0 +1,37 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.event.domain.SeatStatusCounts;
+
+import java.util.Map;
+
+/**
+ * 이벤트별 좌석 상태 개수 (AVAILABLE/HOLD/SOLD)
+ * 좌석 상태 전이마다 증감하고 목록/상세 조회에서 COUNT 쿼리 없이 사용
+ */
+public interface SeatStatistics {
+
+    /**
+     * 좌석 상태 전이 반영
+     * @param eventId 이벤트 ID
+     * @param from 이전 상태
+     * @param to 이후 상태
+     * @param count 전이한 좌석 수
+     */
+    void record(Long eventId, SeatStatus from, SeatStatus to, int count);
+
+    /**
+     * 이벤트 좌석 상태 개수 조회
+     * @param eventId 이벤트 ID
+     * @param capacity 이벤트 전체 좌석 수 (행 × 열)
+     * @return 좌석 상태별 개수
+     */
+    SeatStatusCounts getCounts(Long eventId, int capacity);
+
+    /**
+     * 여러 이벤트의 좌석 상태 개수 조회 (메모리에 없는 이벤트는 한 번에 조회)
+     * @param capacities 이벤트 ID -> 전체 좌석 수
+     * @return 이벤트 ID -> 좌석 상태별 개수
+     */
+    Map<Long, SeatStatusCounts> getCounts(Map<Long, Integer> capacities);
+}
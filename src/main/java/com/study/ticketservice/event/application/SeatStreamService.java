@@ -0,0 +1,275 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.event.application.dto.response.SeatMapChangesResponse;
+import com.study.ticketservice.event.domain.EventErrorCode;
+import com.study.ticketservice.event.domain.SeatMapChanges;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 상태 실시간 스트림(Server-Sent Events) 서비스
+ *
+ * - 이벤트마다 변경 피드 하나(가상 스레드)가 interval-ms 마다 좌석 배치도의 변경분을 조회해 모든 구독자에게 전달
+ *   구독자 수와 관계없이 변경분 조회는 이벤트당 한 번
+ * - 구독자마다 크기가 정해진 버퍼와 전송 전용 가상 스레드를 두어 느린 클라이언트가 다른 구독자를 막지 않음
+ * - 버퍼가 가득 차면 쌓인 변경분을 버리고 전체 좌석으로 다시 동기화 (snapshot = true)
+ * - 구독 시 전체 좌석(재연결 시 Last-Event-ID 이후 변경분)을 먼저 보내고, 이벤트 id 는 좌석 배치도 버전
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatStreamService {
+
+    private static final String EVENT_NAME = "seats";
+
+    private final SeatReader seatReader;
+
+    @Value("${seat-stream.interval-ms:200}")
+    private long intervalMs;
+
+    @Value("${seat-stream.buffer-size:16}")
+    private int bufferSize;
+
+    @Value("${seat-stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${seat-stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    // eventId -> 변경 피드
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+
+    /**
+     * 좌석 상태 스트림 구독
+     * @param eventId 이벤트 ID
+     * @param lastEventId 재연결 시 마지막으로 받은 좌석 배치도 버전 (없으면 null)
+     * @throws ApiException 이벤트가 없으면 EVENT_NOT_FOUND
+     */
+    public SseEmitter subscribe(Long eventId, Long lastEventId) {
+        return subscribe(eventId, lastEventId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long eventId, Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        while (!join(eventId, lastEventId, subscriber)) {
+            // 마지막 구독자가 나가며 종료된 피드, 새 피드로 다시 시도
+            Thread.onSpinWait();
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        subscriber.thread = Thread.ofVirtual().name("seat-stream-" + eventId).start(subscriber::run);
+        return emitter;
+    }
+
+    /**
+     * 처음 보낼 좌석 조회와 피드 등록을 피드 잠금 안에서 함께 수행
+     * publish 도 같은 잠금을 쓰므로 조회한 뒤 등록하기 전에 발행된 변경분을 놓치지 않음
+     * (피드 잠금은 feeds 의 잠금 밖에서 잡아 좌석 배치도 적재 중에도 다른 이벤트의 구독/해지를 막지 않음)
+     * @return 종료된 피드라 등록하지 못했으면 false
+     * @throws ApiException 이벤트가 없으면 EVENT_NOT_FOUND
+     */
+    private boolean join(Long eventId, Long lastEventId, Subscriber subscriber) {
+        Feed feed = feeds.computeIfAbsent(eventId, Feed::new);
+        synchronized (feed) {
+            if (feed.stopped) {
+                return false;
+            }
+            SeatMapChanges initial = seatReader.findChangesSince(eventId, lastEventId == null ? 0 : lastEventId);
+            if (initial != null) {
+                subscriber.offer(SeatMapChangesResponse.of(eventId, initial));
+                feed.subscribers.add(subscriber);
+                if (feed.thread == null) {
+                    feed.version = initial.version();
+                    feed.thread = Thread.ofVirtual().name("seat-stream-feed-" + eventId).start(feed::run);
+                }
+                return true;
+            }
+            if (!feed.subscribers.isEmpty()) {
+                throw new ApiException(EventErrorCode.EVENT_NOT_FOUND);
+            }
+            // 이 구독을 위해 만든 빈 피드는 잠금을 놓은 뒤 제거
+            feed.stopped = true;
+        }
+        feeds.remove(eventId, feed);
+        throw new ApiException(EventErrorCode.EVENT_NOT_FOUND);
+    }
+
+    /**
+     * @return 이벤트의 구독자 수
+     */
+    public int subscriberCount(Long eventId) {
+        Feed feed = feeds.get(eventId);
+        return feed == null ? 0 : feed.subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Feed feed : feeds.values()) {
+            for (Subscriber subscriber : feed.subscribers) {
+                subscriber.emitter.complete();
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        subscriber.closed = true;
+        if (subscriber.thread != null && subscriber.thread != Thread.currentThread()) {
+            subscriber.thread.interrupt();
+        }
+        // 마지막 구독자가 나가면 피드 종료
+        feeds.computeIfPresent(subscriber.eventId, (id, feed) -> {
+            synchronized (feed) {
+                feed.subscribers.remove(subscriber);
+                if (!feed.subscribers.isEmpty()) {
+                    return feed;
+                }
+                feed.stopped = true;
+                if (feed.thread != null) {
+                    feed.thread.interrupt();
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 이벤트 하나의 변경 피드
+     * 구독자 등록, 변경분 발행, 종료는 피드 객체 잠금으로 직렬화
+     */
+    private final class Feed {
+
+        private final Long eventId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private long version;
+        private volatile boolean stopped;
+        private Thread thread;
+
+        private Feed(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        private void run() {
+            while (!stopped) {
+                try {
+                    Thread.sleep(intervalMs);
+                    publish();
+                } catch (InterruptedException e) {
+                    return;
+                } catch (Exception e) {
+                    log.error("좌석 스트림 변경분 조회 실패: eventId={}", eventId, e);
+                }
+            }
+        }
+
+        /**
+         * 구독 등록(join)과 같은 잠금에서 변경분을 조회해 전달
+         * 삭제된 이벤트의 연결 종료는 잠금 밖에서 수행 (종료 콜백이 feeds 를 변경)
+         */
+        private void publish() {
+            List<Subscriber> deleted;
+            synchronized (this) {
+                SeatMapChanges changes = seatReader.findChangesSince(eventId, version);
+                if (changes != null) {
+                    if (changes.snapshot() || !changes.seats().isEmpty()) {
+                        version = changes.version();
+                        SeatMapChangesResponse response = SeatMapChangesResponse.of(eventId, changes);
+                        for (Subscriber subscriber : subscribers) {
+                            subscriber.offer(response);
+                        }
+                    }
+                    return;
+                }
+                deleted = List.copyOf(subscribers);
+            }
+            // 삭제된 이벤트
+            deleted.forEach(subscriber -> subscriber.emitter.complete());
+        }
+    }
+
+    /**
+     * 구독자 하나 (버퍼 + 전송 스레드)
+     */
+    private final class Subscriber {
+
+        private final Long eventId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SeatMapChangesResponse> buffer;
+        private volatile boolean resync;
+        private volatile boolean closed;
+        private long lastSentVersion = -1;
+        private Thread thread;
+
+        private Subscriber(Long eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(SeatMapChangesResponse response) {
+            if (!buffer.offer(response)) {
+                // 전송이 밀린 구독자는 쌓인 변경분 대신 전체 좌석으로 다시 동기화
+                resync = true;
+                buffer.clear();
+            }
+        }
+
+        private void run() {
+            try {
+                while (!closed) {
+                    if (resync) {
+                        resync = false;
+                        buffer.clear();
+                        SeatMapChanges snapshot = seatReader.findChangesSince(eventId, 0);
+                        if (snapshot == null) {
+                            emitter.complete();
+                            return;
+                        }
+                        send(SeatMapChangesResponse.of(eventId, snapshot));
+                        continue;
+                    }
+                    SeatMapChangesResponse next = buffer.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else if (next.snapshot() || next.version() > lastSentVersion) {
+                        // 구독 직후 먼저 보낸 좌석보다 오래된 변경분은 건너뜀
+                        send(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("좌석 스트림 연결 종료: eventId={}", eventId);
+            } finally {
+                unsubscribe(this);
+            }
+        }
+
+        private void send(SeatMapChangesResponse response) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(response.version()))
+                    .name(EVENT_NAME)
+                    .data(response));
+            lastSentVersion = response.version();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.Seat;
+
+/**
+ * 조건부 좌석 상태 전이 결과
+ * @param success 성공 여부
+ * @param conflict 실패 시 다른 요청이 먼저 변경한 좌석 (성공 시 null)
+ */
+public record SeatTransitionResult(boolean success, Seat conflict) {
+
+    public static SeatTransitionResult succeeded() {
+        return new SeatTransitionResult(true, null);
+    }
+
+    public static SeatTransitionResult conflicted(Seat conflict) {
+        return new SeatTransitionResult(false, conflict);
+    }
+}
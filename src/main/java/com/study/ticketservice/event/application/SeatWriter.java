@@ -1,6 +1,7 @@
 package com.study.ticketservice.event.application;
 
 import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStatus;
 
 import java.util.List;
 
@@ -24,4 +25,34 @@ public interface SeatWriter {
      * @return 저장된 Seat 객체 리스트 (ID가 할당된 상태)
      */
     List<Seat> saveAll(List<Seat> seats);
-}
\ No newline at end of file
+
+    /**
+     * 좌석 상태 변경 (상태, HOLD 만료 시간)
+     * 좌석 조회에는 즉시 반영하고 DB에는 읽은 시점의 상태와 버전이 그대로인 경우에만 비동기로 반영
+     * 각 좌석의 버전은 1 증가됨
+     * @param seats 상태가 변경된 Seat 객체 리스트 (읽은 시점의 버전 포함)
+     * @param expectedStatus 읽은 시점의 좌석 상태
+     */
+    void updateStatusAsync(List<Seat> seats, SeatStatus expectedStatus);
+
+    /**
+     * 조건부 좌석 상태 전이 (낙관적 동시성 제어, DB에 즉시 반영)
+     * 각 좌석은 변경할 상태와 읽은 시점의 버전을 담고 있어야 함
+     * 상태와 버전이 읽은 시점 그대로인 경우에만 모두 변경하고, 하나라도 다르면 아무것도 변경하지 않음
+     * 충돌은 예외 대신 결과로 반환
+     * @param seats 상태가 변경된 Seat 객체 리스트
+     * @param expectedStatus 읽은 시점의 좌석 상태
+     * @return 전이 결과 (실패 시 충돌한 좌석 포함)
+     */
+    SeatTransitionResult transition(List<Seat> seats, SeatStatus expectedStatus);
+
+    /**
+     * 좌석 대량 생성
+     * 여러 행을 담은 INSERT 문으로 저장하며 이미 있는 위치(이벤트, 행, 열)의 좌석은 건너뜀
+     * 생성된 좌석 ID 는 반환하지 않으므로 좌석 배치도는 다음 조회 시 DB에서 다시 적재
+     *
+     * @param seats 생성할 Seat 객체 리스트
+     * @return 새로 저장된 좌석 수
+     */
+    int insertAll(List<Seat> seats);
+}
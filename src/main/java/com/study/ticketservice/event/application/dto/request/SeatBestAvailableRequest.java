@@ -0,0 +1,11 @@
+package com.study.ticketservice.event.application.dto.request;
+
+/**
+ * 추천 연속 좌석 HOLD 요청 DTO
+ * @param count 연속 좌석 수
+ */
+public record SeatBestAvailableRequest(
+    int count
+) {
+
+}
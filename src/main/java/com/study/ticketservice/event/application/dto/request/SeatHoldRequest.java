@@ -0,0 +1,32 @@
+package com.study.ticketservice.event.application.dto.request;
+
+import com.study.ticketservice.event.domain.SeatPosition;
+
+import java.util.List;
+
+/**
+ * 좌석 HOLD/해제/판매 요청 DTO
+ * 한 이벤트의 여러 좌석을 한 번에 처리 (모두 성공하거나 모두 실패)
+ */
+public record SeatHoldRequest(
+    List<Position> seats
+) {
+
+    /**
+     * 처리할 좌석 위치
+     */
+    public record Position(int row, int col) {
+    }
+
+    /**
+     * @return 좌석 위치 목록 (요청 순서 유지)
+     */
+    public List<SeatPosition> toPositions() {
+        if (seats == null) {
+            return List.of();
+        }
+        return seats.stream()
+                .map(seat -> new SeatPosition(seat.row(), seat.col()))
+                .toList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.study.ticketservice.event.application.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서 기반 이벤트 목록 응답 DTO
+ * 클라이언트는 nextCursor 를 다음 조회 시 cursor 로 전달
+ * @param items 이벤트 목록 (생성 시간, 이벤트 ID 내림차순)
+ * @param nextCursor 다음 페이지 커서, 마지막 페이지면 null
+ */
+public record EventCursorPageResponse(
+    List<EventListResponse> items,
+    String nextCursor
+) {
+    /**
+     * @return 다음 페이지가 있으면 true
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -2,6 +2,7 @@ package com.study.ticketservice.event.application.dto.response;
 
 import com.study.ticketservice.event.domain.Event;
 import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.event.domain.SeatStatusCounts;
 
 import java.time.LocalDateTime;
 
@@ -22,8 +23,17 @@ public record EventDetailResponse(
     int reservedSeats,
     long paidAmount,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    SeatStatusCounts seatCounts
 ) {
+    public EventDetailResponse(Long eventId, String title, String description, EventStatus status,
+                               LocalDateTime startsAt, LocalDateTime endsAt, int totalRows, int totalCols,
+                               int totalSeats, int reservedSeats, long paidAmount,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(eventId, title, description, status, startsAt, endsAt, totalRows, totalCols, totalSeats,
+                reservedSeats, paidAmount, createdAt, updatedAt, null);
+    }
+
     /**
      * @param event 변환할 Event 도메인 객체
      * @return EventDetailResponse DTO
@@ -45,4 +55,13 @@ public record EventDetailResponse(
             event.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * @param counts 좌석 상태별 개수
+     * @return 좌석 상태별 개수를 포함한 응답
+     */
+    public EventDetailResponse withSeatCounts(SeatStatusCounts counts) {
+        return new EventDetailResponse(eventId, title, description, status, startsAt, endsAt, totalRows, totalCols,
+                totalSeats, reservedSeats, paidAmount, createdAt, updatedAt, counts);
+    }
+}
@@ -1,7 +1,7 @@
 package com.study.ticketservice.event.application.dto.response;
 
-import com.study.ticketservice.event.domain.Event;
 import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.event.domain.SeatStatusCounts;
 
 import java.time.LocalDateTime;
 
@@ -16,29 +16,28 @@ public record EventListResponse(
     LocalDateTime startsAt,
     LocalDateTime endsAt,
     int totalSeats,
-    int reservedSeats
+    int reservedSeats,
+    LocalDateTime createdAt,
+    SeatStatusCounts seatCounts
 ) {
+    public EventListResponse(Long eventId, String title, EventStatus status, LocalDateTime startsAt,
+                             LocalDateTime endsAt, int totalSeats, int reservedSeats, LocalDateTime createdAt) {
+        this(eventId, title, status, startsAt, endsAt, totalSeats, reservedSeats, createdAt, null);
+    }
+    
     /**
-     * @param event 변환할 Event 도메인 객체
-     * @return EventListResponse DTO
+     * @param counts 좌석 상태별 개수
+     * @return 좌석 상태별 개수를 포함한 응답
      */
-    public static EventListResponse from(Event event) {
-        return new EventListResponse(
-            event.getEventId(),
-            event.getTitle(),
-            event.getStatus(),
-            event.getStartsAt(),
-            event.getEndsAt(),
-            event.getTotalSeats(),
-            event.getReservedSeats()
-        );
+    public EventListResponse withSeatCounts(SeatStatusCounts counts) {
+        return new EventListResponse(eventId, title, status, startsAt, endsAt, totalSeats, reservedSeats, createdAt, counts);
     }
-    
+
     /**
-     * @return 예약 가능한 좌석 수 (총 좌석 - 예약된 좌석)
+     * @return 예약 가능한 좌석 수 (좌석 상태별 개수가 있으면 AVAILABLE 좌석 수, 없으면 총 좌석 - 예약된 좌석)
      */
     public int getAvailableSeats() {
-        return totalSeats - reservedSeats;
+        return seatCounts != null ? seatCounts.available() : totalSeats - reservedSeats;
     }
     
 }
\ No newline at end of file
@@ -33,4 +33,12 @@ public record SeatDetailResponse(
             seat.getStatus()
         );
     }
+
+    /**
+     * 좌석 배치도 값으로 바로 생성 (SeatView)
+     * @return SeatDetailResponse DTO
+     */
+    public static SeatDetailResponse of(int row, int col, int price, SeatStatus status) {
+        return new SeatDetailResponse(row, col, Seat.seatNumberOf(row, col), price, status);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.study.ticketservice.event.application.dto.response;
+
+import com.study.ticketservice.event.domain.Seat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좌석 HOLD 결과 응답 DTO
+ */
+public record SeatHoldResponse(
+    Long eventId,
+    List<SeatDetailResponse> seats,
+    LocalDateTime holdExpiresAt
+) {
+    /**
+     * @param eventId 이벤트 ID
+     * @param seats HOLD 된 좌석 목록
+     * @param holdExpiresAt HOLD 만료 시간
+     * @return SeatHoldResponse DTO
+     */
+    public static SeatHoldResponse of(Long eventId, List<Seat> seats, LocalDateTime holdExpiresAt) {
+        return new SeatHoldResponse(
+            eventId,
+            seats.stream().map(SeatDetailResponse::from).toList(),
+            holdExpiresAt
+        );
+    }
+}
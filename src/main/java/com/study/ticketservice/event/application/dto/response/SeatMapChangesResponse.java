@@ -0,0 +1,30 @@
+package com.study.ticketservice.event.application.dto.response;
+
+import com.study.ticketservice.event.domain.SeatMapChanges;
+
+import java.util.List;
+
+/**
+ * 좌석 배치도 변경분 응답 DTO
+ * 클라이언트는 version 을 보관했다가 다음 조회 시 sinceVersion 으로 전달
+ */
+public record SeatMapChangesResponse(
+    Long eventId,
+    long version,
+    boolean snapshot,
+    List<SeatDetailResponse> seats
+) {
+    /**
+     * @param eventId 이벤트 ID
+     * @param changes 좌석 배치도 변경 내역
+     * @return SeatMapChangesResponse DTO
+     */
+    public static SeatMapChangesResponse of(Long eventId, SeatMapChanges changes) {
+        return new SeatMapChangesResponse(
+            eventId,
+            changes.version(),
+            changes.snapshot(),
+            changes.seats().stream().map(SeatDetailResponse::from).toList()
+        );
+    }
+}
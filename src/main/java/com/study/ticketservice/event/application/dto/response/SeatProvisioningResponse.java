@@ -0,0 +1,53 @@
+package com.study.ticketservice.event.application.dto.response;
+
+import com.study.ticketservice.event.application.SeatProvisioningJob;
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.SeatProvisioningStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 생성 작업 상태 응답 DTO
+ */
+public record SeatProvisioningResponse(
+    Long eventId,
+    SeatProvisioningStatus status,
+    int totalSeats,
+    int provisionedSeats,
+    int attempts,
+    String lastError,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+    /**
+     * @param job 이 서버에서 실행한 좌석 생성 작업
+     * @return SeatProvisioningResponse DTO
+     */
+    public static SeatProvisioningResponse from(SeatProvisioningJob job) {
+        return new SeatProvisioningResponse(
+            job.getEventId(),
+            job.getStatus(),
+            job.getTotalSeats(),
+            job.getProvisionedSeats(),
+            job.getAttempts(),
+            job.getLastError(),
+            job.getStartedAt(),
+            job.getFinishedAt()
+        );
+    }
+
+    /**
+     * 작업 기록이 없을 때 저장된 좌석 수로 상태 계산
+     * @param event 이벤트
+     * @param provisionedSeats DB에 저장된 좌석 수
+     * @return SeatProvisioningResponse DTO (모두 저장되었으면 COMPLETED, 아니면 INCOMPLETE)
+     */
+    public static SeatProvisioningResponse of(Event event, long provisionedSeats) {
+        int totalSeats = event.getTotalRows() * event.getTotalCols();
+        SeatProvisioningStatus status = provisionedSeats >= totalSeats
+                ? SeatProvisioningStatus.COMPLETED
+                : SeatProvisioningStatus.INCOMPLETE;
+        return new SeatProvisioningResponse(event.getEventId(), status, totalSeats, (int) provisionedSeats,
+                0, null, null, null);
+    }
+}
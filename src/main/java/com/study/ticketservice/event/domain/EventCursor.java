@@ -0,0 +1,45 @@
+package com.study.ticketservice.event.domain;
+
+import com.study.ticketservice.common.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 이벤트 목록 커서 (생성 시간, 이벤트 ID)
+ * 목록은 생성 시간, 이벤트 ID 내림차순이므로 마지막으로 받은 이벤트의 두 값 다음부터 조회
+ * 클라이언트에는 내용을 알 수 없는 문자열(Base64 URL)로 전달
+ */
+public record EventCursor(LocalDateTime createdAt, Long eventId) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return 클라이언트에 전달할 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + eventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param value 커서 문자열
+     * @return 커서, 비어 있으면 null (첫 페이지)
+     * @throws ApiException 형식이 잘못된 커서면 INVALID_PARAMETER
+     */
+    public static EventCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new EventCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ApiException(EventErrorCode.INVALID_PARAMETER, "잘못된 커서입니다");
+        }
+    }
+}
@@ -19,7 +19,8 @@ public enum EventErrorCode implements ErrorCode {
     SEAT_NOT_AVAILABLE(400, "예약 가능한 좌석이 아닙니다"),
     INVALID_SEAT_STATUS(400, "잘못된 좌석 상태입니다"),
     INVALID_SEAT_NUMBER(400, "잘못된 좌석 번호입니다"),
-    INVALID_PARAMETER(400, "잘못된 파라미터입니다");
+    INVALID_PARAMETER(400, "잘못된 파라미터입니다"),
+    SEAT_BUSY(409, "요청이 몰린 좌석입니다. 잠시 후 다시 시도해주세요");
 
     private final int code;
     private final String message;
@@ -0,0 +1,292 @@
+package com.study.ticketservice.event.domain;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 제목/설명 검색용 n-gram 역색인 (인메모리)
+ * 제목과 설명을 정규화(NFKC, 소문자)한 뒤 글자/숫자가 아닌 문자로 나눈 단어를 2글자씩(bigram) 잘라 색인
+ * 1글자 단어는 그 글자 자체를 색인
+ *
+ * - 이벤트마다 문서 번호(doc)를 새로 발급하고 gram 별 문서 번호 목록(posting)에 오름차순으로 추가
+ * - 변경된 이벤트는 새 문서로 다시 색인하고 이전 문서는 삭제 표시 (삭제 표시가 많아지면 다시 생성 필요)
+ * - 검색은 검색어의 모든 gram 을 제목이나 설명에 포함한 이벤트를 찾아
+ *   제목에 검색어가 그대로 포함될수록, 제목에 포함된 gram 이 많을수록 앞에 정렬 (같으면 최근 생성 순)
+ *
+ * 스레드 안전 (색인 변경은 쓰기 잠금, 검색은 읽기 잠금)
+ */
+public class EventSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, Postings> titlePostings = new HashMap<>();
+    private final Map<String, Postings> descriptionPostings = new HashMap<>();
+    private final Map<Long, Integer> docOfEvent = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    // 문서 번호별 속성
+    private long[] eventIds = new long[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private LocalDateTime[] createdAt = new LocalDateTime[INITIAL_CAPACITY];
+    private LocalDateTime[] updatedAt = new LocalDateTime[INITIAL_CAPACITY];
+    private int docCount;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 이벤트 색인 (추가 및 변경)
+     * 이미 색인된 이벤트보다 수정 시간이 같거나 이전이면 무시
+     * @return 색인했으면 true
+     */
+    public boolean put(Long eventId, String title, String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = docOfEvent.get(eventId);
+            if (previous != null) {
+                LocalDateTime indexedAt = this.updatedAt[previous];
+                if (indexedAt != null && (updatedAt == null || !updatedAt.isAfter(indexedAt))) {
+                    return false;
+                }
+                deleted.set(previous);
+            }
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            String normalizedTitle = normalize(title);
+            eventIds[doc] = eventId;
+            titles[doc] = normalizedTitle;
+            this.createdAt[doc] = createdAt;
+            this.updatedAt[doc] = updatedAt;
+            for (String gram : grams(normalizedTitle)) {
+                titlePostings.computeIfAbsent(gram, g -> new Postings()).add(doc);
+            }
+            for (String gram : grams(normalize(description))) {
+                descriptionPostings.computeIfAbsent(gram, g -> new Postings()).add(doc);
+            }
+            docOfEvent.put(eventId, doc);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이벤트 색인 제거
+     */
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docOfEvent.remove(eventId);
+            if (doc != null) {
+                deleted.set(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     * @param keyword 검색어 (공백 등으로 나뉜 단어는 모두 포함해야 함)
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     * @return 순위 순으로 정렬된 이벤트 ID 와 전체 결과 수
+     */
+    public EventSearchResult search(String keyword, long offset, int limit) {
+        String query = normalize(keyword);
+        Set<String> grams = grams(query);
+        if (grams.isEmpty()) {
+            return new EventSearchResult(List.of(), 0);
+        }
+        String phrase = SEPARATOR.matcher(query).replaceAll(" ").trim();
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = null;
+            for (String gram : grams) {
+                BitSet docs = docsContaining(gram);
+                if (candidates == null) {
+                    candidates = docs;
+                } else {
+                    candidates.and(docs);
+                }
+                if (candidates.isEmpty()) {
+                    return new EventSearchResult(List.of(), 0);
+                }
+            }
+            candidates.andNot(deleted);
+
+            List<Hit> hits = new ArrayList<>(candidates.cardinality());
+            for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+                hits.add(new Hit(doc, score(doc, grams, phrase)));
+            }
+            hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                    .thenComparing(hit -> createdAt[hit.doc()], Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(hit -> eventIds[hit.doc()], Comparator.reverseOrder()));
+
+            int from = (int) Math.min(offset, hits.size());
+            int to = (int) Math.min((long) from + limit, hits.size());
+            List<Long> page = hits.subList(from, to).stream()
+                    .map(hit -> eventIds[hit.doc()])
+                    .toList();
+            return new EventSearchResult(page, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 색인된 이벤트 ID (복사본)
+     */
+    public Set<Long> eventIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docOfEvent.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 색인된 이벤트 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docOfEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 삭제 표시된 문서가 살아있는 문서보다 많으면 true (다시 생성 필요)
+     */
+    public boolean needsRebuild() {
+        lock.readLock().lock();
+        try {
+            return deleted.cardinality() > Math.max(docOfEvent.size(), INITIAL_CAPACITY);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 제목에 검색어가 그대로 있으면 가장 높고, 그 다음은 제목에 포함된 gram 수
+    private int score(int doc, Set<String> grams, String phrase) {
+        String title = titles[doc];
+        int score = 0;
+        for (String gram : grams) {
+            if (title.contains(gram)) {
+                score += 2;
+            }
+        }
+        if (!phrase.isEmpty() && title.contains(phrase)) {
+            score += 3 * grams.size();
+            if (title.startsWith(phrase)) {
+                score += 1;
+            }
+        }
+        return score;
+    }
+
+    // gram 을 제목이나 설명에 포함한 문서, 1글자 gram 은 그 글자를 포함한 모든 gram 의 문서
+    private BitSet docsContaining(String gram) {
+        BitSet docs = new BitSet(docCount);
+        if (gram.length() >= GRAM_SIZE) {
+            addAll(docs, titlePostings.get(gram));
+            addAll(docs, descriptionPostings.get(gram));
+            return docs;
+        }
+        titlePostings.forEach((key, postings) -> {
+            if (key.contains(gram)) {
+                addAll(docs, postings);
+            }
+        });
+        descriptionPostings.forEach((key, postings) -> {
+            if (key.contains(gram)) {
+                addAll(docs, postings);
+            }
+        });
+        return docs;
+    }
+
+    private static void addAll(BitSet docs, Postings postings) {
+        if (postings == null) {
+            return;
+        }
+        for (int i = 0; i < postings.size; i++) {
+            docs.set(postings.docs[i]);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= eventIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, eventIds.length * 2);
+        eventIds = Arrays.copyOf(eventIds, newCapacity);
+        titles = Arrays.copyOf(titles, newCapacity);
+        createdAt = Arrays.copyOf(createdAt, newCapacity);
+        updatedAt = Arrays.copyOf(updatedAt, newCapacity);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : SEPARATOR.split(normalized)) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (token.length() < GRAM_SIZE) {
+                grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+                grams.add(token.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 오름차순 문서 번호 목록 (문서 번호는 증가하는 순서로만 추가됨)
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+
+    private record Hit(int doc, int score) {
+    }
+}
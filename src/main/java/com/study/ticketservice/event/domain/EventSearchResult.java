@@ -0,0 +1,11 @@
+package com.study.ticketservice.event.domain;
+
+import java.util.List;
+
+/**
+ * 이벤트 검색 결과
+ * @param eventIds 순위 순으로 정렬된 현재 페이지의 이벤트 ID
+ * @param total 전체 결과 수
+ */
+public record EventSearchResult(List<Long> eventIds, long total) {
+}
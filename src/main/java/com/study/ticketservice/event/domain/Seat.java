@@ -9,6 +9,12 @@ import java.time.LocalDateTime;
  * Event 애그리게이트에 속하는 엔티티
  */
 public class Seat {
+
+    /**
+     * 이벤트 생성 시 좌석 기본 가격
+     */
+    public static final int DEFAULT_PRICE = 10000;
+
     // 좌석 기본 정보
     private Long seatId;
     private Long eventId;
@@ -22,6 +28,9 @@ public class Seat {
     
     // 임시 선점 관련
     private LocalDateTime holdExpiresAt;
+
+    // 낙관적 동시성 제어용 버전 (조건부 상태 전이에 사용)
+    private long version;
     
     // 생성/수정 시간
     private LocalDateTime createdAt;
@@ -37,7 +46,7 @@ public class Seat {
         this.eventId = eventId;
         this.row = row;
         this.col = col;
-        this.seatNumber = generateSeatNumber(row, col); 
+        this.seatNumber = seatNumberOf(row, col);
         this.price = price;
         this.status = SeatStatus.AVAILABLE;
         this.holdExpiresAt = null;
@@ -87,6 +96,23 @@ public class Seat {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 외부 저장소(Redis 등)에서 이미 검증된 상태 전이를 반영
+     * 상태 검증은 상태 전이를 원자적으로 처리한 저장소에서 수행됨
+     */
+    public void changeStatus(SeatStatus status, LocalDateTime holdExpiresAt) {
+        changeStatus(status, holdExpiresAt, LocalDateTime.now());
+    }
+
+    /**
+     * 여러 좌석을 한 번에 변경할 때 같은 변경 시각을 사용하도록 지정
+     */
+    public void changeStatus(SeatStatus status, LocalDateTime holdExpiresAt, LocalDateTime changedAt) {
+        this.status = status;
+        this.holdExpiresAt = status == SeatStatus.HOLD ? holdExpiresAt : null;
+        this.updatedAt = changedAt;
+    }
+
     /**
      *만료된 HOLD를 정리할 때 사용
      */
@@ -99,7 +125,7 @@ public class Seat {
     /**
      * 행과 열 번호를 기반으로 A1, B2 형태의 좌석 번호 생성
      */
-    private String generateSeatNumber(int row, int col) {
+    public static String seatNumberOf(int row, int col) {
         char rowChar = (char) ('A' + row - 1);
         return rowChar + String.valueOf(col);
     }
@@ -128,6 +154,9 @@ public class Seat {
     public LocalDateTime getHoldExpiresAt() { return holdExpiresAt; }
     public void setHoldExpiresAt(LocalDateTime holdExpiresAt) { this.holdExpiresAt = holdExpiresAt; }
     
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
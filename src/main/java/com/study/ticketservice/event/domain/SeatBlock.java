@@ -0,0 +1,24 @@
+package com.study.ticketservice.event.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 행에서 연속된 좌석 묶음
+ * @param row 행 번호
+ * @param startCol 시작 열 번호
+ * @param count 좌석 수
+ */
+public record SeatBlock(int row, int startCol, int count) {
+
+    /**
+     * @return 묶음에 속한 좌석 위치 목록 (열 순)
+     */
+    public List<SeatPosition> positions() {
+        List<SeatPosition> positions = new ArrayList<>(count);
+        for (int col = startCol; col < startCol + count; col++) {
+            positions.add(new SeatPosition(row, col));
+        }
+        return positions;
+    }
+}
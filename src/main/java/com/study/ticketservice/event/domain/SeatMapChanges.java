@@ -0,0 +1,12 @@
+package com.study.ticketservice.event.domain;
+
+import java.util.List;
+
+/**
+ * 좌석 배치도 변경 내역
+ * @param version 현재 좌석 배치도 버전
+ * @param snapshot true 면 변경분이 아닌 전체 좌석 (요청한 버전이 너무 오래되었거나 다른 배치도의 버전)
+ * @param seats 요청한 버전 이후 변경된 좌석 (snapshot 이면 전체 좌석, 행/열 순 정렬)
+ */
+public record SeatMapChanges(long version, boolean snapshot, List<Seat> seats) {
+}
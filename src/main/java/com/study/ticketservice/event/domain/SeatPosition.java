@@ -0,0 +1,15 @@
+package com.study.ticketservice.event.domain;
+
+/**
+ * 좌석 위치 (행, 열)
+ * 좌석 ID 대신 배치도 좌표로 좌석을 지정할 때 사용
+ */
+public record SeatPosition(int row, int col) {
+
+    /**
+     * @return A1, B2 형태의 좌석 번호
+     */
+    public String seatNumber() {
+        return Seat.seatNumberOf(row, col);
+    }
+}
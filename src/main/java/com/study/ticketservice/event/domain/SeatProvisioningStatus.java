@@ -0,0 +1,37 @@
+package com.study.ticketservice.event.domain;
+
+/**
+ * 좌석 생성 작업 상태를 나타내는 열거형
+ */
+public enum SeatProvisioningStatus {
+    /**
+     * 대기 중 - 작업 큐에 등록되어 실행을 기다리는 상태
+     */
+    QUEUED,
+
+    /**
+     * 생성 중 - 좌석을 행 단위로 나누어 저장하고 있는 상태
+     */
+    RUNNING,
+
+    /**
+     * 재시도 대기 - 실패 후 다음 시도를 기다리는 상태
+     */
+    RETRYING,
+
+    /**
+     * 완료 - 모든 좌석이 저장된 상태
+     */
+    COMPLETED,
+
+    /**
+     * 실패 - 재시도 횟수를 모두 소진한 상태
+     * 서버 재시작 시 남은 좌석부터 다시 생성
+     */
+    FAILED,
+
+    /**
+     * 미완료 - 이 서버에 작업 기록이 없고 좌석이 모두 저장되지 않은 상태 (다른 서버에서 생성 중일 수 있음)
+     */
+    INCOMPLETE
+}
@@ -0,0 +1,180 @@
+package com.study.ticketservice.event.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 행의 연속된 빈 좌석 구간(free run)을 관리하는 세그먼트 트리
+ * 노드마다 왼쪽 끝부터의 빈 좌석 수(pre), 오른쪽 끝까지의 빈 좌석 수(suf), 가장 긴 빈 구간(best)을 보관
+ *
+ * - 좌석 상태 변경: O(log cols)
+ * - 가장 긴 빈 구간 길이: O(1)
+ * - 원하는 위치에 가장 가까운 연속 좌석 찾기: O(log cols)
+ *
+ * 열 번호는 1부터 시작, 스레드 안전하지 않음 (SeatStateGrid 의 잠금 안에서 사용)
+ */
+public class SeatRunTree {
+
+    private final int size;
+    private final int[] pre;
+    private final int[] suf;
+    private final int[] best;
+
+    /**
+     * @param size 열 수 (처음에는 모든 좌석이 비어있지 않은 상태)
+     */
+    public SeatRunTree(int size) {
+        this.size = size;
+        this.pre = new int[4 * Math.max(size, 1)];
+        this.suf = new int[pre.length];
+        this.best = new int[pre.length];
+    }
+
+    /**
+     * 좌석의 빈 좌석 여부 변경
+     */
+    public void set(int col, boolean free) {
+        if (col < 1 || col > size) {
+            return;
+        }
+        update(1, 1, size, col, free ? 1 : 0);
+    }
+
+    /**
+     * @return 가장 긴 연속 빈 좌석 수
+     */
+    public int longestRun() {
+        return size == 0 ? 0 : best[1];
+    }
+
+    /**
+     * 연속 빈 좌석 length 개의 시작 열 중 preferredStart 에 가장 가까운 열 조회
+     * 거리가 같으면 왼쪽 열 선택
+     * @return 시작 열, 연속 빈 좌석이 없으면 -1
+     */
+    public int nearestStart(int length, int preferredStart) {
+        if (length < 1 || longestRun() < length) {
+            return -1;
+        }
+        int preferred = Math.max(1, Math.min(preferredStart, size - length + 1));
+        int left = lastStartUpTo(length, preferred);
+        if (left == preferred) {
+            return left;
+        }
+        int right = firstStartFrom(length, preferred);
+        if (left < 0) return right;
+        if (right < 0) return left;
+        return preferred - left <= right - preferred ? left : right;
+    }
+
+    /**
+     * from 열 이후에서 시작하는 첫 번째 연속 빈 좌석의 시작 열
+     */
+    private int firstStartFrom(int length, int from) {
+        List<int[]> nodes = new ArrayList<>();
+        collect(1, 1, size, from, size, nodes);
+
+        // carry = 범위 안에서 현재 노드 바로 앞까지 이어진 빈 좌석 수
+        int carry = 0;
+        for (int[] node : nodes) {
+            int n = node[0], lo = node[1], hi = node[2];
+            if (carry + pre[n] >= length) {
+                return lo - carry;
+            }
+            if (best[n] >= length) {
+                return leftmostInside(n, lo, hi, length);
+            }
+            carry = pre[n] == hi - lo + 1 ? carry + pre[n] : suf[n];
+        }
+        return -1;
+    }
+
+    /**
+     * to 열 이전에서 시작하는 마지막 연속 빈 좌석의 시작 열
+     */
+    private int lastStartUpTo(int length, int to) {
+        List<int[]> nodes = new ArrayList<>();
+        collect(1, 1, size, 1, Math.min(size, to + length - 1), nodes);
+
+        // carry = 범위 안에서 현재 노드 바로 뒤부터 이어진 빈 좌석 수
+        int carry = 0;
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            int n = nodes.get(i)[0], lo = nodes.get(i)[1], hi = nodes.get(i)[2];
+            if (suf[n] + carry >= length) {
+                return hi + carry - length + 1;
+            }
+            if (best[n] >= length) {
+                return rightmostInside(n, lo, hi, length);
+            }
+            carry = suf[n] == hi - lo + 1 ? carry + suf[n] : pre[n];
+        }
+        return -1;
+    }
+
+    private int leftmostInside(int n, int lo, int hi, int length) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int left = 2 * n, right = 2 * n + 1;
+            if (best[left] >= length) {
+                n = left;
+                hi = mid;
+            } else if (suf[left] + pre[right] >= length) {
+                return mid - suf[left] + 1;
+            } else {
+                n = right;
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private int rightmostInside(int n, int lo, int hi, int length) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int left = 2 * n, right = 2 * n + 1;
+            if (best[right] >= length) {
+                n = right;
+                lo = mid + 1;
+            } else if (suf[left] + pre[right] >= length) {
+                return mid + pre[right] - length + 1;
+            } else {
+                n = left;
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // [ql, qr] 범위를 덮는 노드를 왼쪽부터 순서대로 수집
+    private void collect(int n, int lo, int hi, int ql, int qr, List<int[]> nodes) {
+        if (qr < lo || hi < ql) {
+            return;
+        }
+        if (ql <= lo && hi <= qr) {
+            nodes.add(new int[]{n, lo, hi});
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        collect(2 * n, lo, mid, ql, qr, nodes);
+        collect(2 * n + 1, mid + 1, hi, ql, qr, nodes);
+    }
+
+    private void update(int n, int lo, int hi, int col, int value) {
+        if (lo == hi) {
+            pre[n] = suf[n] = best[n] = value;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (col <= mid) {
+            update(2 * n, lo, mid, col, value);
+        } else {
+            update(2 * n + 1, mid + 1, hi, col, value);
+        }
+
+        int left = 2 * n, right = 2 * n + 1;
+        int leftLength = mid - lo + 1, rightLength = hi - mid;
+        pre[n] = pre[left] == leftLength ? leftLength + pre[right] : pre[left];
+        suf[n] = suf[right] == rightLength ? rightLength + suf[left] : suf[right];
+        best[n] = Math.max(Math.max(best[left], best[right]), suf[left] + pre[right]);
+    }
+}
@@ -0,0 +1,403 @@
+package com.study.ticketservice.event.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이벤트 좌석 배치도(행 × 열)의 상태를 비트셋으로 보관하는 인메모리 모델
+ * 좌석 인덱스는 (row - 1) * totalCols + (col - 1) 의 행 우선 순서를 따름
+ * 좌석마다 객체를 두지 않고 상태는 비트셋, 나머지 속성은 primitive 배열로 관리
+ * 행마다 연속 빈 좌석 세그먼트 트리(SeatRunTree)를 함께 유지해 연속 좌석 추천에 사용
+ *
+ * 좌석의 상태/가격이 바뀔 때마다 배치도 버전을 1 올리고 변경된 좌석 인덱스를 링 버퍼에 기록
+ * 버전은 배치도마다 임의의 시작값에서 출발하므로 다른 서버나 다시 적재된 배치도의 버전과 섞이지 않음
+ */
+public class SeatStateGrid {
+
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int DEFAULT_CHANGE_LOG_SIZE = 4096;
+
+    private final Long eventId;
+    private final int totalRows;
+    private final int totalCols;
+
+    // 상태 비트셋 (present = 실제로 존재하는 좌석)
+    private final long[] present;
+    private final long[] available;
+    private final long[] hold;
+    private final long[] sold;
+
+    // 좌석 속성 (인덱스별)
+    private final long[] seatIds;
+    private final int[] prices;
+    private final long[] holdExpiresAt;
+    private final long[] versions;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+
+    // 행별 연속 AVAILABLE 좌석 인덱스
+    private final SeatRunTree[] freeRuns;
+
+    // 버전 baseVersion + n 의 변경 좌석 인덱스는 changeLog[(n - 1) % changeLog.length]
+    private final int[] changeLog;
+    private final long baseVersion;
+    private long mapVersion;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SeatStateGrid(Long eventId, int totalRows, int totalCols) {
+        this(eventId, totalRows, totalCols, DEFAULT_CHANGE_LOG_SIZE);
+    }
+
+    /**
+     * @param changeLogSize 변경분으로 응답할 수 있는 최근 변경 수
+     */
+    public SeatStateGrid(Long eventId, int totalRows, int totalCols, int changeLogSize) {
+        this.eventId = eventId;
+        this.totalRows = totalRows;
+        this.totalCols = totalCols;
+
+        int capacity = totalRows * totalCols;
+        int words = (capacity + 63) >>> 6;
+        this.present = new long[words];
+        this.available = new long[words];
+        this.hold = new long[words];
+        this.sold = new long[words];
+
+        this.seatIds = new long[capacity];
+        this.prices = new int[capacity];
+        this.holdExpiresAt = new long[capacity];
+        this.versions = new long[capacity];
+        this.createdAt = new long[capacity];
+        this.updatedAt = new long[capacity];
+
+        this.freeRuns = new SeatRunTree[totalRows];
+        for (int row = 0; row < totalRows; row++) {
+            freeRuns[row] = new SeatRunTree(totalCols);
+        }
+
+        this.changeLog = new int[Math.max(changeLogSize, 1)];
+        // JSON 숫자로 정확히 표현되도록 2^53 미만 (상위 12비트 임의값 + 하위 40비트 변경 횟수)
+        this.baseVersion = ThreadLocalRandom.current().nextLong(1, 1L << 12) << 40;
+        this.mapVersion = baseVersion;
+    }
+
+    /**
+     * 행/열 번호를 좌석 인덱스로 변환
+     * @return 좌석 인덱스, 배치도 범위를 벗어나면 -1
+     */
+    public int indexOf(int row, int col) {
+        if (row < 1 || row > totalRows || col < 1 || col > totalCols) {
+            return -1;
+        }
+        return (row - 1) * totalCols + (col - 1);
+    }
+
+    /**
+     * 좌석 상태 반영 (생성 및 변경)
+     * 배치도 범위를 벗어난 좌석은 무시
+     */
+    public void put(Seat seat) {
+        int index = indexOf(seat.getRow(), seat.getCol());
+        if (index < 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            write(index, seat);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 배치도의 좌석보다 버전이 낮지 않은 경우에만 반영 (DB에서 다시 읽은 좌석 반영용)
+     * 읽은 뒤에 반영된 더 최신 변경을 이전 상태로 덮어쓰지 않음
+     * @return 반영했으면 true
+     */
+    public boolean putIfNewer(Seat seat) {
+        int index = indexOf(seat.getRow(), seat.getCol());
+        if (index < 0) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if ((present[index >>> 6] & (1L << index)) != 0 && versions[index] > seat.getVersion()) {
+                return false;
+            }
+            write(index, seat);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void write(int index, Seat seat) {
+        // 쓰기 잠금을 잡은 상태에서 호출
+        int word = index >>> 6;
+        long bit = 1L << index;
+        boolean changed = (present[word] & bit) == 0
+                || statusAt(index) != seat.getStatus()
+                || prices[index] != seat.getPrice();
+
+        present[word] |= bit;
+        available[word] &= ~bit;
+        hold[word] &= ~bit;
+        sold[word] &= ~bit;
+        bitsOf(seat.getStatus())[word] |= bit;
+        freeRuns[seat.getRow() - 1].set(seat.getCol(), seat.getStatus() == SeatStatus.AVAILABLE);
+
+        seatIds[index] = seat.getSeatId() == null ? NONE : seat.getSeatId();
+        prices[index] = seat.getPrice();
+        holdExpiresAt[index] = encode(seat.getHoldExpiresAt());
+        versions[index] = seat.getVersion();
+        createdAt[index] = encode(seat.getCreatedAt());
+        updatedAt[index] = encode(seat.getUpdatedAt());
+
+        if (changed) {
+            changeLog[(int) ((mapVersion - baseVersion) % changeLog.length)] = index;
+            mapVersion++;
+        }
+    }
+
+    /**
+     * @return 현재 좌석 배치도 버전
+     */
+    public long getMapVersion() {
+        lock.readLock().lock();
+        try {
+            return mapVersion;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 특정 버전 이후 상태/가격이 바뀐 좌석 조회
+     * 링 버퍼에 남아있지 않은 오래된 버전이나 이 배치도의 버전이 아니면 전체 좌석 반환
+     * @param sinceVersion 클라이언트가 마지막으로 받은 버전
+     * @return 현재 버전과 변경된 좌석 (같은 좌석이 여러 번 바뀌었으면 최신 상태 한 번)
+     */
+    public SeatMapChanges changesSince(long sinceVersion) {
+        lock.readLock().lock();
+        try {
+            if (sinceVersion < baseVersion || sinceVersion > mapVersion || mapVersion - sinceVersion > changeLog.length) {
+                return new SeatMapChanges(mapVersion, true, collect(present));
+            }
+            BitSet changed = new BitSet(totalRows * totalCols);
+            for (long v = sinceVersion; v < mapVersion; v++) {
+                changed.set(changeLog[(int) ((v - baseVersion) % changeLog.length)]);
+            }
+            List<Seat> seats = new ArrayList<>(changed.cardinality());
+            for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+                seats.add(toSeat(index));
+            }
+            return new SeatMapChanges(mapVersion, false, seats);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 해당 위치 좌석의 상태, 좌석이 없으면 null
+     */
+    public SeatStatus statusAt(int row, int col) {
+        int index = indexOf(row, col);
+        if (index < 0) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return statusAt(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 해당 위치의 좌석, 좌석이 없으면 null
+     */
+    public Seat getSeat(int row, int col) {
+        int index = indexOf(row, col);
+        if (index < 0) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return statusAt(index) == null ? null : toSeat(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 해당 상태의 좌석 수
+     */
+    public int count(SeatStatus status) {
+        long[] bits = bitsOf(status);
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 연속된 AVAILABLE 좌석 묶음 추천
+     * 앞 행을 우선하고, 같은 행에서는 가운데에 가장 가까운 묶음을 선택 (행마다 최대 1개)
+     * 행마다 O(log totalCols) 로 탐색하므로 전체 좌석을 훑지 않음
+     * @param count 연속 좌석 수
+     * @param limit 최대 추천 개수
+     * @return 선호도 순으로 정렬된 좌석 묶음 목록
+     */
+    public List<SeatBlock> findBestAvailable(int count, int limit) {
+        List<SeatBlock> blocks = new ArrayList<>();
+        if (count < 1 || count > totalCols) {
+            return blocks;
+        }
+        int centredStart = (totalCols - count) / 2 + 1;
+        lock.readLock().lock();
+        try {
+            for (int row = 1; row <= totalRows && blocks.size() < limit; row++) {
+                SeatRunTree runs = freeRuns[row - 1];
+                if (runs.longestRun() < count) {
+                    continue;
+                }
+                blocks.add(new SeatBlock(row, runs.nearestStart(count, centredStart), count));
+            }
+            return blocks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 존재하는 모든 좌석 (행, 열 순 정렬)
+     */
+    public List<Seat> getSeats() {
+        return collect(present);
+    }
+
+    /**
+     * @param status 조회할 좌석 상태
+     * @return 해당 상태의 좌석 목록 (행, 열 순 정렬)
+     */
+    public List<Seat> getSeats(SeatStatus status) {
+        return collect(bitsOf(status));
+    }
+
+    /**
+     * 좌석을 Seat 객체 없이 바로 변환해 조회 (조회 전용)
+     * @param status 조회할 좌석 상태 (null이면 존재하는 모든 좌석)
+     * @param view 좌석 변환 함수 (읽기 잠금 안에서 호출되므로 가벼운 변환만 수행)
+     * @return 변환된 좌석 목록 (행, 열 순 정렬)
+     */
+    public <T> List<T> viewSeats(SeatStatus status, SeatView<T> view) {
+        long[] bits = status == null ? present : bitsOf(status);
+        lock.readLock().lock();
+        try {
+            int size = 0;
+            for (long word : bits) {
+                size += Long.bitCount(word);
+            }
+            List<T> views = new ArrayList<>(size);
+            for (int word = 0; word < bits.length; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                    views.add(view.map(index / totalCols + 1, index % totalCols + 1, prices[index], statusAt(index)));
+                    remaining &= remaining - 1;
+                }
+            }
+            return views;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Seat> collect(long[] bits) {
+        lock.readLock().lock();
+        try {
+            List<Seat> seats = new ArrayList<>();
+            for (int word = 0; word < bits.length; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                    seats.add(toSeat(index));
+                    remaining &= remaining - 1;
+                }
+            }
+            return seats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Seat toSeat(int index) {
+        int row = index / totalCols + 1;
+        int col = index % totalCols + 1;
+
+        Seat seat = new Seat();
+        seat.setSeatId(seatIds[index] == NONE ? null : seatIds[index]);
+        seat.setEventId(eventId);
+        seat.setRow(row);
+        seat.setCol(col);
+        seat.setSeatNumber(Seat.seatNumberOf(row, col));
+        seat.setPrice(prices[index]);
+        seat.setStatus(statusAt(index));
+        seat.setHoldExpiresAt(decode(holdExpiresAt[index]));
+        seat.setVersion(versions[index]);
+        seat.setCreatedAt(decode(createdAt[index]));
+        seat.setUpdatedAt(decode(updatedAt[index]));
+        return seat;
+    }
+
+    private SeatStatus statusAt(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if ((available[word] & bit) != 0) return SeatStatus.AVAILABLE;
+        if ((hold[word] & bit) != 0) return SeatStatus.HOLD;
+        if ((sold[word] & bit) != 0) return SeatStatus.SOLD;
+        return null;
+    }
+
+    private long[] bitsOf(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> available;
+            case HOLD -> hold;
+            case SOLD -> sold;
+        };
+    }
+
+    // LocalDateTime <-> long 변환 (마이크로초 단위, null은 NONE)
+    private static long encode(LocalDateTime time) {
+        if (time == null) {
+            return NONE;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime decode(long micros) {
+        if (micros == NONE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+
+    public Long getEventId() { return eventId; }
+    public int getTotalRows() { return totalRows; }
+    public int getTotalCols() { return totalCols; }
+}
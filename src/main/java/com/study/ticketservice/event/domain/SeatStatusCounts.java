@@ -0,0 +1,18 @@
+package com.study.ticketservice.event.domain;
+
+/**
+ * 이벤트의 좌석 상태별 개수
+ * @param available 예약 가능한 좌석 수
+ * @param hold HOLD 된 좌석 수
+ * @param sold 판매된 좌석 수
+ */
+public record SeatStatusCounts(int available, int hold, int sold) {
+
+    /**
+     * @param capacity 이벤트 전체 좌석 수 (행 × 열)
+     * @return 전체 좌석에서 HOLD/판매 좌석을 뺀 나머지를 AVAILABLE 로 계산한 개수
+     */
+    public static SeatStatusCounts of(int capacity, int hold, int sold) {
+        return new SeatStatusCounts(Math.max(capacity - hold - sold, 0), hold, sold);
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.ticketservice.event.domain;
+
+/**
+ * 좌석 저장 방식을 나타내는 열거형
+ */
+public enum SeatStorageMode {
+    /**
+     * 즉시 생성 - 이벤트 생성 시 모든 좌석을 DB에 저장
+     */
+    EAGER,
+
+    /**
+     * 지연 생성 - 좌석은 이벤트의 행 × 열 배치와 기본 가격으로 구성하고
+     * AVAILABLE 에서 처음 벗어나는 좌석만 DB에 저장
+     */
+    LAZY
+}
@@ -0,0 +1,19 @@
+package com.study.ticketservice.event.domain;
+
+/**
+ * 좌석 배치도의 좌석을 응답 형태로 바로 변환하는 함수
+ * Seat 도메인 객체를 만들지 않고 필요한 값만 전달 (조회 전용)
+ * @param <T> 변환 결과 타입
+ */
+@FunctionalInterface
+public interface SeatView<T> {
+
+    /**
+     * @param row 행 번호
+     * @param col 열 번호
+     * @param price 좌석 가격
+     * @param status 좌석 상태
+     * @return 변환 결과
+     */
+    T map(int row, int col, int price, SeatStatus status);
+}
@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
 @Table(name = "events", indexes = {
     @Index(name = "idx_events_status", columnList = "status"),
     @Index(name = "idx_events_starts_at", columnList = "starts_at"),
-    @Index(name = "idx_events_status_starts_at", columnList = "status, starts_at")
+    @Index(name = "idx_events_status_starts_at", columnList = "status, starts_at"),
+    @Index(name = "idx_events_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_events_created_at_event_id", columnList = "created_at, event_id")
 })
 @Getter
 @NoArgsConstructor
@@ -90,15 +92,17 @@ public class EventEntity {
     /**
      * 현재 예약된 좌석 수
      * 기본값 0, 예약 시스템에서 업데이트
+     * 증감 UPDATE(addReservation)로만 변경하므로 엔티티 저장(merge) 시에는 쓰지 않음
      */
-    @Column(name = "reserved_seats", nullable = false)
+    @Column(name = "reserved_seats", nullable = false, updatable = false)
     private int reservedSeats = 0;
 
     /**
      * 결제 완료 누적 금액
      * 기본값 0, 결제 완료 시 누적
+     * 증감 UPDATE(addReservation)로만 변경하므로 엔티티 저장(merge) 시에는 쓰지 않음
      */
-    @Column(name = "paid_amount", nullable = false)
+    @Column(name = "paid_amount", nullable = false, updatable = false)
     private long paidAmount = 0L;
 
     /**
@@ -1,12 +1,20 @@
 package com.study.ticketservice.event.infrastructure;
 
+import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
+import com.study.ticketservice.event.application.dto.response.EventListResponse;
 import com.study.ticketservice.event.domain.EventStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface EventJpaRepository extends JpaRepository<EventEntity, Long> {
     
     /**
@@ -20,6 +28,67 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long> {
            "ORDER BY e.createdAt DESC")
     Page<EventEntity> findEventsWithKeyword(@Param("keyword") String keyword, Pageable pageable);
     
+    /**
+     * 이벤트 상세 조회 (응답 DTO로 바로 조회, 엔티티를 만들지 않음)
+     * @param eventId 이벤트 ID
+     * @return 이벤트 상세 응답
+     */
+    @Query("SELECT new com.study.ticketservice.event.application.dto.response.EventDetailResponse(" +
+           "e.eventId, e.title, e.description, e.status, e.startsAt, e.endsAt, e.totalRows, e.totalCols, " +
+           "e.totalSeats, e.reservedSeats, e.paidAmount, e.createdAt, e.updatedAt) " +
+           "FROM EventEntity e WHERE e.eventId = :eventId")
+    Optional<EventDetailResponse> findDetailById(@Param("eventId") Long eventId);
+
+    /**
+     * 키워드 검색으로 이벤트 목록 조회 (응답 DTO로 바로 조회, 엔티티를 만들지 않음)
+     * @param keyword 검색 키워드 (null이면 전체 조회)
+     * @param pageable 페이징 정보
+     * @return 페이징된 이벤트 목록 응답
+     */
+    @Query(value = "SELECT new com.study.ticketservice.event.application.dto.response.EventListResponse(" +
+           "e.eventId, e.title, e.status, e.startsAt, e.endsAt, e.totalSeats, e.reservedSeats, e.createdAt) " +
+                   "FROM EventEntity e WHERE (:keyword IS NULL OR e.title LIKE %:keyword%) " +
+                   "ORDER BY e.createdAt DESC",
+           countQuery = "SELECT COUNT(e) FROM EventEntity e WHERE (:keyword IS NULL OR e.title LIKE %:keyword%)")
+    Page<EventListResponse> findEventListWithKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 최근 생성 순 이벤트 목록 조회 (응답 DTO로 바로 조회, COUNT 쿼리 없음)
+     * @param pageable 페이징 정보
+     * @return 생성 시간, 이벤트 ID 내림차순 이벤트 목록 응답
+     */
+    @Query("SELECT new com.study.ticketservice.event.application.dto.response.EventListResponse(" +
+           "e.eventId, e.title, e.status, e.startsAt, e.endsAt, e.totalSeats, e.reservedSeats, e.createdAt) " +
+           "FROM EventEntity e ORDER BY e.createdAt DESC, e.eventId DESC")
+    List<EventListResponse> findLatestEventList(Pageable pageable);
+
+    /**
+     * ID 목록으로 이벤트 목록 조회 (응답 DTO로 바로 조회, 순서는 보장하지 않음)
+     * @param eventIds 이벤트 ID 목록
+     * @return 이벤트 목록 응답
+     */
+    @Query("SELECT new com.study.ticketservice.event.application.dto.response.EventListResponse(" +
+           "e.eventId, e.title, e.status, e.startsAt, e.endsAt, e.totalSeats, e.reservedSeats, e.createdAt) " +
+           "FROM EventEntity e WHERE e.eventId IN :eventIds")
+    List<EventListResponse> findEventListByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * 커서 다음의 이벤트 목록 조회 (응답 DTO로 바로 조회, COUNT 쿼리 없음)
+     * (created_at, event_id) 가 커서보다 작은 이벤트를 인덱스 순서대로 읽음
+     * @param createdAt 마지막으로 조회한 이벤트의 생성 시간
+     * @param eventId 마지막으로 조회한 이벤트 ID
+     * @param pageable 조회 개수
+     * @return 생성 시간, 이벤트 ID 내림차순 이벤트 목록 응답
+     */
+    @Query("SELECT new com.study.ticketservice.event.application.dto.response.EventListResponse(" +
+           "e.eventId, e.title, e.status, e.startsAt, e.endsAt, e.totalSeats, e.reservedSeats, e.createdAt) " +
+           "FROM EventEntity e WHERE " +
+           "e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.eventId < :eventId) " +
+           "ORDER BY e.createdAt DESC, e.eventId DESC")
+    List<EventListResponse> findEventListBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("eventId") Long eventId,
+                                                Pageable pageable);
+
     /**
      * 키워드 및 상태로 이벤트 조회
      * @param keyword 검색 키워드
@@ -34,4 +103,75 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long> {
     Page<EventEntity> findEventsWithKeywordAndStatus(@Param("keyword") String keyword, 
                                                     @Param("status") EventStatus status, 
                                                     Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 예약 집계 증감 반영
+     * 현재 값을 읽지 않고 UPDATE 한 번으로 더함
+     * @param eventId 이벤트 ID
+     * @param seatsDelta 예약 좌석 수 증감
+     * @param amountDelta 결제 금액 증감
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE EventEntity e SET e.reservedSeats = e.reservedSeats + :seatsDelta, " +
+           "e.paidAmount = e.paidAmount + :amountDelta " +
+           "WHERE e.eventId = :eventId")
+    int addReservation(@Param("eventId") Long eventId,
+                       @Param("seatsDelta") int seatsDelta,
+                       @Param("amountDelta") long amountDelta);
+
+    /**
+     * 판매 중인 이벤트의 예약 집계를 판매된 좌석 기준으로 다시 계산
+     * 서버가 비정상 종료되어 반영되지 못한 증감을 복구할 때 사용
+     * 반영 대기 중인 증감이 있을 수 있는 이벤트(quietSince 이후 좌석 상태가 바뀐 이벤트)는 제외
+     * @param quietSince 이 시각 이후 좌석 상태가 바뀌지 않은 이벤트만 다시 계산
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE events e SET " +
+                   "e.reserved_seats = (SELECT COUNT(*) FROM seats s WHERE s.event_id = e.event_id AND s.status = 'SOLD'), " +
+                   "e.paid_amount = (SELECT COALESCE(SUM(s.price), 0) FROM seats s WHERE s.event_id = e.event_id AND s.status = 'SOLD') " +
+                   "WHERE e.status = 'PUBLISHED' " +
+                   "AND NOT EXISTS (SELECT 1 FROM seats q WHERE q.event_id = e.event_id AND q.updated_at > :quietSince)",
+           nativeQuery = true)
+    int reconcileReservations(@Param("quietSince") LocalDateTime quietSince);
+
+    /**
+     * 좌석이 모두 생성되지 않은 DRAFT 이벤트 조회
+     * @return 좌석 수가 총 행 × 열 보다 적은 DRAFT 이벤트 엔티티 목록
+     */
+    @Query(value = "SELECT e.* FROM events e WHERE e.status = 'DRAFT' " +
+                   "AND e.total_rows * e.total_cols > (SELECT COUNT(*) FROM seats s WHERE s.event_id = e.event_id)",
+           nativeQuery = true)
+    List<EventEntity> findDraftEventsWithMissingSeats();
+
+    /**
+     * 이벤트 ID 순 조회 (검색 색인 생성 시 나누어 조회)
+     * @param eventId 이 ID 보다 큰 이벤트부터 조회
+     * @param pageable 조회 개수
+     * @return 이벤트 ID 오름차순 엔티티 목록
+     */
+    List<EventEntity> findByEventIdGreaterThanOrderByEventIdAsc(Long eventId, Pageable pageable);
+
+    /**
+     * 존재하는 이벤트 ID 조회 (검색 색인에서 삭제된 이벤트 정리)
+     * @param eventIds 확인할 이벤트 ID 목록
+     * @return 그 중 DB에 있는 이벤트 ID
+     */
+    @Query("SELECT e.eventId FROM EventEntity e WHERE e.eventId IN :eventIds")
+    List<Long> findExistingIds(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * 수정 시간 기준 조회 (검색 색인 동기화)
+     * @param updatedAt 이 시간 이후(포함) 수정된 이벤트 조회
+     * @return 이벤트 엔티티 목록
+     */
+    List<EventEntity> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    /**
+     * 상태별 이벤트 수 (목록 전체 개수 보정)
+     * @return [상태, 개수] 목록
+     */
+    @Query("SELECT e.status, COUNT(e) FROM EventEntity e GROUP BY e.status")
+    List<Object[]> countByStatus();
+}
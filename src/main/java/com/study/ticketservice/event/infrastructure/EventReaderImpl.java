@@ -2,13 +2,27 @@ package com.study.ticketservice.event.infrastructure;
 
 import com.study.ticketservice.common.exception.ApiException;
 import com.study.ticketservice.event.application.EventReader;
+import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
+import com.study.ticketservice.event.application.dto.response.EventListResponse;
 import com.study.ticketservice.event.domain.EventErrorCode;
 import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventCursor;
+import com.study.ticketservice.event.domain.EventSearchResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Event 읽기 전용 Repository 구현체
  */
@@ -17,6 +31,8 @@ import org.springframework.stereotype.Repository;
 public class EventReaderImpl implements EventReader {
     
     private final EventJpaRepository eventJpaRepository;
+    private final EventSearchEngine eventSearchEngine;
+    private final EventTotalCounter eventTotalCounter;
 
     /**
      * 이벤트 ID로 단일 이벤트 조회
@@ -32,18 +48,79 @@ public class EventReaderImpl implements EventReader {
                 .toDomain();
     }
 
+    /**
+     * 이벤트 상세 조회 (응답 DTO로 바로 조회)
+     *
+     * @param eventId 조회할 이벤트 ID
+     * @return 이벤트 상세 응답
+     * @throws ApiException 이벤트가 존재하지 않을 경우 EVENT_NOT_FOUND
+     */
+    @Override
+    public EventDetailResponse findDetailById(Long eventId) {
+        return eventJpaRepository.findDetailById(eventId)
+                .orElseThrow(() -> new ApiException(EventErrorCode.EVENT_NOT_FOUND));
+    }
+
     /**
      * 이벤트 목록 조회 (페이징 및 키워드 검색 지원)
+     * 응답 DTO로 바로 조회하므로 엔티티와 도메인 객체를 만들지 않음
+     * 키워드가 있으면 검색 색인에서 순위 순으로 찾은 이벤트만 DB에서 조회
+     * 색인이 준비되기 전에는 제목 LIKE 검색으로 대체
+     * 전체 조회의 전체 개수는 COUNT 쿼리 대신 메모리의 이벤트 수(EventTotalCounter) 사용
      * 
-     * @param keyword 검색 키워드 (제목에서 검색, null이면 전체 조회)
+     * @param keyword 검색 키워드 (제목/설명에서 검색, null이거나 비어 있으면 전체 조회)
      * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬)
-     * @return 페이징된 이벤트 목록 (도메인 객체)
+     * @return 페이징된 이벤트 목록 응답
      */
     @Override
-    public Page<Event> findEvents(String keyword, Pageable pageable) {
-        Page<EventEntity> entities = eventJpaRepository.findEventsWithKeyword(keyword, pageable);
-        
-        return entities.map(EventEntity::toDomain);
+    public Page<EventListResponse> findEventList(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            Long total = eventTotalCounter.total();
+            if (total == null) {
+                return eventJpaRepository.findEventListWithKeyword(null, pageable);
+            }
+            return new PageImpl<>(eventJpaRepository.findLatestEventList(pageable), pageable, total);
+        }
+
+        EventSearchResult result = eventSearchEngine.search(keyword, pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return eventJpaRepository.findEventListWithKeyword(keyword, pageable);
+        }
+
+        Map<Long, EventListResponse> found = eventJpaRepository.findEventListByIdIn(result.eventIds())
+                .stream()
+                .collect(Collectors.toMap(EventListResponse::eventId, Function.identity()));
+        // 색인 순위 순서 유지, 그 사이 삭제된 이벤트는 제외하고 색인에서도 제거
+        List<EventListResponse> events = result.eventIds().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+        if (events.size() < result.eventIds().size()) {
+            eventSearchEngine.removeMissing(result.eventIds().stream()
+                    .filter(eventId -> !found.containsKey(eventId))
+                    .toList());
+        }
+        return new PageImpl<>(events, pageable, result.total());
+    }
+
+    /**
+     * 커서 다음의 이벤트 목록 조회 (생성 시간, 이벤트 ID 내림차순)
+     * 응답 DTO로 바로 조회하므로 엔티티와 도메인 객체를 만들지 않음
+     * (created_at, event_id) 인덱스를 커서 위치부터 읽고, 다음 페이지 여부는 한 건 더 조회해 확인 (COUNT 쿼리 없음)
+     *
+     * @param cursor 마지막으로 조회한 이벤트의 커서 (null이면 처음부터)
+     * @param size 조회할 이벤트 수
+     * @return 이벤트 목록 응답과 다음 페이지 존재 여부
+     */
+    @Override
+    public Slice<EventListResponse> findEventListAfter(EventCursor cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<EventListResponse> events = cursor == null
+                ? eventJpaRepository.findLatestEventList(limit)
+                : eventJpaRepository.findEventListBefore(cursor.createdAt(), cursor.eventId(), limit);
+
+        boolean hasNext = events.size() > size;
+        return new SliceImpl<>(hasNext ? events.subList(0, size) : events, PageRequest.of(0, size), hasNext);
     }
 
     /**
@@ -56,4 +133,17 @@ public class EventReaderImpl implements EventReader {
     public boolean existsById(Long eventId) {
         return eventJpaRepository.existsById(eventId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 좌석이 모두 생성되지 않은 DRAFT 이벤트 조회
+     *
+     * @return 좌석 수가 총 좌석 수보다 적은 DRAFT 이벤트 목록 (도메인 객체)
+     */
+    @Override
+    public List<Event> findDraftEventsWithMissingSeats() {
+        return eventJpaRepository.findDraftEventsWithMissingSeats()
+                .stream()
+                .map(EventEntity::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,140 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.application.EventCache;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 예약 집계(예약 좌석 수, 결제 금액) 쓰기 지연 누산기
+ * 판매마다 이벤트 행을 읽고 고치는 대신 이벤트별 LongAdder 에 증감을 모아 주기적으로 더하기 UPDATE 로 반영
+ *
+ * - 판매 스레드는 LongAdder 의 셀에 나누어 더하므로 같은 이벤트라도 서로 기다리지 않음
+ * - 반영은 flush-interval-ms 마다 한 트랜잭션에서 이벤트당 UPDATE 한 번
+ * - 읽은 값을 반영에 성공한 뒤에만 빼므로 반영 중에 들어온 증감이나 실패한 배치는 다음 주기에 반영
+ * - 반영된 이벤트는 상세 조회 캐시(EventCache)에서 무효화
+ * - 서버가 비정상 종료되어 잃어버린 증감은 reconcile-interval-ms 마다 판매된 좌석 기준으로 다시 계산해 복구
+ *   (Redis 잠금을 얻은 서버 한 대만 실행, 반영 대기 중인 증감이 있을 수 있는 이벤트는 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventReservationCounter {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EventCache eventCache;
+    private final StringRedisTemplate redisTemplate;
+
+    static final String RECONCILE_LOCK_KEY = "event-counter:reconcile-lock";
+
+    // 서버 식별용 (잠금 소유자 기록)
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${event-counter.reconcile-interval-ms:600000}")
+    private long reconcileIntervalMs;
+
+    // 이 시간 동안 좌석 상태가 바뀌지 않은 이벤트만 다시 계산 (모든 서버의 증감 반영 주기보다 충분히 길게)
+    @Value("${event-counter.reconcile-quiet-ms:60000}")
+    private long reconcileQuietMs;
+
+    // eventId -> 반영 대기 중인 증감
+    private final Map<Long, Delta> deltas = new ConcurrentHashMap<>();
+
+    /**
+     * 예약 집계 증감 누적
+     */
+    public void add(Long eventId, int seatsDelta, long amountDelta) {
+        Delta delta = deltas.computeIfAbsent(eventId, id -> new Delta());
+        delta.seats.add(seatsDelta);
+        delta.amount.add(amountDelta);
+    }
+
+    /**
+     * 누적된 증감을 한 트랜잭션으로 DB에 반영
+     * 실패하면 누적값을 그대로 두고 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${event-counter.flush-interval-ms:1000}")
+    public void flush() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        deltas.forEach((eventId, delta) -> {
+            long seats = delta.seats.sum();
+            long amount = delta.amount.sum();
+            if (seats != 0 || amount != 0) {
+                snapshots.add(new Snapshot(eventId, delta, seats, amount));
+            }
+        });
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Snapshot snapshot : snapshots) {
+                    eventJpaRepository.addReservation(snapshot.eventId(), Math.toIntExact(snapshot.seats()), snapshot.amount());
+                }
+            });
+        } catch (Exception e) {
+            log.error("예약 집계 DB 반영 실패 (다음 주기에 재시도): {}건", snapshots.size(), e);
+            return;
+        }
+        // 반영한 만큼만 빼서 그 사이에 더해진 증감은 남김
+        for (Snapshot snapshot : snapshots) {
+            snapshot.delta().seats.add(-snapshot.seats());
+            snapshot.delta().amount.add(-snapshot.amount());
+            eventCache.evictDetail(snapshot.eventId());
+        }
+    }
+
+    /**
+     * 판매 중인 이벤트의 예약 집계를 판매된 좌석 기준으로 복구
+     *
+     * - 주기마다 Redis 잠금(SET NX, 만료 = 주기)을 얻은 서버 한 대만 실행하고 잠금은 만료될 때까지 유지
+     *   (서버마다, 배포 때마다 모든 이벤트 행을 다시 계산하지 않음)
+     * - 최근 reconcile-quiet-ms 동안 좌석 상태가 바뀐 이벤트는 제외
+     *   (다른 서버에 아직 반영되지 않은 증감이 남아 있으면 다시 계산한 값에 두 번 더해지므로)
+     */
+    @Scheduled(fixedDelayString = "${event-counter.reconcile-interval-ms:600000}",
+               initialDelayString = "${event-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LOCK_KEY, owner, Duration.ofMillis(reconcileIntervalMs));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            LocalDateTime quietSince = LocalDateTime.now().minusNanos(reconcileQuietMs * 1_000_000L);
+            Integer updated = transactionTemplate.execute(status -> eventJpaRepository.reconcileReservations(quietSince));
+            log.info("예약 집계 복구: {}건", updated);
+        } catch (Exception e) {
+            log.error("예약 집계 복구 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class Delta {
+        private final LongAdder seats = new LongAdder();
+        private final LongAdder amount = new LongAdder();
+    }
+
+    private record Snapshot(Long eventId, Delta delta, long seats, long amount) {
+    }
+}
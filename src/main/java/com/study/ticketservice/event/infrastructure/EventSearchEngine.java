@@ -0,0 +1,204 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventSearchIndex;
+import com.study.ticketservice.event.domain.EventSearchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이벤트 검색 색인(EventSearchIndex)을 메모리에 유지하는 엔진
+ * 서버 시작 시 전체 이벤트로 색인을 만들고, EventWriter 의 변경 사항은 커밋 후 반영
+ * 다중 인스턴스 환경을 고려해 sync-interval 주기로 수정 시간이 최근인 이벤트를 다시 반영
+ * 다른 서버에서 삭제된 이벤트는 수정 시간으로 찾을 수 없으므로 prune-interval 주기로 색인의 ID 를 DB와 비교해 제거
+ * (검색 결과를 조회할 때 DB에 없는 이벤트도 바로 제거)
+ *
+ * 색인이 만들어지기 전에는 search 가 null 을 반환 (호출하는 쪽에서 DB 검색으로 대체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchEngine {
+
+    private final EventJpaRepository eventJpaRepository;
+
+    @Value("${event-search.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    @Value("${event-search.sync-overlap-ms:5000}")
+    private long syncOverlapMs;
+
+    private volatile EventSearchIndex index;
+
+    // 이 시각 이후 수정된 이벤트를 다음 동기화에서 반영
+    private LocalDateTime syncedUntil;
+
+    /**
+     * 키워드 검색
+     * @return 순위 순으로 정렬된 이벤트 ID 와 전체 결과 수, 색인이 준비되지 않았으면 null
+     */
+    public EventSearchResult search(String keyword, long offset, int limit) {
+        EventSearchIndex current = index;
+        return current == null ? null : current.search(keyword, offset, limit);
+    }
+
+    /**
+     * 이벤트 변경 사항 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영
+     */
+    public void apply(Event event) {
+        afterCommit(() -> {
+            EventSearchIndex current = index;
+            if (current != null) {
+                current.put(event.getEventId(), event.getTitle(), event.getDescription(),
+                        event.getCreatedAt(), event.getUpdatedAt());
+            }
+        });
+    }
+
+    /**
+     * 이벤트 삭제 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영
+     */
+    public void remove(Long eventId) {
+        afterCommit(() -> {
+            EventSearchIndex current = index;
+            if (current != null) {
+                current.remove(eventId);
+            }
+        });
+    }
+
+    /**
+     * 검색 결과 중 DB에 없는 이벤트 제거 (다른 서버에서 삭제된 이벤트)
+     * 트랜잭션과 관계없이 바로 반영
+     */
+    public void removeMissing(List<Long> eventIds) {
+        EventSearchIndex current = index;
+        if (current == null) {
+            return;
+        }
+        for (Long eventId : eventIds) {
+            current.remove(eventId);
+        }
+    }
+
+    /**
+     * 전체 이벤트로 색인을 새로 만들어 교체
+     * 만드는 동안 들어온 변경은 직후 동기화에서 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        EventSearchIndex fresh = new EventSearchIndex();
+
+        long lastEventId = 0L;
+        List<EventEntity> batch;
+        do {
+            batch = eventJpaRepository.findByEventIdGreaterThanOrderByEventIdAsc(lastEventId,
+                    PageRequest.of(0, rebuildBatchSize));
+            for (EventEntity event : batch) {
+                put(fresh, event);
+                lastEventId = event.getEventId();
+            }
+        } while (batch.size() == rebuildBatchSize);
+
+        index = fresh;
+        syncedUntil = startedAt;
+        log.info("이벤트 검색 색인 생성: events={}", fresh.size());
+        sync();
+    }
+
+    /**
+     * 다른 서버에서 수정된 이벤트 반영
+     * 커밋 시점과 수정 시간의 차이로 놓치지 않도록 sync-overlap 만큼 겹쳐서 조회 (이미 반영된 이벤트는 색인이 무시)
+     * 삭제 표시가 많이 쌓이면 색인을 새로 만듦
+     */
+    @Scheduled(fixedDelayString = "${event-search.sync-interval-ms:1000}",
+               initialDelayString = "${event-search.sync-interval-ms:1000}")
+    public synchronized void sync() {
+        EventSearchIndex current = index;
+        if (current == null) {
+            return;
+        }
+        if (current.needsRebuild()) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        LocalDateTime since = syncedUntil.minus(Duration.ofMillis(syncOverlapMs));
+        for (EventEntity event : eventJpaRepository.findByUpdatedAtGreaterThanEqual(since)) {
+            if (put(current, event)) {
+                changed++;
+            }
+        }
+        syncedUntil = now;
+        if (changed > 0) {
+            log.debug("이벤트 검색 색인 동기화: changed={}", changed);
+        }
+    }
+
+    /**
+     * 다른 서버에서 삭제된 이벤트 제거
+     * 색인된 이벤트 ID 를 rebuild-batch-size 개씩 DB와 비교해 없는 ID 를 색인에서 제거
+     */
+    @Scheduled(fixedDelayString = "${event-search.prune-interval-ms:30000}",
+               initialDelayString = "${event-search.prune-interval-ms:30000}")
+    public synchronized void prune() {
+        EventSearchIndex current = index;
+        if (current == null) {
+            return;
+        }
+
+        List<Long> indexed = new ArrayList<>(current.eventIds());
+        int removed = 0;
+        for (int from = 0; from < indexed.size(); from += rebuildBatchSize) {
+            List<Long> batch = indexed.subList(from, Math.min(from + rebuildBatchSize, indexed.size()));
+            Set<Long> existing = new HashSet<>(eventJpaRepository.findExistingIds(batch));
+            for (Long eventId : batch) {
+                if (!existing.contains(eventId)) {
+                    current.remove(eventId);
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.info("이벤트 검색 색인에서 삭제된 이벤트 제거: removed={}", removed);
+        }
+    }
+
+    private static boolean put(EventSearchIndex target, EventEntity event) {
+        return target.put(event.getEventId(), event.getTitle(), event.getDescription(),
+                event.getCreatedAt(), event.getUpdatedAt());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
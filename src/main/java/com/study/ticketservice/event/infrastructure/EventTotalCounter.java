@@ -0,0 +1,119 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.EventStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 상태별 이벤트 수 (목록 조회의 전체 개수용)
+ * 페이지마다 COUNT(*) 를 실행하는 대신 메모리의 상태별 개수를 사용
+ *
+ * - EventWriter 의 생성/상태 변경/삭제를 커밋 후 증감으로 반영
+ * - 다른 서버의 변경이나 증감 중 놓친 변경은 reconcile-interval-ms 마다 GROUP BY 로 다시 센 값으로 교체
+ * - 따라서 다시 세기 전까지는 근사값 (다시 세기 전에는 total 이 null)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventTotalCounter {
+
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private final EventJpaRepository eventJpaRepository;
+
+    private final AtomicLongArray counts = new AtomicLongArray(STATUSES.length);
+    private volatile boolean ready;
+
+    /**
+     * @return 전체 이벤트 수, 아직 세지 않았으면 null
+     */
+    public Long total() {
+        if (!ready) {
+            return null;
+        }
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return Math.max(total, 0);
+    }
+
+    /**
+     * @return 상태별 이벤트 수, 아직 세지 않았으면 null
+     */
+    public Long count(EventStatus status) {
+        return ready ? Math.max(counts.get(status.ordinal()), 0) : null;
+    }
+
+    /**
+     * 이벤트 생성/상태 변경/삭제 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영
+     * @param from 이전 상태 (생성이면 null)
+     * @param to 이후 상태 (삭제면 null)
+     */
+    public void applyChange(EventStatus from, EventStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(from, to);
+                }
+            });
+            return;
+        }
+        applyNow(from, to);
+    }
+
+    /**
+     * 상태별 이벤트 수를 DB에서 다시 세어 교체
+     * 실패하면 기존 값을 유지하고 다음 주기에 재시도
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${event-count.reconcile-interval-ms:60000}",
+               initialDelayString = "${event-count.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        List<Object[]> rows;
+        try {
+            rows = eventJpaRepository.countByStatus();
+        } catch (Exception e) {
+            log.error("이벤트 수 다시 세기 실패 (다음 주기에 재시도)", e);
+            return;
+        }
+
+        Map<EventStatus, Long> exact = new EnumMap<>(EventStatus.class);
+        for (Object[] row : rows) {
+            exact.put((EventStatus) row[0], ((Number) row[1]).longValue());
+        }
+        for (EventStatus status : STATUSES) {
+            long count = exact.getOrDefault(status, 0L);
+            long previous = counts.getAndSet(status.ordinal(), count);
+            if (ready && previous != count) {
+                log.debug("이벤트 수 보정: status={}, {} -> {}", status, previous, count);
+            }
+        }
+        ready = true;
+    }
+
+    private void applyNow(EventStatus from, EventStatus to) {
+        if (from != null) {
+            counts.decrementAndGet(from.ordinal());
+        }
+        if (to != null) {
+            counts.incrementAndGet(to.ordinal());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.study.ticketservice.event.infrastructure;
 
 import com.study.ticketservice.event.application.EventWriter;
 import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -13,19 +14,30 @@ import org.springframework.stereotype.Repository;
 public class EventWriterImpl implements EventWriter {
     
     private final EventJpaRepository eventJpaRepository;
+    private final EventReservationCounter eventReservationCounter;
+    private final EventSearchEngine eventSearchEngine;
+    private final EventTotalCounter eventTotalCounter;
 
     /**
      * 이벤트 저장 (생성 및 수정)
      * 도메인 객체를 JPA 엔티티로 변환하여 저장 후 다시 도메인 객체로 반환
+     * 검색 색인과 상태별 이벤트 수에는 커밋 후 반영
+     * 수정이면 이전 상태 확인을 위해 먼저 조회 (조회한 엔티티에 병합되므로 추가 조회 없음)
      * 
      * @param event 저장할 Event 도메인 객체
      * @return 저장된 Event 객체 (ID가 할당된 상태)
      */
     @Override
     public Event save(Event event) {
+        EventStatus previousStatus = event.getEventId() == null ? null
+                : eventJpaRepository.findById(event.getEventId()).map(EventEntity::getStatus).orElse(null);
+
         EventEntity entity = EventEntity.from(event);
         EventEntity savedEntity = eventJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        Event saved = savedEntity.toDomain();
+        eventSearchEngine.apply(saved);
+        eventTotalCounter.applyChange(previousStatus, saved.getStatus());
+        return saved;
     }
 
     /**
@@ -35,6 +47,23 @@ public class EventWriterImpl implements EventWriter {
      */
     @Override
     public void delete(Long eventId) {
-        eventJpaRepository.deleteById(eventId);
+        eventJpaRepository.findById(eventId).ifPresent(entity -> {
+            eventJpaRepository.delete(entity);
+            eventSearchEngine.remove(eventId);
+            eventTotalCounter.applyChange(entity.getStatus(), null);
+        });
+    }
+
+    /**
+     * 예약 집계 증감 반영 요청
+     * 서버 메모리의 이벤트별 누산기에 더하고 DB에는 주기적으로 일괄 반영
+     *
+     * @param eventId 이벤트 ID
+     * @param seatsDelta 예약 좌석 수 증감
+     * @param amountDelta 결제 금액 증감
+     */
+    @Override
+    public void addReservationAsync(Long eventId, int seatsDelta, long amountDelta) {
+        eventReservationCounter.add(eventId, seatsDelta, amountDelta);
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticketservice.event.application.EventCacheStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 이벤트 조회 공유 캐시
+ *
+ * - 세대: "event-cache:gen:{namespace}" (INCR)
+ * - 값: "event-cache:{namespace}:{세대}:{key}" 에 JSON 으로 저장, shared-ttl-seconds 뒤 만료
+ * - 무효화 알림: "event-cache:invalidations" 채널에 이름공간을 발행(pub/sub)
+ *
+ * 이전 세대의 값은 지우지 않고 TTL 로 만료되도록 둠
+ */
+@Slf4j
+@Repository
+public class RedisEventCacheStore implements EventCacheStore {
+
+    private static final String KEY_PREFIX = "event-cache:";
+    private static final String GENERATION_PREFIX = KEY_PREFIX + "gen:";
+    private static final String CHANNEL = KEY_PREFIX + "invalidations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisEventCacheStore(StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${event-cache.shared-ttl-seconds:60}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        listenerContainer.addMessageListener((message, pattern) ->
+                notifyListeners(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public long generation(String namespace) {
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + namespace);
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (Exception e) {
+            log.warn("이벤트 공유 캐시 세대 조회 실패: namespace={}", namespace, e);
+            return -1;
+        }
+    }
+
+    @Override
+    public <T> T get(String namespace, long generation, String key, Class<T> type) {
+        if (generation < 0) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(valueKey(namespace, generation, key));
+            return json == null ? null : objectMapper.readerFor(type)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(json);
+        } catch (Exception e) {
+            log.warn("이벤트 공유 캐시 조회 실패: namespace={}, key={}", namespace, key, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String namespace, long generation, String key, Object value) {
+        if (generation < 0 || value == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(valueKey(namespace, generation, key), objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("이벤트 공유 캐시 저장 실패: namespace={}, key={}", namespace, key, e);
+        }
+    }
+
+    @Override
+    public void invalidate(String namespace) {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_PREFIX + namespace);
+            redisTemplate.convertAndSend(CHANNEL, namespace);
+        } catch (Exception e) {
+            // 다른 서버의 메모리 캐시는 TTL 로 만료될 때까지 이전 값을 반환할 수 있음
+            log.error("이벤트 공유 캐시 무효화 실패: namespace={}", namespace, e);
+            notifyListeners(namespace);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    private void notifyListeners(String namespace) {
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(namespace);
+            } catch (Exception e) {
+                log.error("이벤트 캐시 무효화 알림 처리 실패: namespace={}", namespace, e);
+            }
+        }
+    }
+
+    private static String valueKey(String namespace, long generation, String key) {
+        return KEY_PREFIX + namespace + ":" + generation + ":" + key;
+    }
+}
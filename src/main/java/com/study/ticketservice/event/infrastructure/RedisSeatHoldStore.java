@@ -0,0 +1,183 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.application.HeldSeat;
+import com.study.ticketservice.event.application.SeatHoldResult;
+import com.study.ticketservice.event.application.SeatHoldStore;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 좌석 HOLD 저장소
+ * 좌석 상태 전이를 Lua 스크립트로 Redis 서버에서 원자적으로 처리 (MySQL 행 잠금 없음)
+ *
+ * 이벤트별 hash 하나에 AVAILABLE 이 아닌 좌석만 보관
+ * - 필드: "row:col"
+ * - 값: "H:{userId}:{만료 시각(ms)}" 또는 "S:{userId}"
+ * - 초기 적재 여부 키: "seat-hold:{eventId}:seeded"
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisSeatHoldStore implements SeatHoldStore {
+
+    private static final String KEY_PREFIX = "seat-hold:";
+    private static final String SEEDED_SUFFIX = ":seeded";
+    private static final long NEEDS_SEED = -1L;
+
+    private static final RedisScript<Long> HOLD_SCRIPT = script("redis/seat-hold.lua");
+    private static final RedisScript<Long> RELEASE_SCRIPT = script("redis/seat-release.lua");
+    private static final RedisScript<Long> SELL_SCRIPT = script("redis/seat-sell.lua");
+    private static final RedisScript<Long> EXPIRE_SCRIPT = script("redis/seat-expire.lua");
+    private static final RedisScript<Long> SEED_SCRIPT = script("redis/seat-seed.lua");
+
+    private final StringRedisTemplate redisTemplate;
+    private final SeatJpaRepository seatJpaRepository;
+
+    @Override
+    public SeatHoldResult hold(Long eventId, Long userId, List<SeatPosition> seats, LocalDateTime holdExpiresAt) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(toEpochMilli(holdExpiresAt)));
+        return execute(HOLD_SCRIPT, eventId, args, seats);
+    }
+
+    @Override
+    public SeatHoldResult release(Long eventId, Long userId, List<SeatPosition> seats) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        return execute(RELEASE_SCRIPT, eventId, args, seats);
+    }
+
+    @Override
+    public SeatHoldResult sell(Long eventId, Long userId, List<SeatPosition> seats) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        return execute(SELL_SCRIPT, eventId, args, seats);
+    }
+
+    @Override
+    public boolean expire(Long eventId, SeatPosition seat) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(System.currentTimeMillis()));
+        return execute(EXPIRE_SCRIPT, eventId, args, List.of(seat)).success();
+    }
+
+    /**
+     * 초기 적재 여부 키를 SCAN 으로 찾아 이벤트 ID 목록 생성
+     */
+    @Override
+    public List<Long> findEventIds() {
+        List<Long> eventIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "{*}" + SEEDED_SUFFIX).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key ->
+                    eventIds.add(Long.valueOf(key.substring(KEY_PREFIX.length() + 1, key.indexOf('}')))));
+        }
+        return eventIds;
+    }
+
+    @Override
+    public List<HeldSeat> findHeldSeats(Long eventId) {
+        List<HeldSeat> seats = new ArrayList<>();
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(keys(eventId).get(0));
+        entries.forEach((field, value) -> seats.add(heldSeat(field.toString(), value.toString())));
+        return seats;
+    }
+
+    @Override
+    public HeldSeat findHeldSeat(Long eventId, SeatPosition seat) {
+        String field = field(seat);
+        Object value = redisTemplate.opsForHash().get(keys(eventId).get(0), field);
+        return value == null ? null : heldSeat(field, value.toString());
+    }
+
+    private SeatHoldResult execute(RedisScript<Long> script, Long eventId, List<String> args, List<SeatPosition> seats) {
+        for (SeatPosition seat : seats) {
+            args.add(field(seat));
+        }
+        List<String> keys = keys(eventId);
+        Object[] argv = args.toArray();
+
+        Long result = redisTemplate.execute(script, keys, argv);
+        if (result != null && result == NEEDS_SEED) {
+            seed(eventId);
+            result = redisTemplate.execute(script, keys, argv);
+        }
+        if (result == null || result < 0) {
+            throw new IllegalStateException("좌석 상태 스크립트 실행 실패: eventId=" + eventId + ", result=" + result);
+        }
+        return result == 0
+                ? SeatHoldResult.succeeded()
+                : SeatHoldResult.conflicted(seats.get(result.intValue() - 1));
+    }
+
+    /**
+     * DB의 HOLD/SOLD 좌석으로 Redis 좌석 상태 초기 적재
+     * DB에는 HOLD 사용자 정보가 없으므로 사용자 ID 0으로 적재
+     */
+    private void seed(Long eventId) {
+        List<String> args = new ArrayList<>();
+        for (SeatEntity seat : seatJpaRepository.findByEventIdAndStatusOrderByRowAscColAsc(eventId, SeatStatus.HOLD)) {
+            long expiresAt = seat.getHoldExpiresAt() == null ? 0L : toEpochMilli(seat.getHoldExpiresAt());
+            args.add(field(new SeatPosition(seat.getRow(), seat.getCol())));
+            args.add("H:0:" + expiresAt);
+        }
+        for (SeatEntity seat : seatJpaRepository.findByEventIdAndStatusOrderByRowAscColAsc(eventId, SeatStatus.SOLD)) {
+            args.add(field(new SeatPosition(seat.getRow(), seat.getCol())));
+            args.add("S:0");
+        }
+
+        Long seeded = redisTemplate.execute(SEED_SCRIPT, keys(eventId), args.toArray());
+        if (seeded != null && seeded == 1L) {
+            log.info("Redis 좌석 상태 초기 적재: eventId={}, 좌석 수={}", eventId, args.size() / 2);
+        }
+    }
+
+    private static List<String> keys(Long eventId) {
+        // 두 키가 같은 클러스터 슬롯에 배치되도록 hash tag 사용
+        String key = KEY_PREFIX + "{" + eventId + "}";
+        return List.of(key, key + SEEDED_SUFFIX);
+    }
+
+    private static HeldSeat heldSeat(String field, String value) {
+        String[] position = field.split(":");
+        SeatPosition seat = new SeatPosition(Integer.parseInt(position[0]), Integer.parseInt(position[1]));
+        String[] state = value.split(":");
+        if (state[0].equals("S")) {
+            return new HeldSeat(seat, SeatStatus.SOLD, null);
+        }
+        LocalDateTime holdExpiresAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(Long.parseLong(state[2])), ZoneId.systemDefault());
+        return new HeldSeat(seat, SeatStatus.HOLD, holdExpiresAt);
+    }
+
+    private static String field(SeatPosition seat) {
+        return seat.row() + ":" + seat.col();
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static RedisScript<Long> script(String path) {
+        return RedisScript.of(new ClassPathResource(path), Long.class);
+    }
+}
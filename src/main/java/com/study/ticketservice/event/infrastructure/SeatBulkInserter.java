@@ -0,0 +1,102 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Seat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 대량 INSERT
+ * IDENTITY 키 때문에 JPA saveAll 은 좌석마다 INSERT 를 실행하므로
+ * JDBC 로 여러 행을 담은 INSERT 문 하나씩 실행 (rows-per-statement 행 단위)
+ * 유니크 키(event_id, row, col)가 이미 있는 좌석은 INSERT IGNORE 로 건너뛰어 재시도해도 중복되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatBulkInserter {
+
+    private static final String COLUMNS = "(event_id, `row`, `col`, seat_number, price, status, hold_expires_at, " +
+            "version, created_at, updated_at) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int PARAMETERS_PER_ROW = 10;
+
+    private static final String INSERT_PREFIX = "INSERT IGNORE INTO seats " + COLUMNS;
+    private static final String UPSERT_PREFIX = "INSERT INTO seats " + COLUMNS;
+
+    // 더 최근에 변경된 좌석은 건너뜀 (updated_at 은 마지막에 변경해야 앞의 조건이 이전 값으로 평가됨)
+    private static final String NEWER = "(updated_at IS NULL OR updated_at <= VALUES(updated_at))";
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE " +
+            "status = IF(" + NEWER + ", VALUES(status), status), " +
+            "hold_expires_at = IF(" + NEWER + ", VALUES(hold_expires_at), hold_expires_at), " +
+            "version = IF(" + NEWER + ", version + 1, version), " +
+            "updated_at = IF(" + NEWER + ", VALUES(updated_at), updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${seat-provisioning.rows-per-statement:500}")
+    private int rowsPerStatement;
+
+    /**
+     * @param seats 생성할 좌석 목록
+     * @return 새로 저장된 좌석 수
+     */
+    public int insert(List<Seat> seats) {
+        int inserted = 0;
+        for (int from = 0; from < seats.size(); from += rowsPerStatement) {
+            List<Seat> chunk = seats.subList(from, Math.min(from + rowsPerStatement, seats.size()));
+            inserted += jdbcTemplate.update(sql(INSERT_PREFIX, chunk.size(), ""), parameters(chunk));
+        }
+        return inserted;
+    }
+
+    /**
+     * 좌석 상태 저장 (없으면 생성, 있으면 상태 변경)
+     * 아직 DB에 없는 좌석(지연 생성 방식)의 상태 변경을 반영할 때 사용
+     * 이미 있는 좌석은 더 최근에 변경되지 않은 경우에만 상태, HOLD 만료 시간, 수정 시간을 변경하고 버전을 1 증가
+     *
+     * @param seats 상태가 변경된 좌석 목록
+     */
+    public void upsert(List<Seat> seats) {
+        for (int from = 0; from < seats.size(); from += rowsPerStatement) {
+            List<Seat> chunk = seats.subList(from, Math.min(from + rowsPerStatement, seats.size()));
+            jdbcTemplate.update(sql(UPSERT_PREFIX, chunk.size(), UPSERT_SUFFIX), parameters(chunk));
+        }
+    }
+
+    private static String sql(String prefix, int rows, String suffix) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (VALUES_ROW.length() + 1) + suffix.length());
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(VALUES_ROW);
+        }
+        return sql.append(suffix).toString();
+    }
+
+    private static Object[] parameters(List<Seat> seats) {
+        List<Object> parameters = new ArrayList<>(seats.size() * PARAMETERS_PER_ROW);
+        for (Seat seat : seats) {
+            LocalDateTime createdAt = seat.getCreatedAt() == null ? LocalDateTime.now() : seat.getCreatedAt();
+            LocalDateTime updatedAt = seat.getUpdatedAt() == null ? createdAt : seat.getUpdatedAt();
+            parameters.add(seat.getEventId());
+            parameters.add(seat.getRow());
+            parameters.add(seat.getCol());
+            parameters.add(seat.getSeatNumber());
+            parameters.add(seat.getPrice());
+            parameters.add(seat.getStatus().name());
+            parameters.add(seat.getHoldExpiresAt() == null ? null : Timestamp.valueOf(seat.getHoldExpiresAt()));
+            parameters.add(seat.getVersion());
+            parameters.add(Timestamp.valueOf(createdAt));
+            parameters.add(Timestamp.valueOf(updatedAt));
+        }
+        return parameters.toArray();
+    }
+}
@@ -13,6 +13,8 @@ import java.time.LocalDateTime;
 @Table(name = "seats", indexes = {
     @Index(name = "idx_seats_event_id_status", columnList = "event_id, status"),
     @Index(name = "idx_seats_hold_expires_at", columnList = "hold_expires_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_seats_event_row_col", columnNames = {"event_id", "`row`", "`col`"})
 })
 @Getter
 @NoArgsConstructor
@@ -47,6 +49,14 @@ public class SeatEntity {
     @Column(name = "hold_expires_at")
     private LocalDateTime holdExpiresAt;
 
+    /**
+     * 낙관적 동시성 제어용 버전
+     * 상태가 바뀔 때마다 1씩 증가
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     /**
      * 생성 시간
      * 좌석 생성 시 자동 설정
@@ -73,6 +83,7 @@ public class SeatEntity {
         seat.setPrice(this.price);
         seat.setStatus(this.status);
         seat.setHoldExpiresAt(this.holdExpiresAt);
+        seat.setVersion(this.version);
         seat.setCreatedAt(this.createdAt);
         seat.setUpdatedAt(this.updatedAt);
         return seat;
@@ -92,6 +103,7 @@ public class SeatEntity {
         entity.price = domain.getPrice();
         entity.status = domain.getStatus();
         entity.holdExpiresAt = domain.getHoldExpiresAt();
+        entity.version = domain.getVersion();
         entity.createdAt = domain.getCreatedAt();
         entity.updatedAt = domain.getUpdatedAt();
         return entity;
@@ -2,10 +2,12 @@ package com.study.ticketservice.event.infrastructure;
 
 import com.study.ticketservice.event.domain.SeatStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface SeatJpaRepository extends JpaRepository<SeatEntity, Long> {
@@ -35,7 +37,27 @@ public interface SeatJpaRepository extends JpaRepository<SeatEntity, Long> {
      * @return 해당 상태의 좌석 개수
      */
     long countByEventIdAndStatus(Long eventId, SeatStatus status);
+
+    /**
+     * 여러 이벤트의 HOLD/SOLD 좌석 개수를 한 번에 조회
+     * (event_id, status) 인덱스만 읽음
+     *
+     * @param eventIds 이벤트 ID 목록
+     * @return [이벤트 ID, 상태, 개수] 목록 (AVAILABLE 제외)
+     */
+    @Query("SELECT s.eventId, s.status, COUNT(s) FROM SeatEntity s " +
+           "WHERE s.eventId IN :eventIds AND s.status <> 'AVAILABLE' " +
+           "GROUP BY s.eventId, s.status")
+    List<Object[]> countReservedByEventIds(@Param("eventIds") Collection<Long> eventIds);
     
+    /**
+     * 전체 이벤트에서 특정 상태의 좌석 조회
+     * 서버 시작 시 HOLD 만료 일정 복구에 사용
+     * @param status 조회할 좌석 상태
+     * @return 해당 상태의 좌석 목록
+     */
+    List<SeatEntity> findByStatus(SeatStatus status);
+
     /**
      * 만료된 HOLD 좌석 조회
      * 만료된 HOLD 상태를 AVAILABLE로 변경할 때 사용
@@ -45,6 +67,57 @@ public interface SeatJpaRepository extends JpaRepository<SeatEntity, Long> {
     @Query("SELECT s FROM SeatEntity s WHERE " +
            "s.status = 'HOLD' AND s.holdExpiresAt < :currentTime")
     List<SeatEntity> findExpiredHoldSeats(@Param("currentTime") LocalDateTime currentTime);
-    
 
-}
\ No newline at end of file
+    /**
+     * 특정 이벤트의 저장된 좌석 수
+     */
+    long countByEventId(Long eventId);
+
+    /**
+     * 여러 좌석의 상태를 UPDATE 한 번으로 조건부 변경 (SELECT 없이 처리)
+     * 쓰기 지연 큐에서 같은 상태, 같은 버전에서 함께 바뀐 좌석들을 DB에 반영할 때 사용
+     * 상태와 버전이 기대한 값 그대로인 좌석만 변경하고, 버전은 좌석 배치도에 반영된 값으로 맞춤
+     * @param seatIds 좌석 ID 목록
+     * @param expectedStatus 변경 전 좌석 상태
+     * @param expectedVersion 변경 전 버전
+     * @param status 변경할 좌석 상태
+     * @param holdExpiresAt HOLD 만료 시간 (HOLD 가 아니면 null)
+     * @param updatedAt 수정 시간
+     * @param version 변경 후 버전
+     * @return 변경된 행 수 (좌석 수보다 적으면 다른 요청이 먼저 변경한 좌석이 있음)
+     */
+    @Modifying
+    @Query("UPDATE SeatEntity s SET s.status = :status, s.holdExpiresAt = :holdExpiresAt, s.updatedAt = :updatedAt, " +
+           "s.version = :version " +
+           "WHERE s.seatId IN :seatIds AND s.status = :expectedStatus AND s.version = :expectedVersion")
+    int updateStatusIfUnchanged(@Param("seatIds") List<Long> seatIds,
+                                @Param("expectedStatus") SeatStatus expectedStatus,
+                                @Param("expectedVersion") long expectedVersion,
+                                @Param("status") SeatStatus status,
+                                @Param("holdExpiresAt") LocalDateTime holdExpiresAt,
+                                @Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("version") long version);
+
+    /**
+     * 조건부 좌석 상태 전이 (낙관적 동시성 제어)
+     * 읽은 시점의 상태와 버전이 그대로일 때만 변경하고 버전을 1 증가
+     * 행 잠금은 이 UPDATE 가 속한 트랜잭션 동안만 유지됨
+     * @param seatId 좌석 ID
+     * @param expectedStatus 읽은 시점의 좌석 상태
+     * @param expectedVersion 읽은 시점의 버전
+     * @param status 변경할 좌석 상태
+     * @param holdExpiresAt HOLD 만료 시간 (HOLD 가 아니면 null)
+     * @param updatedAt 수정 시간
+     * @return 변경된 행 수 (0 이면 다른 요청이 먼저 변경함)
+     */
+    @Modifying
+    @Query("UPDATE SeatEntity s SET s.status = :status, s.holdExpiresAt = :holdExpiresAt, s.updatedAt = :updatedAt, " +
+           "s.version = s.version + 1 " +
+           "WHERE s.seatId = :seatId AND s.status = :expectedStatus AND s.version = :expectedVersion")
+    int transitionStatus(@Param("seatId") Long seatId,
+                         @Param("expectedStatus") SeatStatus expectedStatus,
+                         @Param("expectedVersion") long expectedVersion,
+                         @Param("status") SeatStatus status,
+                         @Param("holdExpiresAt") LocalDateTime holdExpiresAt,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -4,10 +4,15 @@ import com.study.ticketservice.common.exception.ApiException;
 import com.study.ticketservice.event.application.SeatReader;
 import com.study.ticketservice.event.domain.EventErrorCode;
 import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatBlock;
+import com.study.ticketservice.event.domain.SeatMapChanges;
+import com.study.ticketservice.event.domain.SeatStateGrid;
 import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.event.domain.SeatView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,6 +20,7 @@ import java.util.List;
 public class SeatReaderImpl implements SeatReader {
     
     private final SeatJpaRepository seatJpaRepository;
+    private final SeatStateEngine seatStateEngine;
 
     /**
      * @param seatId 조회할 좌석 ID
@@ -30,29 +36,107 @@ public class SeatReaderImpl implements SeatReader {
 
     /**
      * 특정 이벤트의 모든 좌석 조회
+     * 메모리의 좌석 배치도(SeatStateEngine)에서 조회
      * @param eventId 이벤트 ID
      * @return 좌석 목록 (행, 열 순으로 정렬된 도메인 객체)
      */
     @Override
     public List<Seat> findByEventId(Long eventId) {
-        return seatJpaRepository.findByEventIdOrderByRowAscColAsc(eventId)
-                .stream()
-                .map(SeatEntity::toDomain)
-                .toList();
+        SeatStateGrid grid = seatStateEngine.getGrid(eventId);
+        return grid == null ? List.of() : grid.getSeats();
     }
 
     /**
      * 특정 이벤트의 특정 상태 좌석 조회
+     * 상태 비트셋으로 필터링
      * @param eventId 이벤트 ID
      * @param status 조회할 좌석 상태
      * @return 해당 상태의 좌석 목록 (행, 열 순으로 정렬)
      */
     @Override
     public List<Seat> findByEventIdAndStatus(Long eventId, SeatStatus status) {
-        // 상태별 필터링된 좌석 조회
-        return seatJpaRepository.findByEventIdAndStatusOrderByRowAscColAsc(eventId, status)
+        SeatStateGrid grid = seatStateEngine.getGrid(eventId);
+        return grid == null ? List.of() : grid.getSeats(status);
+    }
+
+    /**
+     * 특정 이벤트의 좌석을 응답 형태로 바로 조회
+     * 좌석 배치도의 배열 값을 변환 함수에 바로 넘기므로 좌석마다 Seat 객체를 만들지 않음
+     */
+    @Override
+    public <T> List<T> findSeatViews(Long eventId, SeatStatus status, SeatView<T> view) {
+        SeatStateGrid grid = seatStateEngine.getGrid(eventId);
+        return grid == null ? List.of() : grid.viewSeats(status, view);
+    }
+
+    /**
+     * 특정 이벤트의 좌석을 위치(행, 열)로 조회
+     * 메모리의 좌석 배치도에서 조회
+     * @throws ApiException 좌석이 존재하지 않을 경우 SEAT_NOT_FOUND
+     */
+    @Override
+    public Seat findByEventIdAndPosition(Long eventId, int row, int col) {
+        SeatStateGrid grid = seatStateEngine.getGrid(eventId);
+        Seat seat = grid == null ? null : grid.getSeat(row, col);
+        if (seat == null) {
+            throw new ApiException(EventErrorCode.SEAT_NOT_FOUND);
+        }
+        return seat;
+    }
+
+    /**
+     * 연속된 AVAILABLE 좌석 묶음 추천
+     * 메모리의 좌석 배치도에서 행별 세그먼트 트리로 탐색
+     */
+    @Override
+    public List<SeatBlock> findBestAvailable(Long eventId, int count, int limit) {
+        SeatStateGrid grid = seatStateEngine.getGrid(eventId);
+        return grid == null ? List.of() : grid.findBestAvailable(count, limit);
+    }
+
+    /**
+     * 특정 버전 이후 변경된 좌석 조회
+     * 메모리의 좌석 배치도에 기록된 최근 변경 내역에서 조회
+     */
+    @Override
+    public SeatMapChanges findChangesSince(Long eventId, long sinceVersion) {
+        SeatStateGrid grid = seatStateEngine.getGrid(eventId);
+        return grid == null ? null : grid.changesSince(sinceVersion);
+    }
+
+    /**
+     * 특정 이벤트의 저장된 좌석 수 (DB 조회)
+     * @param eventId 이벤트 ID
+     * @return 저장된 좌석 수
+     */
+    @Override
+    public long countByEventId(Long eventId) {
+        return seatJpaRepository.countByEventId(eventId);
+    }
+
+    /**
+     * 전체 이벤트에서 특정 상태의 좌석 조회 (DB 조회)
+     * @param status 조회할 좌석 상태
+     * @return 해당 상태의 좌석 목록
+     */
+    @Override
+    public List<Seat> findByStatus(SeatStatus status) {
+        return seatJpaRepository.findByStatus(status)
+                .stream()
+                .map(SeatEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * 만료 시간이 지난 HOLD 좌석 조회 (DB 조회)
+     * @param currentTime 현재 시간
+     * @return 만료된 HOLD 좌석 목록
+     */
+    @Override
+    public List<Seat> findExpiredHoldSeats(LocalDateTime currentTime) {
+        return seatJpaRepository.findExpiredHoldSeats(currentTime)
                 .stream()
                 .map(SeatEntity::toDomain)
                 .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,275 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStateGrid;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트별 좌석 상태 비트셋(SeatStateGrid)을 메모리에 유지하는 엔진
+ * 좌석 조회는 DB 대신 이 엔진에서 처리하고, SeatWriter의 변경 사항은 커밋 후 반영
+ * 다중 인스턴스 환경을 고려해 reload-interval 주기로 DB 상태를 다시 반영
+ *
+ * - 최초 적재는 이벤트당 한 스레드만 수행하고 같은 이벤트를 요청한 스레드는 결과를 기다림
+ *   (DB 조회는 ConcurrentHashMap 의 잠금 밖에서 수행해 다른 이벤트의 조회/변경을 막지 않음)
+ * - 다시 반영은 전용 스레드에서 주기적으로 수행하므로 조회 요청은 DB를 기다리지 않음
+ *   (마지막 반영 이후 조회되지 않은 배치도는 건너뜀)
+ * - 쓰기 지연 큐가 충돌을 처리하며 DB와 달라진 좌석(버전, 상태)은 바로 반영
+ *
+ * DB에 없는 위치의 좌석은 이벤트 배치(행 × 열)와 기본 가격으로 채운 AVAILABLE 좌석 (좌석 ID 없음)
+ * 지연 생성 방식에서는 상태가 바뀐 좌석만 DB에 있으므로 저장된 좌석과 배치를 합쳐 전체 좌석을 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateEngine {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final SeatJpaRepository seatJpaRepository;
+    private final SeatWriteBehindQueue seatWriteBehindQueue;
+
+    private final Map<Long, Entry> grids = new ConcurrentHashMap<>();
+
+    // eventId -> 진행 중인 최초 적재
+    private final Map<Long, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService refresher;
+
+    @Value("${seat-map.max-events:500}")
+    private int maxEvents;
+
+    @Value("${seat-map.reload-interval-ms:1000}")
+    private long reloadIntervalMs;
+
+    @Value("${seat-map.change-log-size:4096}")
+    private int changeLogSize;
+
+    @PostConstruct
+    public void start() {
+        seatWriteBehindQueue.setConflictListener(this::apply);
+        refresher = Executors.newSingleThreadScheduledExecutor(daemonThreads("seat-map-refresh"));
+        refresher.scheduleWithFixedDelay(this::refreshStale, reloadIntervalMs, reloadIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 이벤트 좌석 배치도 조회
+     * 적재되지 않은 경우 DB에서 적재 (갱신은 refreshStale 에서 비동기로 수행)
+     * @param eventId 이벤트 ID
+     * @return 좌석 배치도, 이벤트가 존재하지 않으면 null
+     */
+    public SeatStateGrid getGrid(Long eventId) {
+        Entry entry = grids.get(eventId);
+        if (entry == null) {
+            entry = loadOnce(eventId);
+            return entry == null ? null : entry.grid;
+        }
+        entry.lastAccessAt = System.currentTimeMillis();
+        return entry.grid;
+    }
+
+    /**
+     * reload 주기가 지난 배치도를 DB 상태로 갱신 (refresher 스레드에서 실행)
+     * 실패한 배치도는 기존 상태를 유지하고 다음 주기에 재시도
+     */
+    void refreshStale() {
+        long now = System.currentTimeMillis();
+        for (Entry entry : grids.values()) {
+            if (now - entry.loadedAt < reloadIntervalMs || entry.lastAccessAt < entry.loadedAt) {
+                continue;
+            }
+            try {
+                refresh(entry, now);
+            } catch (Exception e) {
+                log.error("좌석 배치도 갱신 실패 (다음 주기에 재시도): eventId={}", entry.grid.getEventId(), e);
+            }
+        }
+    }
+
+    /**
+     * 좌석 변경 사항 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영
+     */
+    public void apply(Seat seat) {
+        apply(List.of(seat));
+    }
+
+    /**
+     * 다중 좌석 변경 사항 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영
+     */
+    public void apply(List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(seats);
+                }
+            });
+            return;
+        }
+        applyNow(seats);
+    }
+
+    /**
+     * 이벤트 좌석 배치도 제거 (다음 조회 시 다시 적재)
+     */
+    public void evict(Long eventId) {
+        grids.remove(eventId);
+    }
+
+    private void applyNow(List<Seat> seats) {
+        for (Seat seat : seats) {
+            Entry entry = grids.get(seat.getEventId());
+            // 적재되지 않은 이벤트는 다음 조회 시 DB에서 적재되므로 무시
+            if (entry != null) {
+                entry.grid.put(seat);
+            }
+        }
+    }
+
+    private Entry loadOnce(Long eventId) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loading.putIfAbsent(eventId, created);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            // 다른 스레드가 방금 적재를 마쳤으면 그 결과를 사용
+            Entry entry = grids.get(eventId);
+            if (entry == null) {
+                entry = load(eventId, System.currentTimeMillis());
+                if (entry != null) {
+                    grids.put(eventId, entry);
+                    evictIfFull();
+                }
+            }
+            created.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(eventId, created);
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Entry load(Long eventId, long now) {
+        EventEntity event = eventJpaRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return null;
+        }
+
+        SeatStateGrid grid = new SeatStateGrid(eventId, event.getTotalRows(), event.getTotalCols(), changeLogSize);
+        for (SeatEntity seat : seatJpaRepository.findByEventIdOrderByRowAscColAsc(eventId)) {
+            grid.putIfNewer(latestOf(seat));
+        }
+        fillLayout(grid);
+
+        log.debug("좌석 배치도 적재: eventId={}", eventId);
+        return new Entry(grid, now);
+    }
+
+    /**
+     * DB에서 다시 읽은 좌석 반영
+     * 읽은 뒤에 쓰기 지연 큐가 반영을 마쳐 대기 중인 변경이 사라졌을 수 있으므로
+     * 배치도보다 버전이 낮은(이전 상태의) 좌석은 건너뜀
+     */
+    private void refresh(Entry entry, long now) {
+        for (SeatEntity seat : seatJpaRepository.findByEventIdOrderByRowAscColAsc(entry.grid.getEventId())) {
+            entry.grid.putIfNewer(latestOf(seat));
+        }
+        entry.loadedAt = now;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 변경이 있으면 쓰기 지연 큐의 상태가 최신
+     */
+    private Seat latestOf(SeatEntity seat) {
+        Seat pending = seatWriteBehindQueue.getPending(seat.getEventId(), seat.getRow(), seat.getCol());
+        return pending != null ? pending : seat.toDomain();
+    }
+
+    /**
+     * DB에 저장되지 않은 위치를 배치 좌석으로 채움
+     * 저장 대기 중인 변경이 있으면 그 상태를 사용
+     */
+    private void fillLayout(SeatStateGrid grid) {
+        Long eventId = grid.getEventId();
+        for (int row = 1; row <= grid.getTotalRows(); row++) {
+            for (int col = 1; col <= grid.getTotalCols(); col++) {
+                if (grid.statusAt(row, col) != null) {
+                    continue;
+                }
+                Seat pending = seatWriteBehindQueue.getPending(eventId, row, col);
+                grid.put(pending != null ? pending : new Seat(eventId, row, col, Seat.DEFAULT_PRICE));
+            }
+        }
+    }
+
+    private void evictIfFull() {
+        if (grids.size() <= maxEvents) {
+            return;
+        }
+        // 가장 오래 조회되지 않은 이벤트부터 제거
+        grids.entrySet().stream()
+                .min((a, b) -> Long.compare(a.getValue().lastAccessAt, b.getValue().lastAccessAt))
+                .ifPresent(oldest -> grids.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Entry {
+        private final SeatStateGrid grid;
+        private volatile long loadedAt;
+        private volatile long lastAccessAt;
+
+        private Entry(SeatStateGrid grid, long loadedAt) {
+            this.grid = grid;
+            this.loadedAt = loadedAt;
+            this.lastAccessAt = loadedAt;
+        }
+    }
+}
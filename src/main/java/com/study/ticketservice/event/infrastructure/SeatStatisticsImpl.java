@@ -0,0 +1,138 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.application.SeatStatistics;
+import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.event.domain.SeatStatusCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트별 좌석 상태 개수를 메모리에 유지하는 구현체
+ * HOLD/SOLD 개수만 보관하고 AVAILABLE 은 전체 좌석 수에서 뺀 값 (지연 생성 방식의 저장되지 않은 좌석 포함)
+ *
+ * - 처음 조회할 때 DB에서 (event_id, status) 별로 세어 적재, 목록 조회는 없는 이벤트를 한 번에 조회
+ *   쓰기 지연 큐에서 아직 DB에 반영되지 않은 전이도 더해 이 서버의 좌석 배치도와 같은 값으로 적재
+ * - 이 서버의 좌석 상태 전이는 바로 증감으로 반영
+ * - 다른 서버의 전이로 어긋난 값은 refresh-interval-ms 가 지난 뒤 조회할 때 다시 적재한 값으로 교체
+ * - 최대 max-events 개 이벤트를 보관하고 넘으면 가장 오래 전에 적재한 이벤트부터 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStatisticsImpl implements SeatStatistics {
+
+    private final SeatJpaRepository seatJpaRepository;
+    private final SeatWriteBehindQueue seatWriteBehindQueue;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${seat-stats.refresh-interval-ms:30000}")
+    private long refreshIntervalMs;
+
+    @Value("${seat-stats.max-events:10000}")
+    private int maxEvents;
+
+    /**
+     * 좌석 상태 전이 반영
+     * 적재되지 않은 이벤트는 다음 조회 시 DB에서 적재되므로 무시
+     */
+    @Override
+    public void record(Long eventId, SeatStatus from, SeatStatus to, int count) {
+        Entry entry = entries.get(eventId);
+        if (entry == null || from == to) {
+            return;
+        }
+        entry.add(from, -count);
+        entry.add(to, count);
+    }
+
+    @Override
+    public SeatStatusCounts getCounts(Long eventId, int capacity) {
+        return getCounts(Map.of(eventId, capacity)).get(eventId);
+    }
+
+    /**
+     * 여러 이벤트의 좌석 상태 개수 조회
+     * 적재되지 않았거나 refresh 주기가 지난 이벤트는 쿼리 한 번으로 다시 적재
+     */
+    @Override
+    public Map<Long, SeatStatusCounts> getCounts(Map<Long, Integer> capacities) {
+        long now = System.currentTimeMillis();
+        List<Long> stale = new ArrayList<>();
+        capacities.keySet().forEach(eventId -> {
+            Entry entry = entries.get(eventId);
+            if (entry == null || now - entry.loadedAt >= refreshIntervalMs) {
+                stale.add(eventId);
+            }
+        });
+        if (!stale.isEmpty()) {
+            load(stale, now);
+        }
+
+        Map<Long, SeatStatusCounts> counts = new HashMap<>();
+        capacities.forEach((eventId, capacity) -> {
+            Entry entry = entries.get(eventId);
+            int hold = entry == null ? 0 : Math.max(entry.hold.get(), 0);
+            int sold = entry == null ? 0 : Math.max(entry.sold.get(), 0);
+            counts.put(eventId, SeatStatusCounts.of(capacity, hold, sold));
+        });
+        return counts;
+    }
+
+    private void load(List<Long> eventIds, long now) {
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (Long eventId : eventIds) {
+            loaded.put(eventId, new Entry(now));
+        }
+        for (Object[] row : seatJpaRepository.countReservedByEventIds(eventIds)) {
+            Entry entry = loaded.get((Long) row[0]);
+            if (entry != null) {
+                entry.add((SeatStatus) row[1], ((Number) row[2]).intValue());
+            }
+        }
+        // DB에는 아직 기대 상태로 남아 있는 좌석
+        for (SeatWriteBehindQueue.PendingWrite write : seatWriteBehindQueue.getPendingWrites(loaded.keySet())) {
+            Entry entry = loaded.get(write.seat().getEventId());
+            entry.add(write.expectedStatus(), -1);
+            entry.add(write.seat().getStatus(), 1);
+        }
+        entries.putAll(loaded);
+        evictIfFull();
+        log.debug("좌석 상태 개수 적재: events={}", eventIds.size());
+    }
+
+    private void evictIfFull() {
+        while (entries.size() > maxEvents) {
+            entries.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().loadedAt, b.getValue().loadedAt))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private static final class Entry {
+        private final AtomicInteger hold = new AtomicInteger();
+        private final AtomicInteger sold = new AtomicInteger();
+        private final long loadedAt;
+
+        private Entry(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        private void add(SeatStatus status, int delta) {
+            switch (status) {
+                case HOLD -> hold.addAndGet(delta);
+                case SOLD -> sold.addAndGet(delta);
+                case AVAILABLE -> { }
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 상태 쓰기 지연(write-behind) 큐
+ * 좌석별 최신 상태만 보관하고 주기적으로 DB에 일괄 반영
+ * 같은 좌석의 변경이 여러 번 들어와도 마지막 상태만 기록되므로 순서가 뒤바뀌지 않음
+ * 변경 전 상태와 버전을 함께 보관해 그대로인 경우에만 반영하고(조건부 UPDATE), 버전은 좌석 배치도와 같은 값으로 맞춤
+ * 같은 상태, 같은 버전에서 함께 바뀐 좌석들은 UPDATE 한 번으로 묶어서 반영
+ * 다른 요청이 먼저 변경해 충돌한 좌석은 DB 값을 다시 읽어 더 최근 변경이면 버리고, 아니면 DB 버전 기준으로 다음 주기에 재시도
+ * (DB와 달라진 좌석 버전/상태는 conflict-listener 로 좌석 배치도에 반영)
+ * 아직 DB에 없는 좌석(지연 생성 방식, 좌석 ID 없음)은 여러 행 INSERT ... ON DUPLICATE KEY UPDATE 로 저장
+ *
+ * 대기 중인 변경은 메모리에만 있으므로 서버가 비정상 종료되면 최대 flush-interval 동안의 변경이 DB에서 유실될 수 있음
+ * 좌석 상태의 기준은 SeatHoldStore(Redis)이고, 유실된 변경은 SeatStateReconciler 가 그 상태로 다시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatWriteBehindQueue {
+
+    private final SeatJpaRepository seatJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatBulkInserter seatBulkInserter;
+
+    // 좌석 위치 -> 반영 대기 중인 최신 좌석 상태 (아직 저장되지 않아 좌석 ID 가 없는 좌석도 포함)
+    private final Map<SeatKey, PendingWrite> pending = new ConcurrentHashMap<>();
+
+    // DB와 달라진 좌석을 받아 좌석 배치도에 반영 (SeatStateEngine 이 등록)
+    private volatile Consumer<Seat> conflictListener = seat -> { };
+
+    @Value("${seat-hold.write-behind.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 좌석 상태 반영 요청
+     * 이미 대기 중인 좌석이면 최신 상태로 교체하고, DB는 아직 이전 상태이므로 처음 기대한 상태와 버전을 유지
+     *
+     * @param seat 변경된 좌석 (변경 후 버전 포함)
+     * @param expectedStatus 변경 전 좌석 상태
+     * @param expectedVersion 변경 전 버전
+     */
+    public void enqueue(Seat seat, SeatStatus expectedStatus, long expectedVersion) {
+        pending.merge(SeatKey.of(seat), new PendingWrite(seat, expectedStatus, expectedVersion),
+                (queued, latest) -> new PendingWrite(latest.seat(), queued.expectedStatus(), queued.expectedVersion()));
+    }
+
+    /**
+     * @return DB 반영 대기 중인 좌석 상태, 없으면 null
+     */
+    public Seat getPending(Long eventId, int row, int col) {
+        PendingWrite write = pending.get(new SeatKey(eventId, row, col));
+        return write == null ? null : write.seat();
+    }
+
+    /**
+     * 이벤트들의 DB 반영 대기 중인 변경 (DB의 현재 상태 = 기대 상태)
+     * 좌석 상태 개수를 DB에서 다시 셀 때 아직 반영되지 않은 전이를 더하는 데 사용
+     */
+    List<PendingWrite> getPendingWrites(Collection<Long> eventIds) {
+        return pending.values().stream()
+                .filter(write -> eventIds.contains(write.seat().getEventId()))
+                .toList();
+    }
+
+    /**
+     * 충돌 처리로 DB와 달라진 좌석을 받을 리스너 등록
+     */
+    public void setConflictListener(Consumer<Seat> conflictListener) {
+        this.conflictListener = conflictListener;
+    }
+
+    /**
+     * 대기 중인 좌석 상태를 batch-size 단위 트랜잭션으로 DB에 반영
+     * 실패한 배치는 큐에 남겨 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${seat-hold.write-behind.flush-interval-ms:100}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        for (PendingWrite write : pending.values()) {
+            batch.add(write);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("DB에 반영되지 못한 좌석 상태: {}건", pending.size());
+        }
+    }
+
+    private void write(List<PendingWrite> batch) {
+        // 같은 상태, 같은 버전에서 함께 바뀐 좌석(다중 좌석 HOLD 등)은 UPDATE 한 번으로 반영
+        Map<StatusChange, List<PendingWrite>> changes = new LinkedHashMap<>();
+        List<Seat> unsaved = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            if (write.seat().getSeatId() == null) {
+                unsaved.add(write.seat());
+                continue;
+            }
+            changes.computeIfAbsent(StatusChange.of(write), change -> new ArrayList<>()).add(write);
+        }
+        List<PendingWrite> conflicted = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                changes.forEach((change, writes) -> {
+                    List<Long> seatIds = writes.stream().map(write -> write.seat().getSeatId()).toList();
+                    int updated = seatJpaRepository.updateStatusIfUnchanged(seatIds, change.expectedStatus(),
+                            change.expectedVersion(), change.status(), change.holdExpiresAt(), change.updatedAt(),
+                            change.version());
+                    if (updated < seatIds.size()) {
+                        conflicted.addAll(writes);
+                    }
+                });
+                if (!unsaved.isEmpty()) {
+                    seatBulkInserter.upsert(unsaved);
+                }
+            });
+        } catch (Exception e) {
+            log.error("좌석 상태 DB 반영 실패 (다음 주기에 재시도): {}건", batch.size(), e);
+            return;
+        }
+        // 반영 중에 더 새로운 상태가 들어온 좌석은 큐에 남김
+        for (PendingWrite write : batch) {
+            if (!conflicted.contains(write)) {
+                pending.remove(SeatKey.of(write.seat()), write);
+            }
+        }
+        if (!conflicted.isEmpty()) {
+            resolve(conflicted);
+        }
+    }
+
+    /**
+     * 조건부 UPDATE 가 적용되지 않은 좌석 처리 (함께 묶인 좌석 중 일부만 충돌했을 수 있음)
+     * DB 값을 다시 읽어 이미 반영된 좌석은 제거, 더 최근에 변경된 좌석은 DB 값을 따르고,
+     * 그 외에는 DB 상태와 버전을 기대값으로 바꿔 다음 주기에 재시도
+     */
+    private void resolve(List<PendingWrite> conflicted) {
+        Map<Long, SeatEntity> rows = seatJpaRepository.findAllById(
+                        conflicted.stream().map(write -> write.seat().getSeatId()).toList()).stream()
+                .collect(Collectors.toMap(SeatEntity::getSeatId, Function.identity()));
+        for (PendingWrite write : conflicted) {
+            Seat seat = write.seat();
+            SeatKey key = SeatKey.of(seat);
+            SeatEntity row = rows.get(seat.getSeatId());
+            if (row == null || (row.getStatus() == seat.getStatus() && row.getVersion() == seat.getVersion())) {
+                pending.remove(key, write);
+            } else if (row.getUpdatedAt() != null && row.getUpdatedAt().isAfter(seat.getUpdatedAt())) {
+                if (pending.remove(key, write)) {
+                    log.warn("더 최근에 변경된 좌석 상태 유지: seatId={}, status={}", row.getSeatId(), row.getStatus());
+                    conflictListener.accept(row.toDomain());
+                }
+            } else if (pending.replace(key, write, new PendingWrite(seat, row.getStatus(), row.getVersion()))
+                    && seat.getVersion() != row.getVersion() + 1) {
+                seat.setVersion(row.getVersion() + 1);
+                conflictListener.accept(seat);
+            }
+        }
+    }
+
+    private record SeatKey(Long eventId, int row, int col) {
+        private static SeatKey of(Seat seat) {
+            return new SeatKey(seat.getEventId(), seat.getRow(), seat.getCol());
+        }
+    }
+
+    record PendingWrite(Seat seat, SeatStatus expectedStatus, long expectedVersion) {
+    }
+
+    private record StatusChange(SeatStatus expectedStatus, long expectedVersion, SeatStatus status,
+                                LocalDateTime holdExpiresAt, LocalDateTime updatedAt, long version) {
+        private static StatusChange of(PendingWrite write) {
+            Seat seat = write.seat();
+            return new StatusChange(write.expectedStatus(), write.expectedVersion(), seat.getStatus(),
+                    seat.getHoldExpiresAt(), seat.getUpdatedAt(), seat.getVersion());
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.study.ticketservice.event.infrastructure;
 
+import com.study.ticketservice.event.application.SeatTransitionResult;
 import com.study.ticketservice.event.application.SeatWriter;
 import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -15,6 +20,10 @@ import java.util.List;
 public class SeatWriterImpl implements SeatWriter {
 
     private final SeatJpaRepository seatJpaRepository;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatWriteBehindQueue seatWriteBehindQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatBulkInserter seatBulkInserter;
 
     /**
      * 단일 좌석 저장 (생성 및 수정)
@@ -29,8 +38,10 @@ public class SeatWriterImpl implements SeatWriter {
         SeatEntity entity = SeatEntity.from(seat);
 
         SeatEntity savedEntity = seatJpaRepository.save(entity);
-    
-        return savedEntity.toDomain();
+
+        Seat savedSeat = savedEntity.toDomain();
+        seatStateEngine.apply(savedSeat);
+        return savedSeat;
     }
 
     /**
@@ -49,8 +60,99 @@ public class SeatWriterImpl implements SeatWriter {
 
         List<SeatEntity> savedEntities = seatJpaRepository.saveAll(entities);
         
-        return savedEntities.stream()
-                .map(SeatEntity::toDomain) 
+        List<Seat> savedSeats = savedEntities.stream()
+                .map(SeatEntity::toDomain)
+                .toList();
+        seatStateEngine.apply(savedSeats);
+        return savedSeats;
+    }
+
+    /**
+     * 좌석 대량 생성
+     * 여러 행을 담은 INSERT 문으로 저장하고 좌석 배치도는 다음 조회 시 다시 적재
+     *
+     * @param seats 생성할 Seat 객체 리스트
+     * @return 새로 저장된 좌석 수
+     */
+    @Override
+    public int insertAll(List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return 0;
+        }
+        int inserted = seatBulkInserter.insert(seats);
+        seats.stream()
+                .map(Seat::getEventId)
+                .distinct()
+                .forEach(seatStateEngine::evict);
+        return inserted;
+    }
+
+    /**
+     * 좌석 상태 변경 (상태, HOLD 만료 시간)
+     * 버전을 1 증가시켜 좌석 배치도에는 즉시 반영하고 DB에는 쓰기 지연 큐를 통해 조건부로 반영
+     * (DB에도 같은 버전으로 기록되므로 이후 조건부 전이가 어긋난 버전으로 충돌하지 않음)
+     *
+     * @param seats 상태가 변경된 Seat 객체 리스트 (읽은 시점의 버전 포함)
+     * @param expectedStatus 읽은 시점의 좌석 상태
+     */
+    @Override
+    public void updateStatusAsync(List<Seat> seats, SeatStatus expectedStatus) {
+        List<Long> expectedVersions = seats.stream().map(Seat::getVersion).toList();
+        for (Seat seat : seats) {
+            seat.setVersion(seat.getVersion() + 1);
+        }
+        seatStateEngine.apply(seats);
+        for (int i = 0; i < seats.size(); i++) {
+            seatWriteBehindQueue.enqueue(seats.get(i), expectedStatus, expectedVersions.get(i));
+        }
+    }
+
+    /**
+     * 조건부 좌석 상태 전이
+     * UPDATE ... WHERE seat_id = ? AND status = ? AND version = ? 를 한 트랜잭션에서 실행
+     * 좌석 ID 순으로 처리해 트랜잭션 간 교착을 막고, 충돌 시 롤백 후 결과로 반환
+     * 쓰기 지연 큐에 더 최신 상태가 대기 중인 좌석도 충돌로 처리
+     * 아직 저장되지 않은 배치 좌석(좌석 ID 없음)은 AVAILABLE 에서 전이할 때만 INSERT IGNORE 로 저장하고,
+     * 같은 위치에 먼저 저장된 좌석이 있으면 충돌로 처리
+     *
+     * @param seats 상태가 변경된 Seat 객체 리스트 (읽은 시점의 버전 포함)
+     * @param expectedStatus 읽은 시점의 좌석 상태
+     * @return 전이 결과 (실패 시 충돌한 좌석 포함)
+     */
+    @Override
+    public SeatTransitionResult transition(List<Seat> seats, SeatStatus expectedStatus) {
+        List<Seat> ordered = seats.stream()
+                .sorted(Comparator.comparing(Seat::getSeatId, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparingInt(Seat::getRow)
+                        .thenComparingInt(Seat::getCol))
                 .toList();
+
+        return transactionTemplate.execute(status -> {
+            List<Seat> updated = new ArrayList<>(ordered.size());
+            for (Seat seat : ordered) {
+                boolean pending = seatWriteBehindQueue.getPending(seat.getEventId(), seat.getRow(), seat.getCol()) != null;
+                boolean changed;
+                if (pending) {
+                    changed = false;
+                } else if (seat.getSeatId() == null) {
+                    changed = expectedStatus == SeatStatus.AVAILABLE && seatBulkInserter.insert(List.of(seat)) == 1;
+                } else {
+                    changed = seatJpaRepository.transitionStatus(seat.getSeatId(), expectedStatus, seat.getVersion(),
+                            seat.getStatus(), seat.getHoldExpiresAt(), seat.getUpdatedAt()) == 1;
+                    updated.add(seat);
+                }
+                if (!changed) {
+                    status.setRollbackOnly();
+                    return SeatTransitionResult.conflicted(seat);
+                }
+            }
+            // 새로 저장된 좌석은 읽은 시점의 버전 그대로 저장됨
+            for (Seat seat : updated) {
+                seat.setVersion(seat.getVersion() + 1);
+            }
+            // 커밋된 후에 좌석 배치도에 반영
+            seatStateEngine.apply(ordered);
+            return SeatTransitionResult.succeeded();
+        });
     }
-}
\ No newline at end of file
+}
@@ -2,36 +2,52 @@ package com.study.ticketservice.event.presentation;
 
 import com.study.ticketservice.common.response.ApiResponse;
 import com.study.ticketservice.event.application.EventService;
+import com.study.ticketservice.event.application.SeatHoldService;
+import com.study.ticketservice.event.application.SeatStreamService;
 import com.study.ticketservice.event.application.dto.request.EventCreateRequest;
 import com.study.ticketservice.event.application.dto.request.EventUpdateRequest;
+import com.study.ticketservice.event.application.dto.request.SeatBestAvailableRequest;
+import com.study.ticketservice.event.application.dto.request.SeatHoldRequest;
+import com.study.ticketservice.event.application.dto.response.EventCursorPageResponse;
 import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
 import com.study.ticketservice.event.application.dto.response.EventListResponse;
 import com.study.ticketservice.event.application.dto.response.EventStatusResponse;
 import com.study.ticketservice.event.application.dto.response.SeatDetailResponse;
+import com.study.ticketservice.event.application.dto.response.SeatHoldResponse;
+import com.study.ticketservice.event.application.dto.response.SeatMapChangesResponse;
+import com.study.ticketservice.event.application.dto.response.SeatProvisioningResponse;
 import com.study.ticketservice.event.domain.SeatStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import com.study.ticketservice.common.response.PageInfo;
 import com.study.ticketservice.common.response.EventListApiResponse;
+import com.study.ticketservice.common.response.CursorInfo;
+import com.study.ticketservice.common.response.EventCursorListApiResponse;
 
 /**
  * Event API 컨트롤러
  * 관리자용 이벤트 관리 기능과 공개용 조회 기능으로 구분
+ * 변경 API 는 Idempotency-Key 헤더를 보내면 재시도해도 한 번만 처리 (IdempotencyFilter)
  */
 @RestController
 @RequiredArgsConstructor
 public class EventApiController {
 
     private final EventService eventService;
+    private final SeatHoldService seatHoldService;
+    private final SeatStreamService seatStreamService;
 
     /**
      * 이벤트 생성 API
@@ -65,6 +81,21 @@ public class EventApiController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 좌석 생성 진행 상황 조회 API
+     * 관리자만 접근 가능하며 이벤트 생성 후 비동기로 진행되는 좌석 생성 상태를 반환
+     * @param eventId 조회할 이벤트 ID
+     * @return 좌석 생성 상태와 생성된 좌석 수
+     */
+    @GetMapping("/v1/admin/events/{eventId}/seats/provisioning")
+    @PreAuthorize("hasAuthority('EVENT_CREATE')")
+    public ResponseEntity<ApiResponse<SeatProvisioningResponse>> getSeatProvisioning(
+            @PathVariable @Min(1) Long eventId) {
+
+        SeatProvisioningResponse response = eventService.getSeatProvisioning(eventId);
+        return ApiResponse.success(response);
+    }
+
     /**
      * 이벤트 발행 API
      * 관리자만 접근 가능하며 DRAFT 상태의 이벤트를 PUBLISHED로 변경
@@ -130,6 +161,24 @@ public class EventApiController {
         return ResponseEntity.ok(EventListApiResponse.of("EVENTS_LIST", pageInfo, items));
     }
 
+    /**
+     * 이벤트 목록 커서 조회 API (공개)
+     * 최근 생성 순으로 이어서 조회하며 전체 개수는 제공하지 않음 (전체 개수가 필요하면 page/size 조회 사용)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 조회할 이벤트 수
+     * @return 이벤트 목록과 다음 페이지 커서
+     */
+    @GetMapping(value = "/v1/events", params = "cursor")
+    public ResponseEntity<EventCursorListApiResponse> getEventsAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        EventCursorPageResponse events = eventService.getEventsAfter(cursor, size);
+        CursorInfo cursorInfo = CursorInfo.of(size, events.nextCursor());
+
+        return ResponseEntity.ok(EventCursorListApiResponse.of("EVENTS_LIST", cursorInfo, events.items()));
+    }
+
     /**
      * 이벤트 상세 조회 API (공개)
      * 모든 사용자가 접근 가능하며 특정 이벤트의 상세 정보를 제공
@@ -157,4 +206,117 @@ public class EventApiController {
         List<SeatDetailResponse> seats = eventService.getEventSeats(eventId, status);
         return ApiResponse.success(seats);
     }
-}
\ No newline at end of file
+
+    /**
+     * 이벤트 좌석 변경분 조회 API (공개)
+     * 주기적으로 좌석을 조회하는 클라이언트용, sinceVersion 이후 바뀐 좌석만 반환
+     * 처음 조회하거나 버전이 너무 오래되었으면 전체 좌석을 반환 (snapshot = true)
+     * @param eventId 조회할 이벤트 ID
+     * @param sinceVersion 마지막으로 받은 좌석 배치도 버전 (처음이면 0)
+     * @return 현재 버전과 변경된 좌석 목록
+     */
+    @GetMapping(value = "/v1/events/{eventId}/seats", params = "sinceVersion")
+    public ResponseEntity<ApiResponse<SeatMapChangesResponse>> getEventSeatChanges(
+            @PathVariable Long eventId,
+            @RequestParam long sinceVersion) {
+
+        SeatMapChangesResponse response = eventService.getEventSeatChanges(eventId, sinceVersion);
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 이벤트 좌석 상태 스트림 API (Server-Sent Events)
+     * 좌석 조회를 반복하는 대신 연결을 유지하고 변경된 좌석을 전달받음
+     * 처음에는 전체 좌석을, 이후에는 변경된 좌석만 "seats" 이벤트로 전송 (이벤트 id = 좌석 배치도 버전)
+     * @param eventId 구독할 이벤트 ID
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 이벤트 id
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/v1/events/{eventId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEventSeats(
+            @PathVariable Long eventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return seatStreamService.subscribe(eventId, lastEventId);
+    }
+
+    /**
+     * 좌석 HOLD API
+     * EVENT_SEAT_RESERVE 권한이 필요하며 요청한 좌석을 모두 HOLD 하거나 하나도 HOLD 하지 않음
+     * @param eventId 이벤트 ID
+     * @param userId 인증된 사용자 ID
+     * @param admissionToken 대기열 입장 토큰
+     * @param request HOLD 할 좌석 목록
+     * @return HOLD 된 좌석과 만료 시간
+     */
+    @PostMapping("/v1/events/{eventId}/seats/hold")
+    @PreAuthorize("hasAuthority('EVENT_SEAT_RESERVE')")
+    public ResponseEntity<ApiResponse<SeatHoldResponse>> holdSeats(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal Long userId,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+            @RequestBody SeatHoldRequest request) {
+
+        SeatHoldResponse response = seatHoldService.holdSeats(eventId, userId, admissionToken, request.toPositions());
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 추천 연속 좌석 HOLD API
+     * EVENT_SEAT_RESERVE 권한이 필요하며 앞 행, 가운데 순으로 연속된 빈 좌석을 찾아 HOLD
+     * @param eventId 이벤트 ID
+     * @param userId 인증된 사용자 ID
+     * @param admissionToken 대기열 입장 토큰
+     * @param request 연속 좌석 수
+     * @return HOLD 된 좌석과 만료 시간
+     */
+    @PostMapping("/v1/events/{eventId}/seats/hold/best-available")
+    @PreAuthorize("hasAuthority('EVENT_SEAT_RESERVE')")
+    public ResponseEntity<ApiResponse<SeatHoldResponse>> holdBestAvailableSeats(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal Long userId,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+            @RequestBody SeatBestAvailableRequest request) {
+
+        SeatHoldResponse response = seatHoldService.holdBestAvailable(eventId, userId, admissionToken, request.count());
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 좌석 HOLD 해제 API
+     * EVENT_SEAT_CANCEL 권한이 필요하며 본인이 HOLD 한 좌석을 모두 해제하거나 하나도 해제하지 않음
+     * @param eventId 이벤트 ID
+     * @param userId 인증된 사용자 ID
+     * @param request 해제할 좌석 목록
+     * @return 해제된 좌석 목록
+     */
+    @PostMapping("/v1/events/{eventId}/seats/release")
+    @PreAuthorize("hasAuthority('EVENT_SEAT_CANCEL')")
+    public ResponseEntity<ApiResponse<List<SeatDetailResponse>>> releaseSeats(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal Long userId,
+            @RequestBody SeatHoldRequest request) {
+
+        List<SeatDetailResponse> response = seatHoldService.releaseSeats(eventId, userId, request.toPositions());
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 좌석 판매 확정 API
+     * EVENT_SEAT_RESERVE 권한이 필요하며 본인이 HOLD 한 좌석을 모두 판매하거나 하나도 판매하지 않음
+     * @param eventId 이벤트 ID
+     * @param userId 인증된 사용자 ID
+     * @param request 판매할 좌석 목록
+     * @return 판매된 좌석 목록
+     */
+    @PostMapping("/v1/events/{eventId}/seats/sell")
+    @PreAuthorize("hasAuthority('EVENT_SEAT_RESERVE')")
+    public ResponseEntity<ApiResponse<List<SeatDetailResponse>>> sellSeats(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal Long userId,
+            @RequestBody SeatHoldRequest request) {
+
+        List<SeatDetailResponse> response = seatHoldService.sellSeats(eventId, userId, request.toPositions());
+        return ApiResponse.success(response);
+    }
+}
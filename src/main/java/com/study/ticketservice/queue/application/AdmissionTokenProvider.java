@@ -0,0 +1,90 @@
+package com.study.ticketservice.queue.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 대기열 입장 토큰 발급/검증
+ * 토큰 형식: {eventId}.{userId}.{만료 시각(ms)}.{HMAC-SHA256 서명}
+ * 서명만 다시 계산해 검증하므로 Redis/DB 조회 없이 HOLD 요청마다 확인 가능
+ * 서명 키(waiting-room.token-secret)는 기본값 없이 환경 변수로 받고, 없거나 32바이트 미만이면 서버 시작 실패
+ */
+@Component
+public class AdmissionTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecretKeySpec key;
+
+    // Mac 은 스레드 안전하지 않으므로 스레드별로 재사용
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public AdmissionTokenProvider(@Value("${waiting-room.token-secret}") String secret) {
+        if (secret == null || secret.isBlank() || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("대기열 입장 토큰 Secret(WAITING_ROOM_TOKEN_SECRET)이 없거나 32바이트 미만입니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        newMac();
+    }
+
+    /**
+     * @return 입장 토큰
+     */
+    public String issue(Long eventId, Long userId, long expiresAtMs) {
+        String payload = eventId + "." + userId + "." + expiresAtMs;
+        return payload + "." + sign(payload);
+    }
+
+    /**
+     * @return 해당 이벤트/사용자의 만료되지 않은 토큰이면 true
+     */
+    public boolean verify(String token, Long eventId, Long userId, long nowMs) {
+        if (token == null) {
+            return false;
+        }
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart < 0) {
+            return false;
+        }
+        String payload = token.substring(0, signatureStart);
+        String[] parts = payload.split("\\.");
+        if (parts.length != 3
+                || !parts[0].equals(String.valueOf(eventId))
+                || !parts[1].equals(String.valueOf(userId))) {
+            return false;
+        }
+        try {
+            if (Long.parseLong(parts[2]) <= nowMs) {
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(signatureStart + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private String sign(String payload) {
+        byte[] signature = macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("입장 토큰 서명 키 초기화 실패", e);
+        }
+    }
+}
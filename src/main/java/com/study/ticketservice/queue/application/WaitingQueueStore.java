@@ -0,0 +1,57 @@
+package com.study.ticketservice.queue.application;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이벤트별 FIFO 대기열 저장소
+ * 대기 중인 사용자와 입장이 허용된 사용자를 함께 관리
+ */
+public interface WaitingQueueStore {
+
+    /**
+     * 대기열 등록 (이미 대기 중이면 기존 순서 유지)
+     * @param eventId 이벤트 ID
+     * @param userId 사용자 ID
+     * @return 대기 순번 (0부터 시작), 이미 입장이 허용된 사용자면 -1
+     */
+    long enqueue(Long eventId, Long userId);
+
+    /**
+     * 대기 순번 조회 (O(log n))
+     * @return 대기 순번 (0부터 시작), 대기 중이 아니면 null
+     */
+    Long positionOf(Long eventId, Long userId);
+
+    /**
+     * @return 입장 허용 시각 (epoch ms), 입장이 허용되지 않았으면 null
+     */
+    Long admittedAt(Long eventId, Long userId);
+
+    /**
+     * 대기열 앞에서부터 count 명 입장 허용
+     * 입장 유효 시간(admissionTtlMs)이 지난 입장 기록은 함께 정리
+     * @return 입장이 허용된 사용자 ID 목록
+     */
+    List<Long> admit(Long eventId, int count, long nowMs, long admissionTtlMs);
+
+    /**
+     * @return 대기 중인 사용자 수
+     */
+    long size(Long eventId);
+
+    /**
+     * 대기열 열기 (입장 허용 대상 이벤트로 등록)
+     */
+    void open(Long eventId);
+
+    /**
+     * 대기열 닫기 (대기/입장 기록 삭제)
+     */
+    void close(Long eventId);
+
+    /**
+     * @return 대기열이 열린 이벤트 ID 목록
+     */
+    Set<Long> openEvents();
+}
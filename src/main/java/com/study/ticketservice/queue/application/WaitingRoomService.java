@@ -0,0 +1,139 @@
+package com.study.ticketservice.queue.application;
+
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.event.application.EventReader;
+import com.study.ticketservice.event.domain.EventErrorCode;
+import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.queue.application.dto.response.WaitingRoomResponse;
+import com.study.ticketservice.queue.domain.QueueErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 대기열(가상 대기실) 서비스
+ * 발행된 이벤트의 좌석 HOLD 요청 앞에서 입장 인원을 admit-rate-per-second 로 제한
+ *
+ * - 사용자는 이벤트별 FIFO 대기열에 등록하고 상태 조회로 순번을 확인
+ * - 스케줄러가 admit-interval-ms 마다 대기열 앞에서부터 입장 허용
+ * - 입장이 허용된 사용자는 서명된 입장 토큰으로 좌석 HOLD 요청
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private final EventReader eventReader;
+    private final WaitingQueueStore waitingQueueStore;
+    private final AdmissionTokenProvider admissionTokenProvider;
+
+    @Value("${waiting-room.enabled:true}")
+    private boolean enabled;
+
+    @Value("${waiting-room.admit-rate-per-second:200}")
+    private int admitRatePerSecond;
+
+    @Value("${waiting-room.admit-interval-ms:1000}")
+    private long admitIntervalMs;
+
+    @Value("${waiting-room.admission-ttl-seconds:600}")
+    private long admissionTtlSeconds;
+
+    /**
+     * 대기열 등록
+     * 이미 대기 중이면 기존 순번 유지, 이미 입장이 허용되었으면 입장 토큰 반환
+     * @throws ApiException 발행된 이벤트가 아니면 INVALID_EVENT_STATUS
+     */
+    public WaitingRoomResponse enter(Long eventId, Long userId) {
+        if (eventReader.findById(eventId).getStatus() != EventStatus.PUBLISHED) {
+            throw new ApiException(EventErrorCode.INVALID_EVENT_STATUS, "발행된 이벤트의 대기열만 입장할 수 있습니다");
+        }
+        waitingQueueStore.open(eventId);
+        long position = waitingQueueStore.enqueue(eventId, userId);
+        if (position < 0) {
+            return status(eventId, userId);
+        }
+        return WaitingRoomResponse.waiting(eventId, position + 1, estimatedWaitSeconds(position));
+    }
+
+    /**
+     * 대기열 상태 조회 (대기 순번 또는 입장 토큰)
+     */
+    public WaitingRoomResponse status(Long eventId, Long userId) {
+        Long admittedAt = waitingQueueStore.admittedAt(eventId, userId);
+        if (admittedAt != null) {
+            long expiresAtMs = admittedAt + admissionTtlSeconds * 1000;
+            String token = admissionTokenProvider.issue(eventId, userId, expiresAtMs);
+            LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMs), ZoneId.systemDefault());
+            return WaitingRoomResponse.admitted(eventId, token, expiresAt);
+        }
+        Long position = waitingQueueStore.positionOf(eventId, userId);
+        if (position == null) {
+            return WaitingRoomResponse.notInQueue(eventId);
+        }
+        return WaitingRoomResponse.waiting(eventId, position + 1, estimatedWaitSeconds(position));
+    }
+
+    /**
+     * 입장 토큰 검증 (좌석 HOLD 요청마다 호출)
+     * 서명과 만료 시간만 확인하므로 저장소 조회 없음
+     * @throws ApiException 토큰이 없으면 ADMISSION_REQUIRED, 유효하지 않으면 INVALID_ADMISSION_TOKEN
+     */
+    public void verifyAdmission(Long eventId, Long userId, String admissionToken) {
+        if (!enabled) {
+            return;
+        }
+        if (admissionToken == null || admissionToken.isBlank()) {
+            throw new ApiException(QueueErrorCode.ADMISSION_REQUIRED);
+        }
+        if (!admissionTokenProvider.verify(admissionToken, eventId, userId, System.currentTimeMillis())) {
+            throw new ApiException(QueueErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+    }
+
+    /**
+     * 대기열 열기 (이벤트 발행 시)
+     */
+    public void open(Long eventId) {
+        waitingQueueStore.open(eventId);
+    }
+
+    /**
+     * 대기열 닫기 (이벤트 종료/취소 시)
+     */
+    public void close(Long eventId) {
+        waitingQueueStore.close(eventId);
+    }
+
+    /**
+     * 대기열이 열린 이벤트마다 입장 허용
+     * 한 번에 admit-rate-per-second * admit-interval-ms / 1000 명씩 허용
+     */
+    @Scheduled(fixedDelayString = "${waiting-room.admit-interval-ms:1000}")
+    public void admit() {
+        int batch = (int) Math.max(1, admitRatePerSecond * admitIntervalMs / 1000);
+        long now = System.currentTimeMillis();
+        for (Long eventId : waitingQueueStore.openEvents()) {
+            try {
+                List<Long> admitted = waitingQueueStore.admit(eventId, batch, now, admissionTtlSeconds * 1000);
+                if (!admitted.isEmpty()) {
+                    log.debug("대기열 입장 허용: eventId={}, {}명, 남은 대기={}명",
+                            eventId, admitted.size(), waitingQueueStore.size(eventId));
+                }
+            } catch (Exception e) {
+                log.error("대기열 입장 처리 실패: eventId={}", eventId, e);
+            }
+        }
+    }
+
+    private long estimatedWaitSeconds(long position) {
+        return position / Math.max(1, admitRatePerSecond);
+    }
+}
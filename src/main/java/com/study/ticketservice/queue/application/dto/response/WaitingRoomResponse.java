@@ -0,0 +1,35 @@
+package com.study.ticketservice.queue.application.dto.response;
+
+import com.study.ticketservice.queue.domain.WaitingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열 상태 응답 DTO
+ * @param eventId 이벤트 ID
+ * @param status 대기열 상태
+ * @param position 대기 순번 (1부터 시작, 대기 중이 아니면 null)
+ * @param estimatedWaitSeconds 예상 대기 시간(초) (대기 중이 아니면 null)
+ * @param admissionToken 입장 토큰 (입장 허용 시에만 포함, X-Admission-Token 헤더로 전달)
+ * @param admissionExpiresAt 입장 토큰 만료 시간 (입장 허용 시에만 포함)
+ */
+public record WaitingRoomResponse(
+    Long eventId,
+    WaitingStatus status,
+    Long position,
+    Long estimatedWaitSeconds,
+    String admissionToken,
+    LocalDateTime admissionExpiresAt
+) {
+    public static WaitingRoomResponse waiting(Long eventId, long position, long estimatedWaitSeconds) {
+        return new WaitingRoomResponse(eventId, WaitingStatus.WAITING, position, estimatedWaitSeconds, null, null);
+    }
+
+    public static WaitingRoomResponse admitted(Long eventId, String admissionToken, LocalDateTime admissionExpiresAt) {
+        return new WaitingRoomResponse(eventId, WaitingStatus.ADMITTED, null, null, admissionToken, admissionExpiresAt);
+    }
+
+    public static WaitingRoomResponse notInQueue(Long eventId) {
+        return new WaitingRoomResponse(eventId, WaitingStatus.NOT_IN_QUEUE, null, null, null, null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.study.ticketservice.queue.domain;
+
+import com.study.ticketservice.common.response.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대기열 관련 에러 코드 정의
+ */
+@Getter
+@AllArgsConstructor
+public enum QueueErrorCode implements ErrorCode {
+
+    ADMISSION_REQUIRED(403, "대기열 입장 후 이용할 수 있습니다"),
+    INVALID_ADMISSION_TOKEN(403, "유효하지 않은 입장 토큰입니다");
+
+    private final int code;
+    private final String message;
+}
@@ -0,0 +1,21 @@
+package com.study.ticketservice.queue.domain;
+
+/**
+ * 대기열에서의 사용자 상태
+ */
+public enum WaitingStatus {
+    /**
+     * 대기 중 - 입장 순서를 기다리는 상태
+     */
+    WAITING,
+
+    /**
+     * 입장 허용 - 입장 토큰으로 좌석 HOLD 가능
+     */
+    ADMITTED,
+
+    /**
+     * 대기열에 없음 - 입장 신청 전이거나 입장 유효 시간이 지난 상태
+     */
+    NOT_IN_QUEUE
+}
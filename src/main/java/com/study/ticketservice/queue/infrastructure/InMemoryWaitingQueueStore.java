@@ -0,0 +1,177 @@
+package com.study.ticketservice.queue.infrastructure;
+
+import com.study.ticketservice.queue.application.WaitingQueueStore;
+import com.study.ticketservice.utils.FenwickTree;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 대기열 저장소 (Redis 를 사용할 수 없는 단일 서버 환경용)
+ * waiting-room.store=memory 일 때 사용
+ *
+ * 등록 순서(seq)를 인덱스로 하는 펜윅 트리에 대기 여부(0/1)를 기록해
+ * 대기 순번 = 내 앞 seq 구간의 합 으로 O(log n) 조회
+ */
+@Repository
+@ConditionalOnProperty(name = "waiting-room.store", havingValue = "memory")
+public class InMemoryWaitingQueueStore implements WaitingQueueStore {
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+
+    @Override
+    public long enqueue(Long eventId, Long userId) {
+        return queue(eventId).enqueue(userId);
+    }
+
+    @Override
+    public Long positionOf(Long eventId, Long userId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? null : queue.positionOf(userId);
+    }
+
+    @Override
+    public Long admittedAt(Long eventId, Long userId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? null : queue.admittedAt(userId);
+    }
+
+    @Override
+    public List<Long> admit(Long eventId, int count, long nowMs, long admissionTtlMs) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? List.of() : queue.admit(count, nowMs, admissionTtlMs);
+    }
+
+    @Override
+    public long size(Long eventId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public void open(Long eventId) {
+        queue(eventId);
+    }
+
+    @Override
+    public void close(Long eventId) {
+        queues.remove(eventId);
+    }
+
+    @Override
+    public Set<Long> openEvents() {
+        return Set.copyOf(queues.keySet());
+    }
+
+    private EventQueue queue(Long eventId) {
+        return queues.computeIfAbsent(eventId, id -> new EventQueue());
+    }
+
+    /**
+     * 이벤트 하나의 대기열
+     * seq 는 등록 순서, 배열 인덱스는 seq - base (앞쪽이 비면 압축)
+     */
+    private static final class EventQueue {
+
+        private static final long NONE = Long.MIN_VALUE;
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<Long, Long> seqOfUser = new HashMap<>();
+        private final Map<Long, Long> admittedAt = new HashMap<>();
+
+        private long[] userAt = newSlots(INITIAL_CAPACITY);
+        private FenwickTree waiting = new FenwickTree(INITIAL_CAPACITY);
+        private long base;      // userAt[0] 의 seq
+        private long head;      // 대기 중일 수 있는 가장 앞 seq
+        private long nextSeq;   // 다음 등록 seq
+
+        synchronized long enqueue(Long userId) {
+            if (admittedAt.containsKey(userId)) {
+                return -1;
+            }
+            Long seq = seqOfUser.get(userId);
+            if (seq == null) {
+                seq = nextSeq;
+                ensureCapacity(seq);
+                nextSeq++;
+                userAt[index(seq)] = userId;
+                waiting.add(index(seq), 1);
+                seqOfUser.put(userId, seq);
+            }
+            return waiting.prefixSum(index(seq) - 1);
+        }
+
+        synchronized Long positionOf(Long userId) {
+            Long seq = seqOfUser.get(userId);
+            return seq == null ? null : waiting.prefixSum(index(seq) - 1);
+        }
+
+        synchronized Long admittedAt(Long userId) {
+            return admittedAt.get(userId);
+        }
+
+        synchronized List<Long> admit(int count, long nowMs, long admissionTtlMs) {
+            admittedAt.values().removeIf(at -> at < nowMs - admissionTtlMs);
+
+            List<Long> admitted = new ArrayList<>(count);
+            while (admitted.size() < count && head < nextSeq) {
+                int index = index(head++);
+                long userId = userAt[index];
+                if (userId == NONE) {
+                    continue;
+                }
+                userAt[index] = NONE;
+                waiting.add(index, -1);
+                seqOfUser.remove(userId);
+                admittedAt.put(userId, nowMs);
+                admitted.add(userId);
+            }
+            return admitted;
+        }
+
+        synchronized long size() {
+            return seqOfUser.size();
+        }
+
+        private int index(long seq) {
+            return (int) (seq - base);
+        }
+
+        // 배열이 가득 차면 이미 빠져나간 앞부분을 버리고, 그래도 부족하면 두 배로 확장
+        private void ensureCapacity(long seq) {
+            if (index(seq) < userAt.length) {
+                return;
+            }
+            int live = (int) (nextSeq - head);
+            int capacity = userAt.length;
+            while ((live + 1) * 2 > capacity) {
+                capacity *= 2;
+            }
+            long[] slots = newSlots(capacity);
+            FenwickTree tree = new FenwickTree(capacity);
+            for (long s = head; s < nextSeq; s++) {
+                long userId = userAt[index(s)];
+                slots[(int) (s - head)] = userId;
+                if (userId != NONE) {
+                    tree.add((int) (s - head), 1);
+                }
+            }
+            userAt = slots;
+            waiting = tree;
+            base = head;
+        }
+
+        private static long[] newSlots(int capacity) {
+            long[] slots = new long[capacity];
+            Arrays.fill(slots, NONE);
+            return slots;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.study.ticketservice.queue.infrastructure;
+
+import com.study.ticketservice.queue.application.WaitingQueueStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis sorted set 기반 대기열 저장소 (기본)
+ * 여러 서버가 같은 대기열을 공유하고, 입장 처리는 주기마다 한 서버만 수행
+ *
+ * 이벤트별 키 (같은 클러스터 슬롯에 배치되도록 hash tag 사용)
+ * - waiting-room:{eventId}:queue    대기열 (점수 = 등록 순서)
+ * - waiting-room:{eventId}:seq      등록 순서 카운터
+ * - waiting-room:{eventId}:admitted 입장 허용 (점수 = 입장 허용 시각)
+ * - waiting-room:{eventId}:lock     입장 처리 잠금
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "waiting-room.store", havingValue = "redis", matchIfMissing = true)
+public class RedisWaitingQueueStore implements WaitingQueueStore {
+
+    private static final String KEY_PREFIX = "waiting-room:";
+    private static final String OPEN_EVENTS_KEY = KEY_PREFIX + "events";
+
+    private static final RedisScript<Long> ENQUEUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/waiting-room-enqueue.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/waiting-room-admit.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${waiting-room.admit-interval-ms:1000}")
+    private long admitIntervalMs;
+
+    @Override
+    public long enqueue(Long eventId, Long userId) {
+        Long position = redisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(queueKey(eventId), key(eventId, "seq"), key(eventId, "admitted")),
+                String.valueOf(userId));
+        if (position == null) {
+            throw new IllegalStateException("대기열 등록 실패: eventId=" + eventId);
+        }
+        return position;
+    }
+
+    @Override
+    public Long positionOf(Long eventId, Long userId) {
+        return redisTemplate.opsForZSet().rank(queueKey(eventId), String.valueOf(userId));
+    }
+
+    @Override
+    public Long admittedAt(Long eventId, Long userId) {
+        Double score = redisTemplate.opsForZSet().score(key(eventId, "admitted"), String.valueOf(userId));
+        return score == null ? null : score.longValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> admit(Long eventId, int count, long nowMs, long admissionTtlMs) {
+        // 다음 주기 전에 잠금이 풀리도록 주기보다 조금 짧게 잠금
+        long lockMs = Math.max(1, admitIntervalMs * 9 / 10);
+        List<String> admitted = redisTemplate.execute(ADMIT_SCRIPT,
+                List.of(queueKey(eventId), key(eventId, "admitted"), key(eventId, "lock")),
+                String.valueOf(nowMs), String.valueOf(count), String.valueOf(admissionTtlMs), String.valueOf(lockMs));
+        if (admitted == null) {
+            return List.of();
+        }
+        return admitted.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public long size(Long eventId) {
+        Long size = redisTemplate.opsForZSet().zCard(queueKey(eventId));
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public void open(Long eventId) {
+        redisTemplate.opsForSet().add(OPEN_EVENTS_KEY, String.valueOf(eventId));
+    }
+
+    @Override
+    public void close(Long eventId) {
+        redisTemplate.opsForSet().remove(OPEN_EVENTS_KEY, String.valueOf(eventId));
+        redisTemplate.delete(List.of(queueKey(eventId), key(eventId, "seq"), key(eventId, "admitted"), key(eventId, "lock")));
+    }
+
+    @Override
+    public Set<Long> openEvents() {
+        Set<String> members = redisTemplate.opsForSet().members(OPEN_EVENTS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    private static String queueKey(Long eventId) {
+        return key(eventId, "queue");
+    }
+
+    private static String key(Long eventId, String suffix) {
+        return KEY_PREFIX + "{" + eventId + "}:" + suffix;
+    }
+}
@@ -0,0 +1,55 @@
+package com.study.ticketservice.queue.presentation;
+
+import com.study.ticketservice.common.response.ApiResponse;
+import com.study.ticketservice.queue.application.WaitingRoomService;
+import com.study.ticketservice.queue.application.dto.response.WaitingRoomResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대기열 API 컨트롤러
+ * 좌석 HOLD 전에 대기열에 등록하고, 입장이 허용되면 입장 토큰을 받아 HOLD 요청에 사용
+ */
+@RestController
+@RequiredArgsConstructor
+public class WaitingRoomApiController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * 대기열 등록 API
+     * 이미 대기 중이면 기존 순번을 그대로 반환
+     * @param eventId 이벤트 ID
+     * @param userId 인증된 사용자 ID
+     * @return 대기 순번 또는 입장 토큰
+     */
+    @PostMapping("/v1/events/{eventId}/queue")
+    public ResponseEntity<ApiResponse<WaitingRoomResponse>> enter(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal Long userId) {
+
+        WaitingRoomResponse response = waitingRoomService.enter(eventId, userId);
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 대기열 상태 조회 API
+     * 입장이 허용되면 입장 토큰 반환 (좌석 HOLD 요청 시 X-Admission-Token 헤더로 전달)
+     * @param eventId 이벤트 ID
+     * @param userId 인증된 사용자 ID
+     * @return 대기 순번 또는 입장 토큰
+     */
+    @GetMapping("/v1/events/{eventId}/queue")
+    public ResponseEntity<ApiResponse<WaitingRoomResponse>> status(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal Long userId) {
+
+        WaitingRoomResponse response = waitingRoomService.status(eventId, userId);
+        return ApiResponse.success(response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.ticketservice.utils;
+
+/**
+ * 펜윅 트리 (Binary Indexed Tree)
+ * 구간 [0, index] 의 합을 O(log n) 으로 조회/갱신
+ * 인덱스는 0부터 시작, 스레드 안전하지 않음
+ */
+public class FenwickTree {
+
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        this.tree = new long[size + 1];
+    }
+
+    /**
+     * @return 인덱스 개수
+     */
+    public int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * index 위치의 값에 delta 를 더함
+     */
+    public void add(int index, long delta) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * @return 구간 [0, index] 의 합 (index < 0 이면 0)
+     */
+    public long prefixSum(int index) {
+        long sum = 0;
+        for (int i = Math.min(index + 1, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
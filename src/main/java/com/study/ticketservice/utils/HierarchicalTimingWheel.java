@@ -0,0 +1,205 @@
+package com.study.ticketservice.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ * 만료 시각이 지난 항목을 tickMs 단위로 찾아내는 타이머 자료구조
+ *
+ * - 레벨 0의 버킷 하나는 tickMs, 레벨 l의 버킷 하나는 tickMs * wheelSize^l 구간을 담당
+ * - 등록/취소는 O(1) (버킷별 이중 연결 리스트)
+ * - 상위 레벨 버킷은 구간이 시작될 때 하위 레벨로 내려보냄(cascade)
+ * - 항목은 만료 시각보다 먼저 꺼내지지 않으며, 최대 tickMs 늦게 꺼내짐
+ *
+ * 스레드 안전 (모든 연산은 인스턴스 잠금으로 직렬화)
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Bucket<T>[]> levels = new ArrayList<>();
+    private final List<Long> levelTickMs = new ArrayList<>();
+
+    // 이 시각 이전의 구간은 모두 처리됨 (tickMs 단위로 정렬)
+    private long currentTime;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs는 0보다 크고 wheelSize는 2 이상이어야 합니다");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTime = Math.floorDiv(startMs, tickMs) * tickMs;
+        addLevel();
+    }
+
+    /**
+     * 항목 등록
+     * @param item 만료 시 반환할 항목
+     * @param deadlineMs 만료 시각 (epoch ms)
+     * @return 취소에 사용할 핸들, 이미 만료된 시각이면 null (호출자가 즉시 처리)
+     */
+    public synchronized Timeout<T> schedule(T item, long deadlineMs) {
+        if (deadlineMs < currentTime) {
+            return null;
+        }
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineMs);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 등록 취소
+     * @return 대기 중이던 항목을 취소했으면 true
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.wheel != this || timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 시계를 진행하고 만료된 항목 반환
+     * @param nowMs 현재 시각 (epoch ms)
+     * @return 만료된 항목 목록 (만료 시각 <= nowMs)
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + tickMs <= nowMs) {
+            // 레벨 0의 현재 버킷은 다음 tick 이 되면 모두 만료
+            Bucket<T> bucket = levels.get(0)[slotIndex(currentTime / tickMs)];
+            drain(bucket, expired);
+            currentTime += tickMs;
+
+            // 구간이 시작된 상위 레벨 버킷을 상위 레벨부터 차례로 하위 레벨로 내려보냄
+            for (int level = levels.size() - 1; level >= 1; level--) {
+                long levelTick = levelTickMs.get(level);
+                if (currentTime % levelTick == 0) {
+                    cascade(levels.get(level)[slotIndex(currentTime / levelTick)]);
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return 대기 중인 항목 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Timeout<T> timeout) {
+        for (int level = 0; ; level++) {
+            if (level == levels.size()) {
+                addLevel();
+            }
+            long levelTick = levelTickMs.get(level);
+            long slot = Math.floorDiv(timeout.deadlineMs, levelTick);
+            long currentSlot = Math.floorDiv(currentTime, levelTick);
+            if (slot - currentSlot < wheelSize) {
+                levels.get(level)[slotIndex(slot)].add(timeout);
+                return;
+            }
+        }
+    }
+
+    private void drain(Bucket<T> bucket, List<T> expired) {
+        Timeout<T> timeout = bucket.head;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            bucket.remove(timeout);
+            expired.add(timeout.item);
+            size--;
+            timeout = next;
+        }
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.head;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            bucket.remove(timeout);
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private int slotIndex(long slot) {
+        return (int) Math.floorMod(slot, (long) wheelSize);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void addLevel() {
+        long levelTick = levels.isEmpty()
+                ? tickMs
+                : Math.multiplyExact(levelTickMs.get(levels.size() - 1), (long) wheelSize);
+        Bucket<T>[] buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        levels.add(buckets);
+        levelTickMs.add(levelTick);
+    }
+
+    /**
+     * 등록된 항목의 핸들
+     */
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T item;
+        private final long deadlineMs;
+
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T item, long deadlineMs) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadlineMs = deadlineMs;
+        }
+
+        public T getItem() { return item; }
+        public long getDeadlineMs() { return deadlineMs; }
+    }
+
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.ticketservice.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토큰 종류(access/refresh)별 서명 키 목록
+ * 서버 시작 시 한 번 만들고 이후 서명/검증에 재사용 (스레드 안전)
+ *
+ * - 서명은 현재 키로 하고 헤더의 kid 에 키 ID 를 기록
+ * - 검증은 헤더의 kid 로 키를 찾음 (현재 키 + 교체 전 키), kid 가 없는 토큰은 현재 키로 검증
+ * - 키 교체: 새 키를 현재 키로, 이전 키를 previous-secrets 에 두고 이전 키로 발급된 토큰이 만료되면 제거
+ */
+class JwtKeyRing {
+
+    private final String currentKeyId;
+    private final SecretKey currentKey;
+    private final Map<String, SecretKey> keys;
+    private final JwtParser parser;
+
+    /**
+     * @param currentKeyId 서명에 사용할 키 ID
+     * @param currentSecret 서명에 사용할 키 (hex, Base64 또는 문자열, 32바이트 이상)
+     * @param previousSecrets 검증에만 사용할 이전 키 목록 "키ID:키,키ID:키" (없으면 빈 문자열)
+     */
+    JwtKeyRing(String currentKeyId, String currentSecret, String previousSecrets) {
+        this.currentKeyId = currentKeyId;
+        this.currentKey = toKey(currentSecret);
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        if (StringUtils.hasText(previousSecrets)) {
+            for (String entry : previousSecrets.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalStateException("Jwt 이전 키는 '키ID:키' 형식이어야 합니다.");
+                }
+                keys.put(entry.substring(0, separator).trim(), toKey(entry.substring(separator + 1).trim()));
+            }
+        }
+        keys.put(currentKeyId, currentKey);
+        this.keys = Map.copyOf(keys);
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyIdResolver())
+                .build();
+    }
+
+    String currentKeyId() {
+        return currentKeyId;
+    }
+
+    SecretKey currentKey() {
+        return currentKey;
+    }
+
+    /**
+     * 서명을 검증하는 파서 (불변, 스레드 안전)
+     */
+    JwtParser parser() {
+        return parser;
+    }
+
+    private SecretKey find(String keyId) {
+        if (keyId == null) {
+            return currentKey;
+        }
+        SecretKey key = keys.get(keyId);
+        if (key == null) {
+            throw new JwtException("알 수 없는 Jwt 키 ID: " + keyId);
+        }
+        return key;
+    }
+
+    /**
+     * 헤더의 kid 로 검증 키를 찾는 resolver
+     * jjwt 0.11 의 SigningKeyResolver 가 raw JwsHeader 를 받으므로 rawtypes 경고는 이 클래스에서만 억제
+     */
+    @SuppressWarnings("rawtypes")
+    private final class KeyIdResolver implements SigningKeyResolver {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            return find(header.getKeyId());
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, String plaintext) {
+            return find(header.getKeyId());
+        }
+    }
+
+    private static SecretKey toKey(String secret) {
+        byte[] keyBytes;
+
+        if (secret != null && secret.length() % 2 == 0 && secret.matches("^[0-9a-fA-F]+$")) {
+            keyBytes = hexToBytes(secret);
+        } else {
+            try {
+                keyBytes = Decoders.BASE64.decode(secret);
+            } catch (IllegalArgumentException e) {
+                keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        if (keyBytes.length < 32) {
+            throw new IllegalStateException("Jwt Secret이 32바이트 미만입니다.");
+        }
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    private static byte[] hexToBytes(String hex) {
+        int len = hex.length();
+        byte[] data = new byte[len / 2];
+        for (int i = 0; i < len; i += 2) {
+            data[i / 2] = (byte) ((Character.digit(hex.charAt(i), 16) << 4)
+                                 + Character.digit(hex.charAt(i + 1), 16));
+        }
+        return data;
+    }
+}
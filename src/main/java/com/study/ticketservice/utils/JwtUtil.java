@@ -1,9 +1,10 @@
 package com.study.ticketservice.utils;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,8 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 
@@ -27,6 +26,12 @@ public class JwtUtil {
     @Value("${jwt.token.access.access-secret}")
     private String ACCESS_TOKEN_SECRET;
 
+    @Value("${jwt.token.access.key-id:access-1}")
+    private String ACCESS_TOKEN_KEY_ID;
+
+    @Value("${jwt.token.access.previous-secrets:}")
+    private String ACCESS_TOKEN_PREVIOUS_SECRETS;
+
     // Refresh Token
     @Value("${jwt.token.refresh.expire-second}")
     private int REFRESH_TOKEN_EXPIRE_COUNT;
@@ -34,18 +39,45 @@ public class JwtUtil {
     @Value("${jwt.token.refresh.refresh-secret}")
     private String REFRESH_TOKEN_SECRET;
 
-    public String createAccessToken(Long userId, List<String> roles) {
+    @Value("${jwt.token.refresh.key-id:refresh-1}")
+    private String REFRESH_TOKEN_KEY_ID;
+
+    @Value("${jwt.token.refresh.previous-secrets:}")
+    private String REFRESH_TOKEN_PREVIOUS_SECRETS;
+
+    // 서명 키와 검증 파서 (서버 시작 시 한 번 생성)
+    private JwtKeyRing accessKeys;
+    private JwtKeyRing refreshKeys;
+
+    @PostConstruct
+    void initKeys() {
+        accessKeys = new JwtKeyRing(ACCESS_TOKEN_KEY_ID, ACCESS_TOKEN_SECRET, ACCESS_TOKEN_PREVIOUS_SECRETS);
+        refreshKeys = new JwtKeyRing(REFRESH_TOKEN_KEY_ID, REFRESH_TOKEN_SECRET, REFRESH_TOKEN_PREVIOUS_SECRETS);
+    }
+
+    /**
+     * 액세스 토큰 생성
+     * @param privileges 권한 비트마스크 (PrivilegeEnum), null 이면 권한과 버전을 담지 않음 (요청마다 현재 권한을 조회)
+     * @param permissionVersion 발급 시점의 권한 버전
+     */
+    public String createAccessToken(Long userId, List<String> roles, Long privileges, long permissionVersion) {
         Date now = new Date();
         Date expireDate = new Date(now.getTime() + ACCESS_TOKEN_EXPIRE_COUNT * 1000L);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, accessKeys.currentKeyId())
                 .setSubject("AccessToken")
                 .claim("userId", userId)
                 .claim("roles", roles)
-                .claim("type", "access")
+                .claim("type", "access");
+        if (privileges != null) {
+            builder.claim("privs", privileges)
+                   .claim("pv", permissionVersion);
+        }
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
-                .signWith(getSecretKey(ACCESS_TOKEN_SECRET))
+                .signWith(accessKeys.currentKey())
                 .compact();
     }
 
@@ -54,30 +86,28 @@ public class JwtUtil {
         Date expireDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRE_COUNT * 1000L);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, refreshKeys.currentKeyId())
                 .setSubject("RefreshToken")
                 .claim("userId", userId)
                 .claim("roles", roles)
                 .claim("type", "refresh")
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
-                .signWith(getSecretKey(REFRESH_TOKEN_SECRET))
+                .signWith(refreshKeys.currentKey())
                 .compact();
     }
 
     public boolean validateAccessToken(String token) {
-        return validate(token, ACCESS_TOKEN_SECRET);
+        return validate(token, accessKeys);
     }
 
     public boolean validateRefreshToken(String token) {
-        return validate(token, REFRESH_TOKEN_SECRET);
+        return validate(token, refreshKeys);
     }
 
-    private boolean validate(String token, String secret) {
+    private boolean validate(String token, JwtKeyRing keyRing) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSecretKey(secret))
-                .build()
-                .parseClaimsJws(token);
+            keyRing.parser().parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             log.error("JWT validation error: {}", e.getMessage());
@@ -86,51 +116,13 @@ public class JwtUtil {
     }
 
     public Claims extractAccessClaims(String token) {
-        return extractClaims(token, ACCESS_TOKEN_SECRET);
+        return accessKeys.parser().parseClaimsJws(token).getBody();
     }
 
     public Claims extractRefreshClaims(String token) {
-        return extractClaims(token, REFRESH_TOKEN_SECRET);
-    }
-
-    private Claims extractClaims(String token, String secret) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey(secret))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return refreshKeys.parser().parseClaimsJws(token).getBody();
     }
 
-    private SecretKey getSecretKey(String secret) {
-        byte[] keyBytes;
-
-        if (secret != null && secret.length() % 2 == 0 && secret.matches("^[0-9a-fA-F]+$")) {
-            keyBytes = hexToBytes(secret);
-        } else {
-            try {
-                keyBytes = Decoders.BASE64.decode(secret);
-            } catch (IllegalArgumentException e) {
-                keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-            }
-        }
-
-        if (keyBytes.length < 32) {
-            throw new IllegalStateException("Jwt Secret이 32바이트 미만입니다.");
-        }
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private byte[] hexToBytes(String hex) {
-        int len = hex.length();
-        byte[] data = new byte[len / 2];
-        for (int i = 0; i < len; i += 2) {
-            data[i / 2] = (byte) ((Character.digit(hex.charAt(i), 16) << 4)
-                                 + Character.digit(hex.charAt(i + 1), 16));
-        }
-        return data;
-    }
-
-
     public String extractAccessTokenFromCookie(HttpServletRequest request) {
         if (request.getCookies() != null) {
             for (Cookie cookie : request.getCookies()) {
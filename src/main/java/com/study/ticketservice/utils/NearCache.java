@@ -0,0 +1,140 @@
+package com.study.ticketservice.utils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 서버 메모리 캐시 (near-cache)
+ * 최대 maxEntries 개를 보관하고 가득 차면 가장 오래 조회되지 않은 항목부터 제거 (LRU), 항목은 ttlMs 가 지나면 만료
+ *
+ * - 캐시에 없는 같은 키를 동시에 조회하면 한 스레드만 원본을 조회하고 나머지는 그 결과를 기다림
+ * - 조회 중에 무효화되면 조회한 값은 반환만 하고 보관하지 않음 (무효화 이전 상태가 다시 캐시되지 않음)
+ * - 원본 조회가 예외를 던지거나 null 을 반환하면 보관하지 않음
+ *
+ * 스레드 안전 (보관/무효화는 인스턴스 잠금으로 직렬화, 원본 조회는 잠금 밖에서 수행)
+ */
+public class NearCache<K, V> {
+
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+
+    // 무효화 횟수 (조회 시작 이후 무효화가 있었는지 확인)
+    private long invalidations;
+
+    public NearCache(int maxEntries, long ttlMs) {
+        this(maxEntries, ttlMs, System::currentTimeMillis);
+    }
+
+    NearCache(int maxEntries, long ttlMs, LongSupplier clock) {
+        if (maxEntries < 1 || ttlMs <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상, ttlMs는 0보다 커야 합니다");
+        }
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값 조회, 없거나 만료되었으면 원본에서 조회해 보관
+     * @param loader 원본 조회 함수
+     * @return 값 (원본 조회가 던진 예외는 그대로 전달)
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> future;
+        CompletableFuture<V> inFlight;
+        long invalidationsBefore;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAtMs() > clock.getAsLong()) {
+                    return entry.value();
+                }
+                entries.remove(key);
+            }
+            inFlight = loading.get(key);
+            future = inFlight != null ? inFlight : new CompletableFuture<>();
+            if (inFlight == null) {
+                loading.put(key, future);
+            }
+            invalidationsBefore = invalidations;
+        }
+        if (inFlight != null) {
+            // 잠금 밖에서 다른 스레드의 조회 결과를 기다림
+            return join(inFlight);
+        }
+
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading.remove(key, future);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            loading.remove(key, future);
+            if (value != null && invalidations == invalidationsBefore) {
+                entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMs));
+            }
+        }
+        future.complete(value);
+        return value;
+    }
+
+    /**
+     * 키 하나 무효화
+     * 진행 중인 원본 조회 결과도 보관하지 않고, 이후 조회는 원본을 새로 조회
+     */
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        entries.remove(key);
+        loading.remove(key);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+        loading.clear();
+    }
+
+    /**
+     * @return 보관 중인 항목 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMs) {
+    }
+}
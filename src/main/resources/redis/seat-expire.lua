@@ -0,0 +1,19 @@
+-- 만료된 좌석 HOLD 해제 (HOLD -> AVAILABLE)
+-- KEYS[1] = 이벤트 좌석 상태 hash, KEYS[2] = 초기 적재 여부 키
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 좌석 필드
+-- 반환: 0 = 좌석이 AVAILABLE 상태 (해제했거나 이미 해제됨), -1 = 초기 적재 필요, 1 = 유효한 HOLD 또는 SOLD 상태
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return -1
+end
+
+local value = redis.call('HGET', KEYS[1], ARGV[2])
+if not value then
+    return 0
+end
+local state, owner, expiresAt = string.match(value, '^(%a):(%d+):?(%d*)$')
+if state ~= 'H' or tonumber(expiresAt) > tonumber(ARGV[1]) then
+    return 1
+end
+
+redis.call('HDEL', KEYS[1], ARGV[2])
+return 0
@@ -0,0 +1,24 @@
+-- 좌석 HOLD (AVAILABLE -> HOLD)
+-- KEYS[1] = 이벤트 좌석 상태 hash, KEYS[2] = 초기 적재 여부 키
+-- ARGV[1] = userId, ARGV[2] = 현재 시각(ms), ARGV[3] = HOLD 만료 시각(ms), ARGV[4..] = 좌석 필드
+-- 반환: 0 = 성공, -1 = 초기 적재 필요, n > 0 = n번째 좌석이 예약 불가
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return -1
+end
+
+local now = tonumber(ARGV[2])
+for i = 4, #ARGV do
+    local value = redis.call('HGET', KEYS[1], ARGV[i])
+    if value then
+        local state, _, expiresAt = string.match(value, '^(%a):(%d+):?(%d*)$')
+        -- 만료된 HOLD는 AVAILABLE로 간주
+        if not (state == 'H' and tonumber(expiresAt) <= now) then
+            return i - 3
+        end
+    end
+end
+
+for i = 4, #ARGV do
+    redis.call('HSET', KEYS[1], ARGV[i], 'H:' .. ARGV[1] .. ':' .. ARGV[3])
+end
+return 0
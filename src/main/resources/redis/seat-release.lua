@@ -0,0 +1,23 @@
+-- 좌석 HOLD 해제 (HOLD -> AVAILABLE)
+-- KEYS[1] = 이벤트 좌석 상태 hash, KEYS[2] = 초기 적재 여부 키
+-- ARGV[1] = userId, ARGV[2] = 현재 시각(ms), ARGV[3..] = 좌석 필드
+-- 반환: 0 = 성공, -1 = 초기 적재 필요, n > 0 = n번째 좌석이 본인 HOLD 상태가 아님
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return -1
+end
+
+for i = 3, #ARGV do
+    local value = redis.call('HGET', KEYS[1], ARGV[i])
+    if not value then
+        return i - 2
+    end
+    local state, owner = string.match(value, '^(%a):(%d+)')
+    if state ~= 'H' or owner ~= ARGV[1] then
+        return i - 2
+    end
+end
+
+for i = 3, #ARGV do
+    redis.call('HDEL', KEYS[1], ARGV[i])
+end
+return 0
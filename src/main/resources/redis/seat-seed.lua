@@ -0,0 +1,13 @@
+-- 이벤트 좌석 상태 초기 적재 (DB 기준)
+-- KEYS[1] = 이벤트 좌석 상태 hash, KEYS[2] = 초기 적재 여부 키
+-- ARGV = (좌석 필드, 상태 값) 쌍 목록
+-- 반환: 1 = 적재함, 0 = 이미 적재됨
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+
+for i = 1, #ARGV, 2 do
+    redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('SET', KEYS[2], '1')
+return 1
@@ -0,0 +1,18 @@
+-- 대기열 앞에서부터 입장 허용
+-- KEYS[1] = 대기열 zset, KEYS[2] = 입장 허용 zset, KEYS[3] = 입장 처리 잠금 키
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 입장 인원, ARGV[3] = 입장 유효 시간(ms), ARGV[4] = 잠금 시간(ms)
+-- 반환: 입장이 허용된 사용자 ID 목록 (다른 서버가 이번 주기를 처리 중이면 빈 목록)
+if not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[4]) then
+    return {}
+end
+
+local now = tonumber(ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. (now - tonumber(ARGV[3])))
+
+local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[2])
+local admitted = {}
+for i = 1, #popped, 2 do
+    redis.call('ZADD', KEYS[2], now, popped[i])
+    admitted[#admitted + 1] = popped[i]
+end
+return admitted
@@ -0,0 +1,17 @@
+-- 대기열 등록 (이미 대기 중이면 기존 순번 유지)
+-- KEYS[1] = 대기열 zset, KEYS[2] = 등록 순서 카운터, KEYS[3] = 입장 허용 zset
+-- ARGV[1] = userId
+-- 반환: 대기 순번 (0부터 시작), -1 = 이미 입장 허용됨
+if redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+    return -1
+end
+
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+if rank then
+    return rank
+end
+
+-- 같은 시각에 들어와도 순서가 정해지도록 점수는 등록 순서 카운터 사용
+local seq = redis.call('INCR', KEYS[2])
+redis.call('ZADD', KEYS[1], seq, ARGV[1])
+return redis.call('ZRANK', KEYS[1], ARGV[1])
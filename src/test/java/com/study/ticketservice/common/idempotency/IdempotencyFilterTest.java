@@ -0,0 +1,117 @@
+package com.study.ticketservice.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    MapIdempotencyStore store = new MapIdempotencyStore();
+    IdempotencyFilter filter = new IdempotencyFilter(store, new ObjectMapper(), Duration.ofHours(1), Duration.ofSeconds(30));
+    AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 컨트롤러를 다시 실행하지 않고 저장된 응답을 반환")
+    void replay() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"title\":\"공연\"}", 201);
+        MockHttpServletResponse retry = perform("key-1", "{\"title\":\"공연\"}", 201);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).contains("\"executions\":1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청이 오면 422, 처리 중인 키면 409")
+    void reusedOrInProgress() throws Exception {
+        perform("key-1", "{\"title\":\"공연\"}", 201);
+        assertThat(perform("key-1", "{\"title\":\"다른 공연\"}", 201).getStatus()).isEqualTo(422);
+
+        MockHttpServletRequest request = request("key-2", "{}");
+        store.entries.put("anonymous:key-2", IdempotentResponse.inProgress(fingerprintOf(request)));
+        assertThat(perform("key-2", "{}", 201).getStatus()).isEqualTo(409);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 재시도 시 다시 처리")
+    void serverErrorNotStored() throws Exception {
+        perform("key-1", "{}", 500);
+        perform("key-1", "{}", 201);
+
+        assertThat(executions).hasValue(2);
+        assertThat(store.find("anonymous:key-1").status()).isEqualTo(201);
+    }
+
+    private MockHttpServletResponse perform(String key, String body, int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                String requestBody = new String(request.getInputStream().readAllBytes());
+                response.setStatus(status);
+                response.setContentType("application/json");
+                response.getWriter().write("{\"executions\":" + executions.incrementAndGet()
+                        + ",\"request\":" + requestBody + "}");
+            }
+        };
+        filter.doFilter(request(key, body), response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/admin/events");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes());
+        return request;
+    }
+
+    // 처리 중 표시가 같은 요청으로 남아있는 상황을 만들기 위해 실제 필터 계산값 사용
+    private String fingerprintOf(MockHttpServletRequest request) throws Exception {
+        MapIdempotencyStore probe = new MapIdempotencyStore();
+        new IdempotencyFilter(probe, new ObjectMapper(), Duration.ofHours(1), Duration.ofSeconds(30))
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return probe.find("anonymous:key-2").fingerprint();
+    }
+
+    static class MapIdempotencyStore implements IdempotencyStore {
+
+        final Map<String, IdempotentResponse> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public IdempotentResponse find(String key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public boolean reserve(String key, String fingerprint, Duration lockTtl) {
+            return entries.putIfAbsent(key, IdempotentResponse.inProgress(fingerprint)) == null;
+        }
+
+        @Override
+        public void complete(String key, IdempotentResponse response, Duration ttl) {
+            entries.put(key, response);
+        }
+
+        @Override
+        public void release(String key) {
+            entries.remove(key);
+        }
+    }
+}
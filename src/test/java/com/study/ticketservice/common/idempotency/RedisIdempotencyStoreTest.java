@@ -0,0 +1,88 @@
+package com.study.ticketservice.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 서버로 멱등성 키 저장소 검증
+ */
+class RedisIdempotencyStoreTest {
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate redisTemplate;
+
+    RedisIdempotencyStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        store = new RedisIdempotencyStore(redisTemplate, new ObjectMapper(), 2);
+    }
+
+    @Test
+    @DisplayName("처리 중 표시는 한 번만 가능하고 해제하면 다시 표시 가능")
+    void reserveAndRelease() {
+        assertThat(store.reserve("1:key", "POST /v1/admin/events", Duration.ofSeconds(30))).isTrue();
+        assertThat(store.reserve("1:key", "POST /v1/admin/events", Duration.ofSeconds(30))).isFalse();
+        assertThat(store.find("1:key").isInProgress()).isTrue();
+
+        store.release("1:key");
+
+        assertThat(store.find("1:key")).isNull();
+        assertThat(store.reserve("1:key", "POST /v1/admin/events", Duration.ofSeconds(30))).isTrue();
+    }
+
+    @Test
+    @DisplayName("완료된 응답은 Redis 와 서버 메모리에 저장되어 다른 서버에서도 재사용")
+    void complete() {
+        IdempotentResponse response = new IdempotentResponse("POST /v1/admin/events", 201, "application/json",
+                "{\"code\":201}".getBytes());
+        store.complete("1:key", response, Duration.ofMinutes(1));
+
+        RedisIdempotencyStore otherServer = new RedisIdempotencyStore(redisTemplate, new ObjectMapper(), 2);
+        assertThat(otherServer.find("1:key").body()).isEqualTo(response.body());
+
+        // Redis 에서 지워져도 메모리에 남은 응답 반환
+        redisTemplate.delete("idempotency:1:key");
+        assertThat(store.find("1:key").status()).isEqualTo(201);
+    }
+}
@@ -0,0 +1,81 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.domain.auth.enums.PrivilegeEnum;
+import com.study.ticketservice.domain.auth.repository.RolePrivilegeMapRepository;
+import com.study.ticketservice.domain.auth.repository.UserRoleMapRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class RbacAuthorityCacheTest {
+
+    UserRoleMapRepository userRoleMapRepository = mock(UserRoleMapRepository.class);
+    RolePrivilegeMapRepository rolePrivilegeMapRepository = mock(RolePrivilegeMapRepository.class);
+    InMemoryPermissionVersionStore versionStore = new InMemoryPermissionVersionStore();
+    RbacAuthorityCache cache = new RbacAuthorityCache(userRoleMapRepository, rolePrivilegeMapRepository,
+            versionStore, 100, 60_000);
+
+    @Test
+    @DisplayName("역할과 역할별 권한을 합쳐 반환하고 두 번째 조회부터는 DB를 조회하지 않음")
+    void getUserAuthorities_cached() {
+        given(userRoleMapRepository.findRoleNamesByUserId(1L)).willReturn(List.of("ADMIN"));
+        given(rolePrivilegeMapRepository.findAllRolePrivilegeNames()).willReturn(List.of(
+                new Object[]{"ADMIN", "EVENT_CREATE"},
+                new Object[]{"ADMIN", "EVENT_UPDATE"},
+                new Object[]{"USER", "EVENT_SEAT_RESERVE"}));
+
+        assertThat(cache.getUserAuthorities(1L).all()).containsExactlyInAnyOrder("ADMIN", "EVENT_CREATE", "EVENT_UPDATE");
+        assertThat(cache.getUserAuthorities(1L).privilegeMask())
+                .isEqualTo(PrivilegeEnum.EVENT_CREATE.bit() | PrivilegeEnum.EVENT_UPDATE.bit());
+
+        then(userRoleMapRepository).should(times(1)).findRoleNamesByUserId(1L);
+        then(rolePrivilegeMapRepository).should(times(1)).findAllRolePrivilegeNames();
+    }
+
+    @Test
+    @DisplayName("사용자 역할이나 역할별 권한이 바뀌면 버전을 올리고 다시 적재")
+    void evict_reloads() {
+        given(userRoleMapRepository.findRoleNamesByUserId(1L)).willReturn(List.of("USER"));
+        given(rolePrivilegeMapRepository.findAllRolePrivilegeNames()).willReturn(List.<Object[]>of(
+                new Object[]{"USER", "EVENT_SEAT_RESERVE"}));
+        long before = cache.getUserAuthorities(1L).version();
+
+        given(userRoleMapRepository.findRoleNamesByUserId(1L)).willReturn(List.of("USER", "ADMIN"));
+        cache.evictUser(1L);
+        assertThat(cache.getUserAuthorities(1L).all()).containsExactlyInAnyOrder("USER", "ADMIN", "EVENT_SEAT_RESERVE");
+
+        given(rolePrivilegeMapRepository.findAllRolePrivilegeNames()).willReturn(List.of(
+                new Object[]{"USER", "EVENT_SEAT_RESERVE"},
+                new Object[]{"USER", "EVENT_SEAT_CANCEL"}));
+        versionStore.increaseGlobal(); // 다른 서버에서 역할별 권한 변경
+        RbacAuthorityCache.UserAuthorities after = cache.getUserAuthorities(1L);
+
+        assertThat(after.all()).contains("EVENT_SEAT_CANCEL");
+        assertThat(after.version()).isEqualTo(before + 2);
+    }
+
+    @Test
+    @DisplayName("토큰의 권한 버전이 현재와 같으면 DB 조회 없이 토큰의 권한을, 다르면 현재 권한을 사용")
+    void resolve_tokenVersion() {
+        TokenAuthorities token = new TokenAuthorities(List.of("ADMIN"), PrivilegeEnum.EVENT_CREATE.bit(),
+                versionStore.current(1L).value());
+
+        assertThat(cache.resolve(1L, token)).containsExactlyInAnyOrder("ADMIN", "EVENT_CREATE");
+        then(userRoleMapRepository).should(never()).findRoleNamesByUserId(1L);
+
+        given(userRoleMapRepository.findRoleNamesByUserId(1L)).willReturn(List.of("USER"));
+        given(rolePrivilegeMapRepository.findAllRolePrivilegeNames()).willReturn(List.<Object[]>of(
+                new Object[]{"USER", "EVENT_SEAT_RESERVE"}));
+        cache.evictUser(1L);
+
+        assertThat(cache.resolve(1L, token)).containsExactlyInAnyOrder("USER", "EVENT_SEAT_RESERVE");
+    }
+}
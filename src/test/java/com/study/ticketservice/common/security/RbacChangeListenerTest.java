@@ -0,0 +1,56 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.domain.auth.entity.RolePrivilegeMap;
+import com.study.ticketservice.domain.auth.entity.User;
+import com.study.ticketservice.domain.auth.entity.UserRoleMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RbacChangeListenerTest {
+
+    RbacAuthorityCache cache = mock(RbacAuthorityCache.class);
+    RbacChangeListener listener = new RbacChangeListener(cache);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("user_roles 변경: 트랜잭션 밖이면 해당 사용자 권한을 바로 무효화")
+    void onChange_userRole() {
+        listener.onChange(userRole(10L));
+
+        verify(cache).evictUser(10L);
+    }
+
+    @Test
+    @DisplayName("role_privileges 변경: 트랜잭션 안이면 커밋 이후에 전체 권한을 무효화")
+    void onChange_rolePrivilege_afterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onChange(mock(RolePrivilegeMap.class));
+        verify(cache, never()).evictAll();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(cache).evictAll();
+    }
+
+    private static UserRoleMap userRole(Long userId) {
+        User user = mock(User.class);
+        given(user.getUserId()).willReturn(userId);
+        UserRoleMap userRole = mock(UserRoleMap.class);
+        given(userRole.getUser()).willReturn(user);
+        return userRole;
+    }
+}
@@ -0,0 +1,112 @@
+package com.study.ticketservice.common.security;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 서버로 권한 버전 초기화/증가 검증
+ */
+class RedisPermissionVersionStoreTest {
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate redisTemplate;
+
+    AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    RedisPermissionVersionStore store;
+
+    static final Long USER_ID = 10L;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        flushAll();
+        store = new RedisPermissionVersionStore(redisTemplate, 100, 60_000, now::get);
+    }
+
+    @Test
+    @DisplayName("current: 전체 버전이 없으면 현재 시각으로 초기화")
+    void current_initializesGlobal() {
+        assertThat(store.current(USER_ID)).isEqualTo(new PermissionVersion(1_700_000_000_000L, 0L));
+
+        now.addAndGet(5_000);
+        assertThat(store.current(USER_ID).global()).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("increase: 사용자/전체 버전을 증가시키면 버전 값이 바뀜")
+    void increase_changesValue() {
+        long before = store.current(USER_ID).value();
+
+        store.increaseUser(USER_ID);
+        long afterUser = store.current(USER_ID).value();
+        store.increaseGlobal();
+        long afterGlobal = store.current(USER_ID).value();
+
+        assertThat(afterUser).isEqualTo(before + 1);
+        assertThat(afterGlobal).isEqualTo(before + 2);
+    }
+
+    @Test
+    @DisplayName("Redis 가 초기화되어도 이전에 발급된 토큰의 버전과 일치하지 않음")
+    void flush_doesNotReuseVersions() {
+        store.increaseUser(USER_ID);
+        store.increaseUser(USER_ID);
+        store.increaseGlobal();
+        long issued = store.current(USER_ID).value();
+
+        now.addAndGet(1_000);
+        flushAll();
+        store.increaseUser(USER_ID);
+
+        assertThat(store.current(USER_ID).value()).isGreaterThan(issued);
+    }
+
+    @Test
+    @DisplayName("increaseGlobal: 전체 버전이 없으면 현재 시각에서 증가")
+    void increaseGlobal_initializesFirst() {
+        store.increaseGlobal();
+
+        assertThat(store.current(USER_ID).global()).isEqualTo(1_700_000_000_001L);
+    }
+
+    private static void flushAll() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+}
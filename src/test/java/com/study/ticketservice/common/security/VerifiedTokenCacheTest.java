@@ -0,0 +1,52 @@
+package com.study.ticketservice.common.security;
+
+import com.study.ticketservice.common.security.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    AtomicLong now = new AtomicLong(1_000L);
+    VerifiedTokenCache cache = new VerifiedTokenCache(100, 60_000, now::get);
+    AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 만료 시각이 지나면 다시 검증")
+    void get_reusesUntilExpiration() {
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken(token, 1L, null, 2_000L);
+        };
+
+        assertThat(cache.get("token-a", verifier).userId()).isEqualTo(1L);
+        cache.get("token-a", verifier);
+        cache.get("token-b", verifier);
+        assertThat(verifications).hasValue(2);
+
+        now.set(2_000L);
+        cache.get("token-a", verifier);
+        assertThat(verifications).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 보관하지 않고 매번 다시 검증")
+    void get_doesNotCacheFailures() {
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            throw new IllegalArgumentException("invalid signature");
+        };
+
+        assertThatThrownBy(() -> cache.get("forged", verifier)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache.get("forged", verifier)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
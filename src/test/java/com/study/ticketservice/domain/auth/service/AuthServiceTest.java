@@ -1,9 +1,9 @@
 package com.study.ticketservice.domain.auth.service;
 
 import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.common.security.RbacAuthorityCache;
 import com.study.ticketservice.domain.auth.controller.request.LoginRequest;
 import com.study.ticketservice.domain.auth.repository.UserRepository;
-import com.study.ticketservice.domain.auth.repository.UserRoleMapRepository;
 import com.study.ticketservice.utils.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,7 +30,7 @@ class AuthServiceTest {
 
     @Mock JwtUtil jwtUtil;
     @Mock UserRepository userRepository;
-    @Mock UserRoleMapRepository userRoleMapRepository;
+    @Mock RbacAuthorityCache rbacAuthorityCache;
     @Mock PasswordEncoder passwordEncoder;
 
     // 로컬 Mockito 목 사용
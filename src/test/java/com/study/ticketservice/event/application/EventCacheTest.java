@@ -0,0 +1,95 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
+import com.study.ticketservice.event.application.dto.response.EventListResponse;
+import com.study.ticketservice.event.domain.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class EventCacheTest {
+
+    EventCacheStore store = mock(EventCacheStore.class);
+    EventCache eventCache = new EventCache(store, 100, 60_000, 100, 60_000);
+    Consumer<String> invalidations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventCache.subscribe();
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(store).subscribe(listener.capture());
+        invalidations = listener.getValue();
+    }
+
+    @Test
+    @DisplayName("L1 에 없으면 L2, L2 에도 없으면 원본을 조회해 원본을 조회할 때 읽은 세대로 L2 에 저장")
+    void getDetail_readsThroughTiers() {
+        AtomicInteger loads = new AtomicInteger();
+        given(store.generation("detail:1")).willReturn(3L);
+        given(store.get("detail:2", 0L, "", EventDetailResponse.class)).willReturn(detail(2L, "공유"));
+
+        EventDetailResponse loaded = eventCache.getDetail(1L, id -> {
+            loads.incrementAndGet();
+            return detail(id, "원본");
+        });
+        eventCache.getDetail(1L, id -> detail(id, "다시 조회"));
+        EventDetailResponse shared = eventCache.getDetail(2L, id -> detail(id, "원본"));
+
+        assertThat(loaded.title()).isEqualTo("원본");
+        assertThat(loads.get()).isEqualTo(1);
+        verify(store).put("detail:1", 3L, "", loaded);
+        assertThat(shared.title()).isEqualTo("공유");
+        verify(store, never()).put(eq("detail:2"), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 알림을 받으면 L1 에서 제거하고, 이벤트 변경은 상세와 목록을 함께 무효화")
+    void evict_dropsLocalEntriesOnNotification() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<EventListResponse> first = eventCache.getPage(null, pageable, () -> page("첫 조회"));
+        eventCache.getDetail(1L, id -> detail(id, "첫 조회"));
+
+        invalidations.accept("pages");
+        invalidations.accept("detail:1");
+
+        assertThat(eventCache.getPage(null, pageable, () -> page("다시 조회")).getContent().get(0).title()).isEqualTo("다시 조회");
+        assertThat(eventCache.getDetail(1L, id -> detail(id, "다시 조회")).title()).isEqualTo("다시 조회");
+        assertThat(first.getTotalElements()).isEqualTo(1);
+
+        eventCache.evict(1L);
+
+        verify(store).invalidate("detail:1");
+        verify(store).invalidate("pages");
+        assertThat(eventCache.getDetail(1L, id -> detail(id, "변경 후")).title()).isEqualTo("변경 후");
+    }
+
+    private static EventDetailResponse detail(Long eventId, String title) {
+        return new EventDetailResponse(eventId, title, null, EventStatus.PUBLISHED,
+                LocalDateTime.now(), LocalDateTime.now(), 10, 10, 100, 0, 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static Page<EventListResponse> page(String title) {
+        return new PageImpl<>(List.of(new EventListResponse(1L, title, EventStatus.PUBLISHED,
+                LocalDateTime.now(), LocalDateTime.now(), 100, 0, LocalDateTime.now())), PageRequest.of(0, 10), 1);
+    }
+}
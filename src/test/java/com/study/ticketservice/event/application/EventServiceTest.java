@@ -0,0 +1,123 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.event.application.dto.response.EventCursorPageResponse;
+import com.study.ticketservice.event.application.dto.response.EventListResponse;
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventCursor;
+import com.study.ticketservice.event.domain.EventErrorCode;
+import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.event.domain.SeatStorageMode;
+import com.study.ticketservice.queue.application.WaitingRoomService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventServiceTest {
+
+    @InjectMocks EventService eventService;
+
+    @Mock EventReader eventReader;
+    @Mock EventWriter eventWriter;
+    @Mock SeatReader seatReader;
+    @Mock WaitingRoomService waitingRoomService;
+    @Mock SeatProvisioningService seatProvisioningService;
+    @Mock EventCache eventCache;
+    @Mock SeatStatistics seatStatistics;
+
+    static final Long EVENT_ID = 1L;
+
+    @Test
+    @DisplayName("publishEvent: 저장된 좌석 수가 행 × 열보다 적으면 발행하지 않음 (다른 서버에서 생성 중인 경우 포함)")
+    void publishEvent_seatsMissing() {
+        given(eventReader.findById(EVENT_ID)).willReturn(draftEvent());
+        given(seatProvisioningService.getMode()).willReturn(SeatStorageMode.EAGER);
+        given(seatReader.countByEventId(EVENT_ID)).willReturn(5L);
+
+        assertThatThrownBy(() -> eventService.publishEvent(EVENT_ID))
+                .isInstanceOf(ApiException.class)
+                .extracting("code")
+                .isEqualTo(EventErrorCode.INVALID_EVENT_STATUS.getCode());
+        verify(eventWriter, never()).save(any());
+        verify(waitingRoomService, never()).open(any());
+    }
+
+    @Test
+    @DisplayName("publishEvent: 좌석이 모두 저장되었으면 발행하고 대기열을 엶")
+    void publishEvent_seatsComplete() {
+        given(eventReader.findById(EVENT_ID)).willReturn(draftEvent());
+        given(seatProvisioningService.getMode()).willReturn(SeatStorageMode.EAGER);
+        given(seatReader.countByEventId(EVENT_ID)).willReturn(6L);
+        given(eventWriter.save(any(Event.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(eventService.publishEvent(EVENT_ID).status()).isEqualTo(EventStatus.PUBLISHED);
+        verify(waitingRoomService).open(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("publishEvent: 지연 생성 방식이면 저장된 좌석 수를 확인하지 않음")
+    void publishEvent_lazyMode() {
+        given(eventReader.findById(EVENT_ID)).willReturn(draftEvent());
+        given(seatProvisioningService.getMode()).willReturn(SeatStorageMode.LAZY);
+        given(eventWriter.save(any(Event.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        eventService.publishEvent(EVENT_ID);
+
+        verify(seatReader, never()).countByEventId(any());
+        verify(waitingRoomService).open(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("getEventsAfter: 다음 페이지가 있으면 마지막 이벤트의 생성 시간, 이벤트 ID 로 다음 커서를 만듦")
+    void getEventsAfter_nextCursorFromLastItem() {
+        ReflectionTestUtils.setField(eventService, "maxCursorSize", 100);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        List<EventListResponse> events = List.of(listItem(3L, createdAt.plusMinutes(1)), listItem(2L, createdAt));
+        given(eventReader.findEventListAfter(null, 2)).willReturn(new SliceImpl<>(events, PageRequest.of(0, 2), true));
+        given(seatStatistics.getCounts(anyMap())).willReturn(Map.of());
+
+        EventCursorPageResponse page = eventService.getEventsAfter(null, 2);
+
+        assertThat(page.items()).extracting(EventListResponse::eventId).containsExactly(3L, 2L);
+        assertThat(EventCursor.decode(page.nextCursor())).isEqualTo(new EventCursor(createdAt, 2L));
+    }
+
+    @Test
+    @DisplayName("getEventsAfter: 마지막 페이지면 다음 커서 없음")
+    void getEventsAfter_lastPage() {
+        ReflectionTestUtils.setField(eventService, "maxCursorSize", 100);
+        given(eventReader.findEventListAfter(null, 2)).willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+
+        assertThat(eventService.getEventsAfter(null, 2).hasNext()).isFalse();
+    }
+
+    private static EventListResponse listItem(Long eventId, LocalDateTime createdAt) {
+        return new EventListResponse(eventId, "공연", EventStatus.PUBLISHED,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), 6, 0, createdAt);
+    }
+
+    private static Event draftEvent() {
+        return new Event(EVENT_ID, "공연", null, EventStatus.DRAFT,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), 2, 3, 6, 0, 0,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
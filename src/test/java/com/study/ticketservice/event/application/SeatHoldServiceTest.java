@@ -0,0 +1,210 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.event.application.dto.response.SeatDetailResponse;
+import com.study.ticketservice.event.application.dto.response.SeatHoldResponse;
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventErrorCode;
+import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatBlock;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.queue.application.WaitingRoomService;
+import com.study.ticketservice.queue.domain.QueueErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldServiceTest {
+
+    @InjectMocks SeatHoldService seatHoldService;
+
+    @Mock EventReader eventReader;
+    @Mock EventWriter eventWriter;
+    @Mock SeatReader seatReader;
+    @Mock SeatWriter seatWriter;
+    @Mock SeatHoldStore seatHoldStore;
+    @Mock SeatHoldExpiryService seatHoldExpiryService;
+    @Mock WaitingRoomService waitingRoomService;
+    @Mock SeatStatistics seatStatistics;
+    @Spy SeatLockManager seatLockManager = new SeatLockManager(64, 100);
+
+    static final Long EVENT_ID = 1L;
+    static final Long USER_ID = 10L;
+    static final String TOKEN = "admission-token";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(seatHoldService, "holdMinutes", 10);
+        ReflectionTestUtils.setField(seatHoldService, "maxSeatsPerRequest", 6);
+    }
+
+    @Test
+    @DisplayName("holdSeats: 좌석을 (행, 열) 순으로 정렬해 한 번에 HOLD 하고 DB 반영도 한 번에 요청")
+    void holdSeats_success() {
+        givenPublishedEvent();
+        givenSeats();
+        given(seatHoldStore.hold(eq(EVENT_ID), eq(USER_ID), anyList(), any())).willReturn(SeatHoldResult.succeeded());
+
+        SeatHoldResponse response = seatHoldService.holdSeats(EVENT_ID, USER_ID, TOKEN,
+                List.of(new SeatPosition(2, 1), new SeatPosition(1, 2), new SeatPosition(1, 1)));
+
+        List<SeatPosition> ordered = List.of(new SeatPosition(1, 1), new SeatPosition(1, 2), new SeatPosition(2, 1));
+        verify(seatHoldStore).hold(eq(EVENT_ID), eq(USER_ID), eq(ordered), any(LocalDateTime.class));
+        verify(seatWriter).updateStatusAsync(argThat(seats -> seats.size() == 3
+                && seats.stream().allMatch(seat -> seat.getStatus() == SeatStatus.HOLD)), eq(SeatStatus.AVAILABLE));
+        assertThat(response.seats()).extracting("seatNumber").containsExactly("A1", "A2", "B1");
+        assertThat(response.holdExpiresAt()).isNotNull();
+        verify(seatStatistics).record(EVENT_ID, SeatStatus.AVAILABLE, SeatStatus.HOLD, 3);
+    }
+
+    @Test
+    @DisplayName("holdSeats: 하나라도 충돌하면 SEAT_NOT_AVAILABLE 이고 DB 반영 없음")
+    void holdSeats_conflict() {
+        givenPublishedEvent();
+        givenSeats();
+        given(seatHoldStore.hold(eq(EVENT_ID), eq(USER_ID), anyList(), any()))
+                .willReturn(SeatHoldResult.conflicted(new SeatPosition(1, 2)));
+
+        assertThatThrownBy(() -> seatHoldService.holdSeats(EVENT_ID, USER_ID, TOKEN,
+                List.of(new SeatPosition(1, 1), new SeatPosition(1, 2))))
+                .isInstanceOf(ApiException.class)
+                .extracting("data").isEqualTo("A2");
+        verify(seatWriter, never()).updateStatusAsync(anyList(), any());
+        verify(seatHoldExpiryService, never()).schedule(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("holdSeats: 중복 좌석이나 최대 개수 초과는 INVALID_PARAMETER")
+    void holdSeats_invalidPositions() {
+        assertThatThrownBy(() -> seatHoldService.holdSeats(EVENT_ID, USER_ID, TOKEN,
+                List.of(new SeatPosition(1, 1), new SeatPosition(1, 1))))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> seatHoldService.holdSeats(EVENT_ID, USER_ID, TOKEN, List.of()))
+                .isInstanceOf(ApiException.class);
+        verify(seatHoldStore, never()).hold(any(), any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("holdBestAvailable: 추천 묶음이 충돌하면 다음 후보를 HOLD")
+    void holdBestAvailable_retriesNextBlock() {
+        ReflectionTestUtils.setField(seatHoldService, "bestAvailableAttempts", 3);
+        givenPublishedEvent();
+        givenSeats();
+        given(seatReader.findBestAvailable(EVENT_ID, 2, 3))
+                .willReturn(List.of(new SeatBlock(1, 4, 2), new SeatBlock(2, 4, 2)));
+        given(seatHoldStore.hold(eq(EVENT_ID), eq(USER_ID), eq(new SeatBlock(1, 4, 2).positions()), any()))
+                .willReturn(SeatHoldResult.conflicted(new SeatPosition(1, 5)));
+        given(seatHoldStore.hold(eq(EVENT_ID), eq(USER_ID), eq(new SeatBlock(2, 4, 2).positions()), any()))
+                .willReturn(SeatHoldResult.succeeded());
+
+        SeatHoldResponse response = seatHoldService.holdBestAvailable(EVENT_ID, USER_ID, TOKEN, 2);
+
+        assertThat(response.seats()).extracting("seatNumber").containsExactly("B4", "B5");
+    }
+
+    @Test
+    @DisplayName("holdSeats: 입장 토큰이 유효하지 않으면 HOLD 하지 않음")
+    void holdSeats_admissionRequired() {
+        willThrow(new ApiException(QueueErrorCode.ADMISSION_REQUIRED))
+                .given(waitingRoomService).verifyAdmission(EVENT_ID, USER_ID, null);
+
+        assertThatThrownBy(() -> seatHoldService.holdSeats(EVENT_ID, USER_ID, null, List.of(new SeatPosition(1, 1))))
+                .isInstanceOf(ApiException.class);
+        verify(seatHoldStore, never()).hold(any(), any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("sellSeats: 판매하면 이벤트 예약 집계에 판매한 좌석 수와 가격 합계를 더함")
+    void sellSeats_addsReservationSummary() {
+        givenPublishedEvent();
+        givenSeats();
+        List<SeatPosition> ordered = List.of(new SeatPosition(1, 1), new SeatPosition(1, 2));
+        given(seatHoldStore.sell(EVENT_ID, USER_ID, ordered)).willReturn(SeatHoldResult.succeeded());
+
+        List<SeatDetailResponse> sold = seatHoldService.sellSeats(EVENT_ID, USER_ID,
+                List.of(new SeatPosition(1, 2), new SeatPosition(1, 1)));
+
+        assertThat(sold).extracting(SeatDetailResponse::status).containsOnly(SeatStatus.SOLD);
+        verify(seatWriter).updateStatusAsync(anyList(), eq(SeatStatus.HOLD));
+        verify(eventWriter).addReservationAsync(EVENT_ID, 2, 20000);
+        verify(seatHoldExpiryService).cancel(EVENT_ID, new SeatPosition(1, 1));
+        verify(seatHoldExpiryService).cancel(EVENT_ID, new SeatPosition(1, 2));
+        verify(seatStatistics).record(EVENT_ID, SeatStatus.HOLD, SeatStatus.SOLD, 2);
+    }
+
+    @Test
+    @DisplayName("sellSeats: 본인의 HOLD 좌석이 아니면 INVALID_SEAT_STATUS, 집계와 DB 반영 없음")
+    void sellSeats_notHeld() {
+        givenPublishedEvent();
+        givenSeats();
+        given(seatHoldStore.sell(EVENT_ID, USER_ID, List.of(new SeatPosition(1, 1))))
+                .willReturn(SeatHoldResult.conflicted(new SeatPosition(1, 1)));
+
+        assertThatThrownBy(() -> seatHoldService.sellSeats(EVENT_ID, USER_ID, List.of(new SeatPosition(1, 1))))
+                .isInstanceOf(ApiException.class)
+                .extracting("code", "data")
+                .containsExactly(EventErrorCode.INVALID_SEAT_STATUS.getCode(), "A1");
+        verify(seatWriter, never()).updateStatusAsync(anyList(), any());
+        verify(eventWriter, never()).addReservationAsync(any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("releaseSeats: 본인의 HOLD 좌석을 해제하고 만료 예약을 취소")
+    void releaseSeats_success() {
+        givenSeats();
+        List<SeatPosition> ordered = List.of(new SeatPosition(1, 1), new SeatPosition(2, 1));
+        given(seatHoldStore.release(EVENT_ID, USER_ID, ordered)).willReturn(SeatHoldResult.succeeded());
+
+        List<SeatDetailResponse> released = seatHoldService.releaseSeats(EVENT_ID, USER_ID,
+                List.of(new SeatPosition(2, 1), new SeatPosition(1, 1)));
+
+        assertThat(released).extracting(SeatDetailResponse::status).containsOnly(SeatStatus.AVAILABLE);
+        verify(seatWriter).updateStatusAsync(anyList(), eq(SeatStatus.HOLD));
+        verify(seatStatistics).record(EVENT_ID, SeatStatus.HOLD, SeatStatus.AVAILABLE, 2);
+        verify(seatHoldExpiryService).cancel(EVENT_ID, new SeatPosition(1, 1));
+        verify(seatHoldExpiryService).cancel(EVENT_ID, new SeatPosition(2, 1));
+    }
+
+    @Test
+    @DisplayName("releaseSeats: 중복된 좌석이 있으면 INVALID_PARAMETER, 저장소 호출 없음")
+    void releaseSeats_duplicatePositions() {
+        assertThatThrownBy(() -> seatHoldService.releaseSeats(EVENT_ID, USER_ID,
+                List.of(new SeatPosition(1, 1), new SeatPosition(1, 1))))
+                .isInstanceOf(ApiException.class)
+                .extracting("code")
+                .isEqualTo(EventErrorCode.INVALID_PARAMETER.getCode());
+        verify(seatHoldStore, never()).release(any(), any(), anyList());
+    }
+
+    private void givenPublishedEvent() {
+        Event event = new Event(EVENT_ID, "공연", null, EventStatus.PUBLISHED,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), 2, 2, 4, 0, 0,
+                LocalDateTime.now(), LocalDateTime.now());
+        given(eventReader.findById(EVENT_ID)).willReturn(event);
+    }
+
+    private void givenSeats() {
+        given(seatReader.findByEventIdAndPosition(eq(EVENT_ID), anyInt(), anyInt()))
+                .willAnswer(invocation -> new Seat(EVENT_ID, invocation.getArgument(1), invocation.getArgument(2), 10000));
+    }
+}
@@ -0,0 +1,93 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.common.exception.ApiException;
+import com.study.ticketservice.event.domain.SeatPosition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatLockManagerTest {
+
+    SeatLockManager seatLockManager = new SeatLockManager(1024, 50);
+
+    static final Long EVENT_ID = 1L;
+
+    @Test
+    @DisplayName("다른 스레드가 잡은 좌석은 시간 안에 잠금을 얻지 못하고 해제 후에는 획득")
+    void tryLock_timeout() throws Exception {
+        List<SeatPosition> seat = List.of(new SeatPosition(1, 1));
+        SeatLockManager.SeatLocks held = seatLockManager.tryLock(EVENT_ID, seat, 0, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<Boolean> other = CompletableFuture.supplyAsync(
+                () -> seatLockManager.tryLock(EVENT_ID, seat, 10, TimeUnit.MILLISECONDS) != null);
+        assertThat(other.get()).isFalse();
+        assertThatThrownBy(() -> CompletableFuture.runAsync(() -> seatLockManager.lock(EVENT_ID, seat)).join())
+                .hasCauseInstanceOf(ApiException.class);
+
+        held.close();
+        CompletableFuture<Boolean> after = CompletableFuture.supplyAsync(() -> {
+            try (SeatLockManager.SeatLocks locks = seatLockManager.tryLock(EVENT_ID, seat, 10, TimeUnit.MILLISECONDS)) {
+                return locks != null;
+            }
+        });
+        assertThat(after.get()).isTrue();
+        assertThat(seatLockManager.stats().timedOut()).isEqualTo(2);
+        assertThat(seatLockManager.stats().contended()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 좌석을 순서를 바꿔 동시에 잠가도 교착 없이 같은 좌석의 변경이 직렬화됨")
+    void lock_multipleSeatsWithoutDeadlock() throws Exception {
+        List<SeatPosition> seats = new ArrayList<>();
+        for (int col = 1; col <= 6; col++) {
+            seats.add(new SeatPosition(1, col));
+        }
+        int threads = 8;
+        int iterations = 500;
+        int[] counter = new int[1];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<SeatPosition> order = new ArrayList<>(seats);
+            Collections.shuffle(order);
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < iterations; i++) {
+                    try (SeatLockManager.SeatLocks locks = seatLockManager.tryLock(EVENT_ID, order, 5, TimeUnit.SECONDS)) {
+                        if (locks == null) {
+                            failures.incrementAndGet();
+                            continue;
+                        }
+                        counter[0]++;
+                    }
+                }
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(failures).hasValue(0);
+        assertThat(counter[0]).isEqualTo(threads * iterations);
+        assertThat(seatLockManager.stats().acquired()).isEqualTo(threads * iterations);
+    }
+}
@@ -0,0 +1,122 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.event.domain.SeatProvisioningStatus;
+import com.study.ticketservice.event.domain.SeatStorageMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SeatProvisioningServiceTest {
+
+    SeatReader seatReader = mock(SeatReader.class);
+    SeatWriter seatWriter = mock(SeatWriter.class);
+    EventReader eventReader = mock(EventReader.class);
+    SeatProvisioningService seatProvisioningService = new SeatProvisioningService(seatReader, seatWriter, eventReader);
+
+    static final Long EVENT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(seatProvisioningService, "mode", SeatStorageMode.EAGER);
+        ReflectionTestUtils.setField(seatProvisioningService, "workers", 1);
+        ReflectionTestUtils.setField(seatProvisioningService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(seatProvisioningService, "batchRows", 2);
+        ReflectionTestUtils.setField(seatProvisioningService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(seatProvisioningService, "retryDelayMs", 10L);
+        seatProvisioningService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatProvisioningService.stop();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 행 다음부터 batch-rows 행씩 나누어 생성하고 진행 상황 기록")
+    void provision_resumesFromSavedRows() {
+        given(seatReader.countByEventId(EVENT_ID)).willReturn(10L);
+
+        SeatProvisioningJob job = seatProvisioningService.provision(event(EVENT_ID, 5, 10));
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> job.getStatus() == SeatProvisioningStatus.COMPLETED);
+        verify(seatWriter).insertAll(argThat(seats -> seats.size() == 20
+                && seats.get(0).getSeatNumber().equals("B1") && seats.get(19).getSeatNumber().equals("C10")));
+        verify(seatWriter).insertAll(argThat(seats -> seats.size() == 20 && seats.get(0).getSeatNumber().equals("D1")));
+        assertThat(job.getProvisionedSeats()).isEqualTo(50);
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패하면 잠시 후 다시 시도하고 재시도 횟수를 모두 쓰면 FAILED")
+    void provision_retriesThenFails() {
+        given(seatWriter.insertAll(anyList()))
+                .willThrow(new IllegalStateException("connection reset"))
+                .willReturn(20);
+
+        SeatProvisioningJob recovered = seatProvisioningService.provision(event(2L, 2, 10));
+        await().atMost(2, TimeUnit.SECONDS).until(() -> recovered.getStatus() == SeatProvisioningStatus.COMPLETED);
+        assertThat(recovered.getAttempts()).isEqualTo(2);
+
+        given(seatWriter.insertAll(anyList())).willThrow(new IllegalStateException("connection reset"));
+        SeatProvisioningJob failed = seatProvisioningService.provision(event(3L, 2, 10));
+        await().atMost(2, TimeUnit.SECONDS).until(() -> failed.getStatus() == SeatProvisioningStatus.FAILED);
+        assertThat(failed.getLastError()).isEqualTo("connection reset");
+        assertThat(failed.isIncomplete()).isTrue();
+        verify(seatWriter, times(4)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("지연 생성 방식이면 좌석을 저장하지 않고 바로 완료")
+    void provision_lazyMode() {
+        ReflectionTestUtils.setField(seatProvisioningService, "mode", SeatStorageMode.LAZY);
+
+        SeatProvisioningJob job = seatProvisioningService.provision(event(4L, 50, 50));
+
+        assertThat(job.getStatus()).isEqualTo(SeatProvisioningStatus.COMPLETED);
+        assertThat(job.getProvisionedSeats()).isEqualTo(2500);
+        verify(seatWriter, never()).insertAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("끝난 지 job-retention-ms 가 지난 작업 기록만 제거, 끝나지 않은 작업은 유지")
+    void evictFinishedJobs() {
+        ReflectionTestUtils.setField(seatProvisioningService, "mode", SeatStorageMode.LAZY);
+        seatProvisioningService.provision(event(5L, 2, 10));
+        Map<Long, SeatProvisioningJob> jobs = (Map<Long, SeatProvisioningJob>) ReflectionTestUtils.getField(seatProvisioningService, "jobs");
+        jobs.put(6L, new SeatProvisioningJob(event(6L, 2, 10)));
+
+        ReflectionTestUtils.setField(seatProvisioningService, "jobRetentionMs", 60_000L);
+        seatProvisioningService.evictFinishedJobs();
+        assertThat(seatProvisioningService.getJob(5L)).isNotNull();
+
+        ReflectionTestUtils.setField(seatProvisioningService, "jobRetentionMs", -1L);
+        seatProvisioningService.evictFinishedJobs();
+        assertThat(seatProvisioningService.getJob(5L)).isNull();
+        assertThat(seatProvisioningService.getJob(6L)).isNotNull();
+    }
+
+    private static Event event(Long eventId, int rows, int cols) {
+        return new Event(eventId, "공연", null, EventStatus.DRAFT,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), rows, cols, rows * cols, 0, 0,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,109 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatStateReconcilerTest {
+
+    @InjectMocks SeatStateReconciler reconciler;
+
+    @Mock EventReader eventReader;
+    @Mock SeatHoldStore seatHoldStore;
+    @Mock SeatReader seatReader;
+    @Mock SeatWriter seatWriter;
+    @Mock SeatHoldExpiryService seatHoldExpiryService;
+    @Mock SeatStatistics seatStatistics;
+    @Spy SeatLockManager seatLockManager = new SeatLockManager(64, 100);
+
+    static final Long EVENT_ID = 1L;
+    static final SeatPosition A1 = new SeatPosition(1, 1);
+    static final SeatPosition A2 = new SeatPosition(1, 2);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciler, "reconcileQuietMs", 10_000L);
+        ReflectionTestUtils.setField(reconciler, "lockTimeoutMs", 50L);
+        given(eventReader.existsById(EVENT_ID)).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("reconcile: DB에 반영되지 않은 HOLD 를 다시 반영하고 만료 일정 등록")
+    void reconcile_restoresLostHold() {
+        LocalDateTime holdExpiresAt = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.MILLIS);
+        HeldSeat held = new HeldSeat(A1, SeatStatus.HOLD, holdExpiresAt);
+        given(seatHoldStore.findHeldSeats(EVENT_ID)).willReturn(List.of(held));
+        given(seatHoldStore.findHeldSeat(EVENT_ID, A1)).willReturn(held);
+        given(seatReader.findByEventIdAndPosition(EVENT_ID, 1, 1)).willReturn(savedSeat(11L, SeatStatus.AVAILABLE, 60));
+
+        assertThat(reconciler.reconcile(EVENT_ID)).isEqualTo(1);
+
+        verify(seatWriter).updateStatusAsync(argThat(seats -> seats.get(0).getStatus() == SeatStatus.HOLD
+                && holdExpiresAt.equals(seats.get(0).getHoldExpiresAt())), eq(SeatStatus.AVAILABLE));
+        verify(seatHoldExpiryService).schedule(EVENT_ID, A1, holdExpiresAt);
+        verify(seatStatistics).record(EVENT_ID, SeatStatus.AVAILABLE, SeatStatus.HOLD, 1);
+    }
+
+    @Test
+    @DisplayName("reconcile: SeatHoldStore 에 없는 DB HOLD 좌석은 AVAILABLE 로 반영, 최근 변경된 좌석은 건너뜀")
+    void reconcile_releasesStaleDbHold() {
+        given(seatHoldStore.findHeldSeats(EVENT_ID)).willReturn(List.of());
+        Seat stale = savedSeat(11L, SeatStatus.HOLD, 60);
+        Seat recent = savedSeat(12L, SeatStatus.SOLD, 1);
+        recent.setCol(2);
+        given(seatReader.findByEventIdAndStatus(EVENT_ID, SeatStatus.HOLD)).willReturn(List.of(stale));
+        given(seatReader.findByEventIdAndStatus(EVENT_ID, SeatStatus.SOLD)).willReturn(List.of(recent));
+        given(seatReader.findByEventIdAndPosition(EVENT_ID, 1, 1)).willReturn(stale);
+        given(seatReader.findByEventIdAndPosition(EVENT_ID, 1, 2)).willReturn(recent);
+
+        assertThat(reconciler.reconcile(EVENT_ID)).isEqualTo(1);
+
+        verify(seatWriter).updateStatusAsync(List.of(stale), SeatStatus.HOLD);
+        assertThat(stale.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        verify(seatHoldExpiryService).cancel(EVENT_ID, A1);
+        verify(seatStatistics).record(EVENT_ID, SeatStatus.HOLD, SeatStatus.AVAILABLE, 1);
+        verify(seatHoldExpiryService, never()).cancel(EVENT_ID, A2);
+    }
+
+    @Test
+    @DisplayName("reconcile: 상태가 같으면 아무것도 반영하지 않음")
+    void reconcile_inSync() {
+        given(seatHoldStore.findHeldSeats(EVENT_ID)).willReturn(List.of(new HeldSeat(A1, SeatStatus.SOLD, null)));
+        given(seatHoldStore.findHeldSeat(EVENT_ID, A1)).willReturn(new HeldSeat(A1, SeatStatus.SOLD, null));
+        given(seatReader.findByEventIdAndPosition(EVENT_ID, 1, 1)).willReturn(savedSeat(11L, SeatStatus.SOLD, 60));
+
+        assertThat(reconciler.reconcile(EVENT_ID)).isZero();
+
+        verify(seatWriter, never()).updateStatusAsync(anyList(), any());
+    }
+
+    private static Seat savedSeat(Long seatId, SeatStatus status, long secondsAgo) {
+        Seat seat = new Seat(EVENT_ID, 1, 1, 10000);
+        seat.setSeatId(seatId);
+        seat.changeStatus(status, null, LocalDateTime.now().minusSeconds(secondsAgo));
+        return seat;
+    }
+}
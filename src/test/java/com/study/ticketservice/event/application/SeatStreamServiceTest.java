@@ -0,0 +1,183 @@
+package com.study.ticketservice.event.application;
+
+import com.study.ticketservice.event.application.dto.response.SeatMapChangesResponse;
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatMapChanges;
+import com.study.ticketservice.event.domain.SeatStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SeatStreamServiceTest {
+
+    SeatReader seatReader = mock(SeatReader.class);
+    SeatStreamService seatStreamService = new SeatStreamService(seatReader);
+
+    static final Long EVENT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(seatStreamService, "intervalMs", 10L);
+        ReflectionTestUtils.setField(seatStreamService, "bufferSize", 2);
+        ReflectionTestUtils.setField(seatStreamService, "heartbeatMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독하면 전체 좌석을 먼저 보내고 이후 변경분을 모든 구독자에게 한 번 조회로 전달")
+    void subscribe_fansOutChanges() {
+        given(seatReader.findChangesSince(EVENT_ID, 0)).willReturn(snapshot(100));
+        given(seatReader.findChangesSince(EVENT_ID, 100)).willReturn(delta(101));
+        given(seatReader.findChangesSince(EVENT_ID, 101)).willReturn(new SeatMapChanges(101, false, List.of()));
+
+        CapturingEmitter first = new CapturingEmitter(null);
+        CapturingEmitter second = new CapturingEmitter(null);
+        seatStreamService.subscribe(EVENT_ID, null, first);
+        seatStreamService.subscribe(EVENT_ID, null, second);
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> first.sent.size() == 2 && second.sent.size() == 2);
+        assertThat(first.sent).extracting(SeatMapChangesResponse::version).containsExactly(100L, 101L);
+        assertThat(first.sent.get(0).snapshot()).isTrue();
+        assertThat(second.sent.get(1).seats()).extracting("seatNumber").containsExactly("A1");
+        // 변경분은 구독자 수와 관계없이 한 번만 조회
+        verify(seatReader, atMost(1)).findChangesSince(EVENT_ID, 100);
+        assertThat(seatStreamService.subscriberCount(EVENT_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구독 중 처음 보낼 좌석을 조회한 직후 발행된 변경분도 새 구독자에게 전달")
+    void subscribe_concurrentPublish_deliversChange() {
+        AtomicBoolean changed = new AtomicBoolean();
+        AtomicInteger snapshots = new AtomicInteger();
+        CountDownLatch published = new CountDownLatch(1);
+        given(seatReader.findChangesSince(eq(EVENT_ID), anyLong())).willAnswer(invocation -> {
+            long since = invocation.getArgument(1);
+            if (since == 0) {
+                SeatMapChanges snapshot = snapshot(100);
+                if (snapshots.incrementAndGet() == 2) {
+                    // 두 번째 구독자의 조회 직후 좌석이 변경되고 피드가 발행을 시도
+                    changed.set(true);
+                    published.await(300, TimeUnit.MILLISECONDS);
+                }
+                return snapshot;
+            }
+            if (since == 100 && changed.get()) {
+                published.countDown();
+                return delta(101);
+            }
+            return new SeatMapChanges(since, false, List.of());
+        });
+
+        CapturingEmitter first = new CapturingEmitter(null);
+        CapturingEmitter second = new CapturingEmitter(null);
+        seatStreamService.subscribe(EVENT_ID, null, first);
+        seatStreamService.subscribe(EVENT_ID, null, second);
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> second.sent.size() == 2);
+        assertThat(second.sent).extracting(SeatMapChangesResponse::version).containsExactly(100L, 101L);
+        assertThat(first.sent).extracting(SeatMapChangesResponse::version).containsExactly(100L, 101L);
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 버퍼가 가득 찬 구독자는 변경분 대신 전체 좌석으로 다시 동기화")
+    void slowSubscriber_resyncsWithSnapshot() throws Exception {
+        given(seatReader.findChangesSince(EVENT_ID, 0)).willReturn(snapshot(100));
+        given(seatReader.findChangesSince(eq(EVENT_ID), anyLong())).willAnswer(invocation -> {
+            long since = invocation.getArgument(1);
+            return since == 0 ? snapshot(200) : delta(since + 1);
+        });
+
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingEmitter slow = new CapturingEmitter(release);
+        seatStreamService.subscribe(EVENT_ID, null, slow);
+
+        // 첫 전송이 막힌 동안 변경분이 버퍼 크기(2)를 넘게 쌓임
+        Thread.sleep(200);
+        release.countDown();
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> slow.sent.size() >= 2);
+        assertThat(slow.sent.get(1).snapshot()).isTrue();
+        assertThat(slow.sent.get(1).version()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 끊기면 변경 피드 종료")
+    void disconnect_stopsFeed() {
+        given(seatReader.findChangesSince(eq(EVENT_ID), anyLong())).willReturn(snapshot(100));
+        CapturingEmitter emitter = new CapturingEmitter(null);
+        emitter.failing = true;
+
+        seatStreamService.subscribe(EVENT_ID, null, emitter);
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> seatStreamService.subscriberCount(EVENT_ID) == 0);
+    }
+
+    private static SeatMapChanges snapshot(long version) {
+        return new SeatMapChanges(version, true, List.of(seat(1, 1), seat(1, 2)));
+    }
+
+    private static SeatMapChanges delta(long version) {
+        Seat seat = seat(1, 1);
+        seat.changeStatus(SeatStatus.SOLD, null);
+        return new SeatMapChanges(version, false, List.of(seat));
+    }
+
+    private static Seat seat(int row, int col) {
+        return new Seat(EVENT_ID, row, col, 10000);
+    }
+
+    static class CapturingEmitter extends SseEmitter {
+
+        final List<SeatMapChangesResponse> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch release;
+        volatile boolean failing;
+
+        CapturingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("client disconnected");
+            }
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            builder.build().stream()
+                    .map(data -> data.getData())
+                    .filter(SeatMapChangesResponse.class::isInstance)
+                    .map(SeatMapChangesResponse.class::cast)
+                    .forEach(sent::add);
+        }
+    }
+}
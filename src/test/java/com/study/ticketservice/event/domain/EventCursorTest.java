@@ -0,0 +1,35 @@
+package com.study.ticketservice.event.domain;
+
+import com.study.ticketservice.common.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 (생성 시간, 이벤트 ID), 빈 값은 첫 페이지(null)")
+    void encode_decode() {
+        EventCursor cursor = new EventCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("|", "=", "+", "/");
+        assertThat(EventCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(EventCursor.decode("")).isNull();
+        assertThat(EventCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_PARAMETER")
+    void decode_invalid() {
+        assertThatThrownBy(() -> EventCursor.decode("not a cursor!"))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> EventCursor.decode("MjAyNS0wMy0wMQ"))
+                .isInstanceOf(ApiException.class);
+    }
+}
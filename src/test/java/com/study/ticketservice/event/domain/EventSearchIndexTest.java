@@ -0,0 +1,77 @@
+package com.study.ticketservice.event.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("제목에 검색어가 그대로 있는 이벤트가 먼저, 설명에만 있는 이벤트는 나중, 같으면 최근 생성 순")
+    void search_ranking() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.put(1L, "겨울 콘서트", "아이유 단독 공연", NOW, NOW);
+        index.put(2L, "아이유 콘서트", null, NOW.plusDays(1), NOW);
+        index.put(3L, "아이유 팬미팅", "콘서트 아님", NOW.plusDays(2), NOW);
+        index.put(4L, "재즈 페스티벌", null, NOW.plusDays(3), NOW);
+
+        EventSearchResult result = index.search("아이유", 0, 10);
+
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.eventIds()).containsExactly(3L, 2L, 1L);
+        assertThat(index.search("아이유 콘서트", 0, 10).eventIds()).containsExactly(2L, 3L, 1L);
+        assertThat(index.search("JAZZ", 0, 10).eventIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자/전각 문자를 구분하지 않고 1글자 검색어는 그 글자를 포함한 이벤트를 찾음")
+    void search_normalization() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.put(1L, "BTS World Tour", null, NOW, NOW);
+        index.put(2L, "ＢＴＳ 팬미팅", null, NOW.plusDays(1), NOW);
+        index.put(3L, "뮤지컬 캣츠", null, NOW.plusDays(2), NOW);
+
+        assertThat(index.search("bts", 0, 10).eventIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("캣", 0, 10).eventIds()).containsExactly(3L);
+        assertThat(index.search(" !? ", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("offset/limit 으로 나누어 조회하고 전체 결과 수는 유지")
+    void search_paging() {
+        EventSearchIndex index = new EventSearchIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.put(id, "공연 " + id, null, NOW.plusMinutes(id), NOW);
+        }
+
+        EventSearchResult second = index.search("공연", 10, 10);
+        EventSearchResult last = index.search("공연", 20, 10);
+
+        assertThat(second.total()).isEqualTo(25);
+        assertThat(second.eventIds()).hasSize(10).first().isEqualTo(15L);
+        assertThat(last.eventIds()).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(index.search("공연", 30, 10).eventIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경은 수정 시간이 더 최근일 때만 반영하고 제거된 이벤트는 검색되지 않음")
+    void put_replacesOnlyNewer() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.put(1L, "봄 축제", null, NOW, NOW);
+
+        assertThat(index.put(1L, "가을 축제", null, NOW, NOW.plusSeconds(1))).isTrue();
+        assertThat(index.put(1L, "봄 축제", null, NOW, NOW)).isFalse();
+        assertThat(index.search("봄", 0, 10).eventIds()).isEmpty();
+        assertThat(index.search("가을", 0, 10).eventIds()).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("축제", 0, 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.ticketservice.event.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatRunTreeTest {
+
+    @Test
+    @DisplayName("가장 긴 빈 구간과 원하는 위치에 가장 가까운 연속 좌석 조회")
+    void nearestStart() {
+        // 1..10 열 중 2, 3, 4, 7, 8, 9, 10 열이 빈 좌석
+        SeatRunTree tree = treeOf("0111001111");
+
+        assertThat(tree.longestRun()).isEqualTo(4);
+        assertThat(tree.nearestStart(3, 5)).isEqualTo(7);
+        assertThat(tree.nearestStart(3, 3)).isEqualTo(2);
+        assertThat(tree.nearestStart(2, 5)).isEqualTo(3);
+        assertThat(tree.nearestStart(5, 1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("무작위 좌석 상태에서 전체 탐색 결과와 일치")
+    void nearestStart_matchesBruteForce() {
+        Random random = new Random(42);
+        int size = 37;
+        SeatRunTree tree = new SeatRunTree(size);
+        boolean[] free = new boolean[size + 1];
+
+        for (int step = 0; step < 2_000; step++) {
+            int col = random.nextInt(size) + 1;
+            free[col] = random.nextInt(3) > 0;
+            tree.set(col, free[col]);
+
+            int length = random.nextInt(6) + 1;
+            int preferred = random.nextInt(size) + 1;
+            assertThat(tree.longestRun()).isEqualTo(longestRun(free));
+            assertThat(tree.nearestStart(length, preferred)).isEqualTo(nearestStart(free, length, preferred));
+        }
+    }
+
+    private static SeatRunTree treeOf(String layout) {
+        SeatRunTree tree = new SeatRunTree(layout.length());
+        for (int i = 0; i < layout.length(); i++) {
+            tree.set(i + 1, layout.charAt(i) == '1');
+        }
+        return tree;
+    }
+
+    private static int longestRun(boolean[] free) {
+        int best = 0, run = 0;
+        for (int col = 1; col < free.length; col++) {
+            run = free[col] ? run + 1 : 0;
+            best = Math.max(best, run);
+        }
+        return best;
+    }
+
+    private static int nearestStart(boolean[] free, int length, int preferredStart) {
+        int size = free.length - 1;
+        int preferred = Math.max(1, Math.min(preferredStart, size - length + 1));
+        int answer = -1;
+        for (int start = 1; start + length - 1 <= size; start++) {
+            boolean fits = true;
+            for (int col = start; col < start + length; col++) {
+                fits &= free[col];
+            }
+            if (fits && (answer < 0 || Math.abs(start - preferred) < Math.abs(answer - preferred))) {
+                answer = start;
+            }
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,170 @@
+package com.study.ticketservice.event.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatStateGridTest {
+
+    private SeatStateGrid gridWithSeats(int rows, int cols) {
+        SeatStateGrid grid = new SeatStateGrid(1L, rows, cols);
+        long seatId = 1;
+        for (int row = 1; row <= rows; row++) {
+            for (int col = 1; col <= cols; col++) {
+                Seat seat = new Seat(1L, row, col, 10000);
+                seat.setSeatId(seatId++);
+                grid.put(seat);
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    @DisplayName("전체 좌석을 행, 열 순으로 반환")
+    void getSeats_rowMajorOrder() {
+        SeatStateGrid grid = gridWithSeats(3, 40);
+
+        List<Seat> seats = grid.getSeats();
+
+        assertThat(seats).hasSize(120);
+        assertThat(seats.get(0).getSeatNumber()).isEqualTo("A1");
+        assertThat(seats.get(40).getSeatNumber()).isEqualTo("B1");
+        assertThat(seats.get(119).getSeatNumber()).isEqualTo("C40");
+        assertThat(seats).extracting(Seat::getSeatId).isSorted();
+    }
+
+    @Test
+    @DisplayName("상태 변경 시 비트셋 필터와 개수가 함께 갱신")
+    void put_updatesStatusBits() {
+        SeatStateGrid grid = gridWithSeats(2, 50);
+
+        Seat held = grid.getSeats().get(70);
+        held.hold(5);
+        grid.put(held);
+
+        assertThat(grid.count(SeatStatus.AVAILABLE)).isEqualTo(99);
+        assertThat(grid.count(SeatStatus.HOLD)).isEqualTo(1);
+        assertThat(grid.getSeats(SeatStatus.HOLD))
+                .singleElement()
+                .satisfies(seat -> {
+                    assertThat(seat.getSeatId()).isEqualTo(held.getSeatId());
+                    // DB(datetime(6))와 같은 마이크로초 정밀도로 보관
+                    assertThat(seat.getHoldExpiresAt())
+                            .isEqualTo(held.getHoldExpiresAt().truncatedTo(ChronoUnit.MICROS));
+                });
+        assertThat(grid.statusAt(2, 21)).isEqualTo(SeatStatus.HOLD);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 좌석과 범위 밖 좌석은 조회되지 않음")
+    void missingSeats_areNotReturned() {
+        SeatStateGrid grid = new SeatStateGrid(1L, 2, 2);
+        Seat seat = new Seat(1L, 2, 2, 5000);
+        seat.setCreatedAt(LocalDateTime.of(2026, 1, 1, 10, 0, 0, 123456000));
+        seat.setVersion(7);
+        grid.put(seat);
+        grid.put(new Seat(1L, 3, 1, 5000));
+
+        assertThat(grid.getSeats()).singleElement()
+                .satisfies(s -> {
+                    assertThat(s.getSeatNumber()).isEqualTo("B2");
+                    assertThat(s.getCreatedAt()).isEqualTo(seat.getCreatedAt());
+                    assertThat(s.getVersion()).isEqualTo(7);
+                });
+        assertThat(grid.statusAt(1, 1)).isNull();
+        assertThat(grid.statusAt(3, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("연속 좌석 추천: 앞 행부터, 같은 행에서는 가운데에 가까운 묶음")
+    void findBestAvailable() {
+        SeatStateGrid grid = gridWithSeats(3, 10);
+        // 1행은 가운데(5열)가 판매되어 연속 4석 불가, 2행은 4~7열 중 6열 HOLD
+        sell(grid, 1, 5);
+        sell(grid, 1, 2);
+        sell(grid, 1, 8);
+        Seat held = grid.getSeat(2, 6);
+        held.hold(5);
+        grid.put(held);
+
+        List<SeatBlock> blocks = grid.findBestAvailable(4, 2);
+
+        assertThat(blocks).containsExactly(new SeatBlock(2, 2, 4), new SeatBlock(3, 4, 4));
+        assertThat(blocks.get(0).positions()).extracting(SeatPosition::seatNumber)
+                .containsExactly("B2", "B3", "B4", "B5");
+        assertThat(grid.findBestAvailable(11, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("changesSince: 상태가 바뀐 좌석만 한 번씩 반환하고 같은 상태로 다시 반영하면 버전 유지")
+    void changesSince_returnsChangedSeats() {
+        SeatStateGrid grid = new SeatStateGrid(1L, 2, 10, 8);
+        for (Seat seat : gridWithSeats(2, 10).getSeats()) {
+            grid.put(seat);
+        }
+        long version = grid.getMapVersion();
+
+        sell(grid, 1, 3);
+        sell(grid, 2, 1);
+        grid.put(grid.getSeat(1, 3));
+        Seat held = grid.getSeat(1, 5);
+        held.changeStatus(SeatStatus.HOLD, LocalDateTime.now().plusMinutes(10));
+        grid.put(held);
+        held.changeStatus(SeatStatus.AVAILABLE, null);
+        grid.put(held);
+
+        SeatMapChanges changes = grid.changesSince(version);
+
+        assertThat(changes.snapshot()).isFalse();
+        assertThat(changes.version()).isEqualTo(version + 4);
+        assertThat(changes.seats()).extracting(Seat::getSeatNumber).containsExactly("A3", "A5", "B1");
+        assertThat(changes.seats()).extracting(Seat::getStatus)
+                .containsExactly(SeatStatus.SOLD, SeatStatus.AVAILABLE, SeatStatus.SOLD);
+        assertThat(grid.changesSince(changes.version()).seats()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("changesSince: 변경 기록보다 오래되었거나 이 배치도의 버전이 아니면 전체 좌석 반환")
+    void changesSince_snapshotWhenTooFarBehind() {
+        SeatStateGrid grid = new SeatStateGrid(1L, 2, 10, 8);
+        for (Seat seat : gridWithSeats(2, 10).getSeats()) {
+            grid.put(seat);
+        }
+        long version = grid.getMapVersion();
+        for (int col = 1; col <= 9; col++) {
+            sell(grid, 1, col);
+        }
+
+        assertThat(grid.changesSince(version).snapshot()).isTrue();
+        assertThat(grid.changesSince(version).seats()).hasSize(20);
+        assertThat(grid.changesSince(version + 1).snapshot()).isFalse();
+        assertThat(grid.changesSince(0).snapshot()).isTrue();
+        assertThat(grid.changesSince(grid.getMapVersion() + 1).snapshot()).isTrue();
+    }
+
+    private static void sell(SeatStateGrid grid, int row, int col) {
+        Seat seat = grid.getSeat(row, col);
+        seat.changeStatus(SeatStatus.SOLD, null);
+        grid.put(seat);
+    }
+
+    @Test
+    @DisplayName("viewSeats: Seat 객체 없이 좌석 값을 변환 함수로 바로 전달 (상태 필터, 행/열 순)")
+    void viewSeats_mapsWithoutSeatObjects() {
+        SeatStateGrid grid = gridWithSeats(2, 3);
+        Seat sold = new Seat(1L, 2, 2, 10000);
+        sold.changeStatus(SeatStatus.SOLD, null);
+        grid.put(sold);
+
+        List<String> all = grid.viewSeats(null, (row, col, price, status) -> Seat.seatNumberOf(row, col) + ":" + status);
+        List<String> available = grid.viewSeats(SeatStatus.AVAILABLE, (row, col, price, status) -> Seat.seatNumberOf(row, col));
+
+        assertThat(all).hasSize(6).contains("B2:SOLD").first().isEqualTo("A1:AVAILABLE");
+        assertThat(available).containsExactly("A1", "A2", "A3", "B1", "B3");
+    }
+}
@@ -0,0 +1,108 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.application.EventCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EventReservationCounterTest {
+
+    EventJpaRepository eventJpaRepository = mock(EventJpaRepository.class);
+    EventCache eventCache = mock(EventCache.class);
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    TransactionStatus transactionStatus = mock(TransactionStatus.class);
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    EventReservationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        counter = new EventReservationCounter(eventJpaRepository, new TransactionTemplate(transactionManager),
+                eventCache, redisTemplate);
+        ReflectionTestUtils.setField(counter, "reconcileIntervalMs", 600_000L);
+        ReflectionTestUtils.setField(counter, "reconcileQuietMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("flush: 동시에 누적된 증감을 이벤트당 UPDATE 한 번으로 반영하고 반영한 만큼 비움")
+    void flush_aggregatesPerEvent() {
+        IntStream.range(0, 1_000).parallel().forEach(i -> counter.add(1L, 1, 10_000));
+        counter.add(2L, 2, 30_000);
+
+        counter.flush();
+        counter.flush();
+
+        verify(eventJpaRepository, times(1)).addReservation(1L, 1_000, 10_000_000L);
+        verify(eventJpaRepository, times(1)).addReservation(2L, 2, 30_000L);
+        verify(eventCache).evictDetail(1L);
+        verify(eventCache).evictDetail(2L);
+    }
+
+    @Test
+    @DisplayName("flush: 반영에 실패하면 누적값을 남겨 다음 주기에 함께 반영")
+    void flush_retriesAfterFailure() {
+        counter.add(1L, 1, 10_000);
+        given(eventJpaRepository.addReservation(1L, 1, 10_000L)).willThrow(new IllegalStateException("db down"));
+
+        counter.flush();
+        counter.add(1L, 1, 20_000);
+        counter.flush();
+
+        verify(eventJpaRepository).addReservation(1L, 2, 30_000L);
+    }
+
+    @Test
+    @DisplayName("flush: 누적된 증감이 없으면 DB에 접근하지 않음")
+    void flush_nothingPending() {
+        counter.add(1L, 1, 10_000);
+        counter.add(1L, -1, -10_000);
+
+        counter.flush();
+
+        verify(eventJpaRepository, never()).addReservation(any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("reconcile: 잠금을 얻은 서버만 최근 좌석 변경이 없는 이벤트를 다시 계산")
+    void reconcile_lockHolderOnly() {
+        given(valueOperations.setIfAbsent(eq(EventReservationCounter.RECONCILE_LOCK_KEY), anyString(),
+                eq(Duration.ofMillis(600_000L)))).willReturn(true);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(60);
+
+        counter.reconcile();
+
+        verify(eventJpaRepository).reconcileReservations(argThat(quietSince ->
+                !quietSince.isBefore(before) && quietSince.isBefore(LocalDateTime.now().minusSeconds(59))));
+    }
+
+    @Test
+    @DisplayName("reconcile: 다른 서버가 잠금을 가지고 있으면 다시 계산하지 않음")
+    void reconcile_skipsWithoutLock() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        counter.reconcile();
+
+        verify(eventJpaRepository, never()).reconcileReservations(any());
+    }
+}
@@ -0,0 +1,58 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class EventSearchEngineTest {
+
+    EventJpaRepository eventJpaRepository = mock(EventJpaRepository.class);
+    EventSearchEngine engine = new EventSearchEngine(eventJpaRepository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "rebuildBatchSize", 1000);
+        ReflectionTestUtils.setField(engine, "syncOverlapMs", 5000L);
+        given(eventJpaRepository.findByEventIdGreaterThanOrderByEventIdAsc(anyLong(), any()))
+                .willReturn(List.of(entity(1L, "콘서트 A"), entity(2L, "콘서트 B")));
+        given(eventJpaRepository.findByUpdatedAtGreaterThanEqual(any())).willReturn(List.of());
+        engine.rebuild();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 삭제되어 DB에 없는 이벤트는 prune 으로 색인에서 제거")
+    void prune_removesDeletedEvents() {
+        given(eventJpaRepository.findExistingIds(anyCollection())).willReturn(List.of(1L));
+
+        engine.prune();
+
+        assertThat(engine.search("콘서트", 0, 10).eventIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색 결과 중 DB에 없는 이벤트는 removeMissing 으로 바로 제거")
+    void removeMissing_removesImmediately() {
+        engine.removeMissing(List.of(2L));
+
+        assertThat(engine.search("콘서트", 0, 10).eventIds()).containsExactly(1L);
+    }
+
+    private EventEntity entity(Long eventId, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return EventEntity.from(new Event(eventId, title, "설명", EventStatus.PUBLISHED,
+                now.plusDays(1), now.plusDays(2), 10, 10, 100, 0, 0L, now, now));
+    }
+}
@@ -0,0 +1,54 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.EventStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+class EventTotalCounterTest {
+
+    EventJpaRepository eventJpaRepository = mock(EventJpaRepository.class);
+    EventTotalCounter counter = new EventTotalCounter(eventJpaRepository);
+
+    @Test
+    @DisplayName("다시 세기 전에는 null, 이후에는 생성/상태 변경/삭제 증감을 반영")
+    void applyChange_afterReconcile() {
+        assertThat(counter.total()).isNull();
+        given(eventJpaRepository.countByStatus()).willReturn(List.of(
+                new Object[]{EventStatus.DRAFT, 3L},
+                new Object[]{EventStatus.PUBLISHED, 5L}));
+
+        counter.reconcile();
+        counter.applyChange(null, EventStatus.DRAFT);
+        counter.applyChange(EventStatus.DRAFT, EventStatus.PUBLISHED);
+        counter.applyChange(EventStatus.PUBLISHED, null);
+
+        assertThat(counter.total()).isEqualTo(8L);
+        assertThat(counter.count(EventStatus.DRAFT)).isEqualTo(3L);
+        assertThat(counter.count(EventStatus.PUBLISHED)).isEqualTo(5L);
+        assertThat(counter.count(EventStatus.CLOSED)).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 세면 어긋난 값을 DB 값으로 교체하고 실패하면 기존 값 유지")
+    void reconcile_replacesDrift() {
+        given(eventJpaRepository.countByStatus()).willReturn(List.<Object[]>of(new Object[]{EventStatus.DRAFT, 2L}));
+        counter.reconcile();
+        counter.applyChange(null, EventStatus.DRAFT);
+        counter.applyChange(null, EventStatus.DRAFT);
+
+        given(eventJpaRepository.countByStatus()).willReturn(List.<Object[]>of(new Object[]{EventStatus.DRAFT, 3L}));
+        counter.reconcile();
+        assertThat(counter.total()).isEqualTo(3L);
+
+        willThrow(new IllegalStateException("db down")).given(eventJpaRepository).countByStatus();
+        counter.reconcile();
+        assertThat(counter.total()).isEqualTo(3L);
+    }
+}
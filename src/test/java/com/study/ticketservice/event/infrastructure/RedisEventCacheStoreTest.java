@@ -0,0 +1,111 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticketservice.event.application.dto.response.EventDetailResponse;
+import com.study.ticketservice.event.domain.EventStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 내장 Redis 서버로 이벤트 공유 캐시 검증
+ */
+class RedisEventCacheStoreTest {
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate redisTemplate;
+
+    RedisEventCacheStore store;
+    RedisEventCacheStore otherNode;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        store = new RedisEventCacheStore(redisTemplate, objectMapper, 60);
+        otherNode = new RedisEventCacheStore(redisTemplate, objectMapper, 60);
+        store.start();
+        otherNode.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.stop();
+        otherNode.stop();
+    }
+
+    @Test
+    @DisplayName("무효화하면 세대가 올라가 이전 세대에 저장된 값은 보이지 않음")
+    void invalidate_bumpsGeneration() {
+        long generation = store.generation("detail:1");
+        store.put("detail:1", generation, "", detail("공연"));
+
+        assertThat(otherNode.get("detail:1", generation, "", EventDetailResponse.class).title()).isEqualTo("공연");
+
+        store.invalidate("detail:1");
+
+        long next = otherNode.generation("detail:1");
+        assertThat(next).isEqualTo(generation + 1);
+        assertThat(otherNode.get("detail:1", next, "", EventDetailResponse.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화는 pub/sub 으로 다른 서버의 구독자에게도 전달")
+    void invalidate_notifiesOtherNodes() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        otherNode.subscribe(received::add);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            store.invalidate("pages");
+            assertThat(received).contains("pages");
+        });
+    }
+
+    private static EventDetailResponse detail(String title) {
+        return new EventDetailResponse(1L, title, null, EventStatus.PUBLISHED,
+                LocalDateTime.of(2030, 1, 1, 19, 0), LocalDateTime.of(2030, 1, 1, 21, 0),
+                10, 10, 100, 0, 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,174 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.application.HeldSeat;
+import com.study.ticketservice.event.application.SeatHoldResult;
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 내장 Redis 서버로 Lua 스크립트 상태 전이 검증
+ */
+class RedisSeatHoldStoreTest {
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate redisTemplate;
+
+    SeatJpaRepository seatJpaRepository = mock(SeatJpaRepository.class);
+    RedisSeatHoldStore store;
+
+    static final Long EVENT_ID = 1L;
+    static final SeatPosition A1 = new SeatPosition(1, 1);
+    static final SeatPosition A2 = new SeatPosition(1, 2);
+    static final SeatPosition A3 = new SeatPosition(1, 3);
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        given(seatJpaRepository.findByEventIdAndStatusOrderByRowAscColAsc(anyLong(), any())).willReturn(List.of());
+        store = new RedisSeatHoldStore(redisTemplate, seatJpaRepository);
+    }
+
+    @Test
+    @DisplayName("hold: 이미 HOLD 된 좌석은 다른 사용자가 HOLD 불가")
+    void hold_conflict() {
+        assertThat(store.hold(EVENT_ID, 10L, List.of(A1), later()).success()).isTrue();
+
+        SeatHoldResult result = store.hold(EVENT_ID, 20L, List.of(A1), later());
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.conflict()).isEqualTo(A1);
+    }
+
+    @Test
+    @DisplayName("hold: 여러 좌석 중 하나라도 충돌하면 아무 좌석도 HOLD 되지 않음")
+    void hold_allOrNothing() {
+        store.hold(EVENT_ID, 10L, List.of(A2), later());
+
+        SeatHoldResult result = store.hold(EVENT_ID, 20L, List.of(A3, A2), later());
+
+        assertThat(result.conflict()).isEqualTo(A2);
+        assertThat(store.hold(EVENT_ID, 30L, List.of(A3), later()).success()).isTrue();
+    }
+
+    @Test
+    @DisplayName("hold: 만료된 HOLD 좌석은 다시 HOLD 가능")
+    void hold_expiredHold() {
+        store.hold(EVENT_ID, 10L, List.of(A1), LocalDateTime.now().minusSeconds(1));
+
+        assertThat(store.hold(EVENT_ID, 20L, List.of(A1), later()).success()).isTrue();
+    }
+
+    @Test
+    @DisplayName("release: 본인이 HOLD 한 좌석만 해제 가능")
+    void release_ownerOnly() {
+        store.hold(EVENT_ID, 10L, List.of(A1), later());
+
+        assertThat(store.release(EVENT_ID, 20L, List.of(A1)).success()).isFalse();
+        assertThat(store.release(EVENT_ID, 10L, List.of(A1)).success()).isTrue();
+        assertThat(store.hold(EVENT_ID, 20L, List.of(A1), later()).success()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sell: 본인의 유효한 HOLD 좌석만 판매 가능하고 판매 후에는 HOLD 불가")
+    void sell_validHoldOnly() {
+        store.hold(EVENT_ID, 10L, List.of(A1), later());
+
+        assertThat(store.sell(EVENT_ID, 20L, List.of(A1)).success()).isFalse();
+        assertThat(store.sell(EVENT_ID, 10L, List.of(A2)).success()).isFalse();
+        assertThat(store.sell(EVENT_ID, 10L, List.of(A1)).success()).isTrue();
+        assertThat(store.release(EVENT_ID, 10L, List.of(A1)).success()).isFalse();
+        assertThat(store.hold(EVENT_ID, 20L, List.of(A1), later()).success()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findHeldSeats: 기록된 이벤트와 HOLD/SOLD 좌석 상태 조회, AVAILABLE 좌석은 null")
+    void findHeldSeats() {
+        LocalDateTime holdExpiresAt = later();
+        store.hold(EVENT_ID, 10L, List.of(A1, A2), holdExpiresAt);
+        store.sell(EVENT_ID, 10L, List.of(A2));
+
+        assertThat(store.findEventIds()).containsExactly(EVENT_ID);
+        assertThat(store.findHeldSeats(EVENT_ID)).containsExactlyInAnyOrder(
+                new HeldSeat(A1, SeatStatus.HOLD, holdExpiresAt.truncatedTo(ChronoUnit.MILLIS)),
+                new HeldSeat(A2, SeatStatus.SOLD, null));
+        assertThat(store.findHeldSeat(EVENT_ID, A2)).isEqualTo(new HeldSeat(A2, SeatStatus.SOLD, null));
+        assertThat(store.findHeldSeat(EVENT_ID, A3)).isNull();
+    }
+
+    @Test
+    @DisplayName("expire: 만료된 HOLD 만 해제하고 유효한 HOLD 와 SOLD 좌석은 유지")
+    void expire_expiredHoldOnly() {
+        store.hold(EVENT_ID, 10L, List.of(A1), LocalDateTime.now().minusSeconds(1));
+        store.hold(EVENT_ID, 10L, List.of(A2), later());
+        store.hold(EVENT_ID, 10L, List.of(A3), later());
+        store.sell(EVENT_ID, 10L, List.of(A3));
+
+        assertThat(store.expire(EVENT_ID, A1)).isTrue();
+        assertThat(store.expire(EVENT_ID, A2)).isFalse();
+        assertThat(store.expire(EVENT_ID, A3)).isFalse();
+        assertThat(store.release(EVENT_ID, 10L, List.of(A1)).success()).isFalse();
+    }
+
+    @Test
+    @DisplayName("초기 적재: DB에서 판매된 좌석은 HOLD 불가")
+    void seed_fromDatabase() {
+        Seat sold = new Seat(EVENT_ID, 1, 1, 10000);
+        sold.changeStatus(SeatStatus.SOLD, null);
+        given(seatJpaRepository.findByEventIdAndStatusOrderByRowAscColAsc(EVENT_ID, SeatStatus.SOLD))
+                .willReturn(List.of(SeatEntity.from(sold)));
+
+        assertThat(store.hold(EVENT_ID, 10L, List.of(A1), later()).success()).isFalse();
+        assertThat(store.hold(EVENT_ID, 10L, List.of(A2), later()).success()).isTrue();
+    }
+
+    private static LocalDateTime later() {
+        return LocalDateTime.now().plusMinutes(10);
+    }
+}
@@ -0,0 +1,154 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Event;
+import com.study.ticketservice.event.domain.EventStatus;
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStateGrid;
+import com.study.ticketservice.event.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SeatStateEngineTest {
+
+    EventJpaRepository eventJpaRepository = mock(EventJpaRepository.class);
+    SeatJpaRepository seatJpaRepository = mock(SeatJpaRepository.class);
+    SeatWriteBehindQueue seatWriteBehindQueue = mock(SeatWriteBehindQueue.class);
+    SeatStateEngine seatStateEngine = new SeatStateEngine(eventJpaRepository, seatJpaRepository, seatWriteBehindQueue);
+
+    static final Long EVENT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(seatStateEngine, "maxEvents", 10);
+        ReflectionTestUtils.setField(seatStateEngine, "reloadIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(seatStateEngine, "changeLogSize", 64);
+    }
+
+    @Test
+    @DisplayName("getGrid: 저장된 좌석과 저장 대기 중인 좌석 외의 위치는 배치 좌석(AVAILABLE, 기본 가격)으로 채움")
+    void getGrid_fillsLayout() {
+        givenEvent();
+
+        Seat sold = new Seat(EVENT_ID, 1, 1, 20000);
+        sold.setSeatId(7L);
+        sold.changeStatus(SeatStatus.SOLD, null);
+        given(seatJpaRepository.findByEventIdOrderByRowAscColAsc(EVENT_ID)).willReturn(List.of(SeatEntity.from(sold)));
+
+        Seat held = new Seat(EVENT_ID, 2, 3, Seat.DEFAULT_PRICE);
+        held.changeStatus(SeatStatus.HOLD, LocalDateTime.now().plusMinutes(10));
+        given(seatWriteBehindQueue.getPending(EVENT_ID, 2, 3)).willReturn(held);
+
+        SeatStateGrid grid = seatStateEngine.getGrid(EVENT_ID);
+
+        assertThat(grid.getSeats()).hasSize(6);
+        assertThat(grid.getSeat(1, 1).getSeatId()).isEqualTo(7L);
+        assertThat(grid.getSeat(1, 1).getStatus()).isEqualTo(SeatStatus.SOLD);
+        assertThat(grid.getSeat(2, 3).getStatus()).isEqualTo(SeatStatus.HOLD);
+        assertThat(grid.getSeats(SeatStatus.AVAILABLE))
+                .hasSize(4)
+                .allSatisfy(seat -> {
+                    assertThat(seat.getSeatId()).isNull();
+                    assertThat(seat.getPrice()).isEqualTo(Seat.DEFAULT_PRICE);
+                });
+    }
+
+    @Test
+    @DisplayName("getGrid: 같은 이벤트를 동시에 처음 조회해도 DB 적재는 한 번이고 모두 같은 배치도를 받음")
+    void getGrid_loadsOnce() throws Exception {
+        givenEvent();
+        CountDownLatch loading = new CountDownLatch(1);
+        given(seatJpaRepository.findByEventIdOrderByRowAscColAsc(EVENT_ID)).willAnswer(invocation -> {
+            loading.await();
+            return List.of();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SeatStateGrid>> results = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> seatStateEngine.getGrid(EVENT_ID)))
+                    .toList();
+            Thread.sleep(100);
+            loading.countDown();
+
+            SeatStateGrid first = results.get(0).get();
+            for (Future<SeatStateGrid> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(eventJpaRepository, times(1)).findById(EVENT_ID);
+        verify(seatJpaRepository, times(1)).findByEventIdOrderByRowAscColAsc(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("refreshStale: 조회 요청은 DB를 다시 읽지 않고, 주기 작업이 조회된 배치도만 DB 상태로 갱신")
+    void refreshStale_refreshesAccessedGrids() {
+        ReflectionTestUtils.setField(seatStateEngine, "reloadIntervalMs", 0L);
+        givenEvent();
+        given(seatJpaRepository.findByEventIdOrderByRowAscColAsc(EVENT_ID)).willReturn(List.of());
+        seatStateEngine.getGrid(EVENT_ID);
+
+        Seat sold = new Seat(EVENT_ID, 1, 2, Seat.DEFAULT_PRICE);
+        sold.setSeatId(3L);
+        sold.changeStatus(SeatStatus.SOLD, null);
+        given(seatJpaRepository.findByEventIdOrderByRowAscColAsc(EVENT_ID)).willReturn(List.of(SeatEntity.from(sold)));
+
+        SeatStateGrid grid = seatStateEngine.getGrid(EVENT_ID);
+        assertThat(grid.getSeat(1, 2).getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+
+        seatStateEngine.refreshStale();
+        assertThat(grid.getSeat(1, 2).getStatus()).isEqualTo(SeatStatus.SOLD);
+        verify(seatJpaRepository, times(2)).findByEventIdOrderByRowAscColAsc(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("refreshStale: 읽은 뒤에 반영된 더 최신 변경(높은 버전)은 DB에서 읽은 이전 상태로 덮어쓰지 않음")
+    void refreshStale_keepsNewerVersion() {
+        ReflectionTestUtils.setField(seatStateEngine, "reloadIntervalMs", 0L);
+        givenEvent();
+        Seat available = new Seat(EVENT_ID, 1, 2, Seat.DEFAULT_PRICE);
+        available.setSeatId(3L);
+        available.setVersion(4);
+        given(seatJpaRepository.findByEventIdOrderByRowAscColAsc(EVENT_ID)).willReturn(List.of(SeatEntity.from(available)));
+        SeatStateGrid grid = seatStateEngine.getGrid(EVENT_ID);
+
+        // HOLD 가 반영되고 쓰기 지연 큐도 비었지만 DB 조회 결과는 HOLD 이전 상태
+        Seat held = new Seat(EVENT_ID, 1, 2, Seat.DEFAULT_PRICE);
+        held.setSeatId(3L);
+        held.setVersion(5);
+        held.changeStatus(SeatStatus.HOLD, LocalDateTime.now().plusMinutes(10));
+        seatStateEngine.apply(held);
+        long mapVersion = grid.getMapVersion();
+
+        seatStateEngine.refreshStale();
+
+        assertThat(grid.getSeat(1, 2).getStatus()).isEqualTo(SeatStatus.HOLD);
+        assertThat(grid.getSeat(1, 2).getVersion()).isEqualTo(5);
+        assertThat(grid.getMapVersion()).isEqualTo(mapVersion);
+    }
+
+    private void givenEvent() {
+        Event event = new Event(EVENT_ID, "공연", null, EventStatus.DRAFT,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), 2, 3, 6, 0, 0,
+                LocalDateTime.now(), LocalDateTime.now());
+        given(eventJpaRepository.findById(EVENT_ID)).willReturn(Optional.of(EventEntity.from(event)));
+    }
+}
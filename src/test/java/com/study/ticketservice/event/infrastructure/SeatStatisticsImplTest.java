@@ -0,0 +1,82 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStatus;
+import com.study.ticketservice.event.domain.SeatStatusCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SeatStatisticsImplTest {
+
+    SeatJpaRepository seatJpaRepository = mock(SeatJpaRepository.class);
+    SeatWriteBehindQueue seatWriteBehindQueue = mock(SeatWriteBehindQueue.class);
+    SeatStatisticsImpl statistics = new SeatStatisticsImpl(seatJpaRepository, seatWriteBehindQueue);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(statistics, "refreshIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(statistics, "maxEvents", 100);
+    }
+
+    @Test
+    @DisplayName("여러 이벤트를 쿼리 한 번으로 적재하고 AVAILABLE 은 전체 좌석에서 HOLD/SOLD 를 뺀 값")
+    void getCounts_loadsPageInOneQuery() {
+        given(seatJpaRepository.countReservedByEventIds(anyCollection())).willReturn(List.of(
+                new Object[]{1L, SeatStatus.HOLD, 2L},
+                new Object[]{1L, SeatStatus.SOLD, 3L},
+                new Object[]{2L, SeatStatus.SOLD, 10L}));
+
+        Map<Long, SeatStatusCounts> counts = statistics.getCounts(Map.of(1L, 20, 2L, 10, 3L, 5));
+        statistics.getCounts(Map.of(1L, 20, 2L, 10, 3L, 5));
+
+        assertThat(counts.get(1L)).isEqualTo(new SeatStatusCounts(15, 2, 3));
+        assertThat(counts.get(2L)).isEqualTo(new SeatStatusCounts(0, 0, 10));
+        assertThat(counts.get(3L)).isEqualTo(new SeatStatusCounts(5, 0, 0));
+        verify(seatJpaRepository, times(1)).countReservedByEventIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("좌석 상태 전이를 바로 반영하고 refresh 주기가 지나면 DB 값으로 교체")
+    void record_appliesTransitionsUntilRefresh() {
+        given(seatJpaRepository.countReservedByEventIds(anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{1L, SeatStatus.HOLD, 1L}));
+        statistics.getCounts(1L, 10);
+
+        statistics.record(1L, SeatStatus.AVAILABLE, SeatStatus.HOLD, 3);
+        statistics.record(1L, SeatStatus.HOLD, SeatStatus.SOLD, 1);
+        statistics.record(2L, SeatStatus.AVAILABLE, SeatStatus.HOLD, 1);
+
+        assertThat(statistics.getCounts(1L, 10)).isEqualTo(new SeatStatusCounts(6, 3, 1));
+
+        ReflectionTestUtils.setField(statistics, "refreshIntervalMs", 0L);
+        assertThat(statistics.getCounts(1L, 10)).isEqualTo(new SeatStatusCounts(9, 1, 0));
+    }
+
+    @Test
+    @DisplayName("다시 적재할 때 쓰기 지연 큐에서 아직 DB에 반영되지 않은 전이도 더함")
+    void getCounts_includesPendingWrites() {
+        given(seatJpaRepository.countReservedByEventIds(anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{1L, SeatStatus.HOLD, 2L}));
+        Seat held = new Seat(1L, 1, 1, 10000);
+        held.changeStatus(SeatStatus.HOLD, null);
+        Seat sold = new Seat(1L, 1, 2, 10000);
+        sold.changeStatus(SeatStatus.SOLD, null);
+        given(seatWriteBehindQueue.getPendingWrites(anyCollection())).willReturn(List.of(
+                new SeatWriteBehindQueue.PendingWrite(held, SeatStatus.AVAILABLE, 0),
+                new SeatWriteBehindQueue.PendingWrite(sold, SeatStatus.HOLD, 1)));
+
+        assertThat(statistics.getCounts(1L, 10)).isEqualTo(new SeatStatusCounts(7, 2, 1));
+    }
+}
@@ -0,0 +1,125 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SeatWriteBehindQueueTest {
+
+    SeatJpaRepository seatJpaRepository = mock(SeatJpaRepository.class);
+    SeatBulkInserter seatBulkInserter = mock(SeatBulkInserter.class);
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    SeatWriteBehindQueue queue;
+    List<Seat> conflicts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(mock(TransactionStatus.class));
+        queue = new SeatWriteBehindQueue(seatJpaRepository, new TransactionTemplate(transactionManager), seatBulkInserter);
+        queue.setConflictListener(conflicts::add);
+        ReflectionTestUtils.setField(queue, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("flush: 저장된 좌석은 조건부 UPDATE, 저장되지 않은 좌석은 UPSERT 로 반영하고 큐에서 제거")
+    void flush_upsertsUnsavedSeats() {
+        Seat saved = savedSeat(11L, SeatStatus.SOLD, 1);
+        Seat unsaved = new Seat(1L, 1, 2, 10000);
+        unsaved.changeStatus(SeatStatus.SOLD, null);
+        queue.enqueue(saved, SeatStatus.HOLD, 0);
+        queue.enqueue(unsaved, SeatStatus.AVAILABLE, 0);
+        given(seatJpaRepository.updateStatusIfUnchanged(List.of(11L), SeatStatus.HOLD, 0, SeatStatus.SOLD, null,
+                saved.getUpdatedAt(), 1)).willReturn(1);
+
+        assertThat(queue.getPending(1L, 1, 2)).isSameAs(unsaved);
+        queue.flush();
+
+        verify(seatBulkInserter).upsert(List.of(unsaved));
+        assertThat(queue.getPending(1L, 1, 1)).isNull();
+        assertThat(queue.getPending(1L, 1, 2)).isNull();
+        assertThat(conflicts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush: 같은 좌석이 다시 변경되면 최신 상태로 교체하고 처음 기대한 상태와 버전 유지")
+    void enqueue_keepsFirstExpectation() {
+        Seat held = savedSeat(11L, SeatStatus.HOLD, 1);
+        Seat sold = savedSeat(11L, SeatStatus.SOLD, 2);
+        queue.enqueue(held, SeatStatus.AVAILABLE, 0);
+        queue.enqueue(sold, SeatStatus.HOLD, 1);
+        given(seatJpaRepository.updateStatusIfUnchanged(any(), any(), anyLong(), any(), any(), any(), anyLong()))
+                .willReturn(1);
+
+        queue.flush();
+
+        verify(seatJpaRepository).updateStatusIfUnchanged(List.of(11L), SeatStatus.AVAILABLE, 0, SeatStatus.SOLD, null,
+                sold.getUpdatedAt(), 2);
+        assertThat(queue.getPending(1L, 1, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("flush: 다른 요청이 먼저 변경했고 DB 값이 더 오래됐으면 DB 버전 기준으로 재시도하고 좌석 배치도에 새 버전 반영")
+    void flush_conflictRebases() {
+        Seat seat = savedSeat(11L, SeatStatus.SOLD, 4);
+        queue.enqueue(seat, SeatStatus.HOLD, 3);
+        Seat row = savedSeat(11L, SeatStatus.HOLD, 5);
+        row.changeStatus(SeatStatus.HOLD, null, seat.getUpdatedAt().minusSeconds(1));
+        given(seatJpaRepository.findAllById(List.of(11L))).willReturn(List.of(SeatEntity.from(row)));
+
+        queue.flush();
+
+        assertThat(queue.getPending(1L, 1, 1)).isSameAs(seat);
+        assertThat(seat.getVersion()).isEqualTo(6);
+        assertThat(conflicts).containsExactly(seat);
+
+        given(seatJpaRepository.updateStatusIfUnchanged(List.of(11L), SeatStatus.HOLD, 5, SeatStatus.SOLD, null,
+                seat.getUpdatedAt(), 6)).willReturn(1);
+        queue.flush();
+
+        assertThat(queue.getPending(1L, 1, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("flush: DB에 더 최근 변경이 있으면 큐에서 제거하고 좌석 배치도에 DB 상태 반영")
+    void flush_conflictKeepsNewerRow() {
+        Seat seat = savedSeat(11L, SeatStatus.HOLD, 4);
+        queue.enqueue(seat, SeatStatus.AVAILABLE, 3);
+        Seat row = savedSeat(11L, SeatStatus.SOLD, 7);
+        row.changeStatus(SeatStatus.SOLD, null, seat.getUpdatedAt().plusSeconds(1));
+        given(seatJpaRepository.findAllById(List.of(11L))).willReturn(List.of(SeatEntity.from(row)));
+
+        queue.flush();
+
+        assertThat(queue.getPending(1L, 1, 1)).isNull();
+        assertThat(conflicts).singleElement()
+                .satisfies(applied -> {
+                    assertThat(applied.getStatus()).isEqualTo(SeatStatus.SOLD);
+                    assertThat(applied.getVersion()).isEqualTo(7);
+                });
+    }
+
+    private static Seat savedSeat(Long seatId, SeatStatus status, long version) {
+        Seat seat = new Seat(1L, 1, 1, 10000);
+        seat.setSeatId(seatId);
+        seat.setVersion(version);
+        seat.changeStatus(status, null);
+        return seat;
+    }
+}
@@ -0,0 +1,117 @@
+package com.study.ticketservice.event.infrastructure;
+
+import com.study.ticketservice.event.application.SeatTransitionResult;
+import com.study.ticketservice.event.domain.Seat;
+import com.study.ticketservice.event.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SeatWriterImplTest {
+
+    SeatJpaRepository seatJpaRepository = mock(SeatJpaRepository.class);
+    SeatStateEngine seatStateEngine = mock(SeatStateEngine.class);
+    SeatWriteBehindQueue seatWriteBehindQueue = mock(SeatWriteBehindQueue.class);
+    SeatBulkInserter seatBulkInserter = mock(SeatBulkInserter.class);
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    TransactionStatus transactionStatus = mock(TransactionStatus.class);
+
+    SeatWriterImpl seatWriter;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+        seatWriter = new SeatWriterImpl(seatJpaRepository, seatStateEngine, seatWriteBehindQueue,
+                new TransactionTemplate(transactionManager), seatBulkInserter);
+    }
+
+    @Test
+    @DisplayName("updateStatusAsync: 버전을 1 증가시켜 좌석 배치도에 반영하고 변경 전 상태와 버전을 조건으로 큐에 추가")
+    void updateStatusAsync_bumpsVersion() {
+        Seat seat = soldSeat(1L, 3);
+
+        seatWriter.updateStatusAsync(List.of(seat), SeatStatus.HOLD);
+
+        assertThat(seat.getVersion()).isEqualTo(4);
+        verify(seatStateEngine).apply(List.of(seat));
+        verify(seatWriteBehindQueue).enqueue(seat, SeatStatus.HOLD, 3);
+    }
+
+    @Test
+    @DisplayName("transition: 상태와 버전이 그대로면 변경하고 버전 증가")
+    void transition_success() {
+        Seat seat = soldSeat(1L, 3);
+        given(seatJpaRepository.transitionStatus(1L, SeatStatus.HOLD, 3, SeatStatus.SOLD, null, seat.getUpdatedAt()))
+                .willReturn(1);
+
+        SeatTransitionResult result = seatWriter.transition(List.of(seat), SeatStatus.HOLD);
+
+        assertThat(result.success()).isTrue();
+        assertThat(seat.getVersion()).isEqualTo(4);
+        verify(seatStateEngine).apply(List.of(seat));
+        verify(transactionStatus, never()).setRollbackOnly();
+    }
+
+    @Test
+    @DisplayName("transition: 하나라도 먼저 변경된 좌석이 있으면 예외 없이 충돌 좌석을 반환하고 롤백")
+    void transition_conflict() {
+        Seat first = soldSeat(1L, 3);
+        Seat second = soldSeat(2L, 5);
+        given(seatJpaRepository.transitionStatus(eq(1L), any(), anyLong(), any(), any(), any())).willReturn(1);
+        given(seatJpaRepository.transitionStatus(eq(2L), any(), anyLong(), any(), any(), any())).willReturn(0);
+
+        SeatTransitionResult result = seatWriter.transition(List.of(second, first), SeatStatus.HOLD);
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.conflict()).isSameAs(second);
+        assertThat(first.getVersion()).isEqualTo(3);
+        verify(transactionStatus).setRollbackOnly();
+        verify(seatStateEngine, never()).apply(anyList());
+    }
+
+    @Test
+    @DisplayName("transition: 쓰기 지연 큐에 더 최신 상태가 있으면 충돌")
+    void transition_pendingWrite() {
+        Seat seat = soldSeat(1L, 3);
+        given(seatWriteBehindQueue.getPending(1L, 1, 1)).willReturn(new Seat());
+
+        SeatTransitionResult result = seatWriter.transition(List.of(seat), SeatStatus.HOLD);
+
+        assertThat(result.success()).isFalse();
+        verify(seatJpaRepository, never()).transitionStatus(any(), any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("transition: 저장되지 않은 배치 좌석은 INSERT 로 전이하고 먼저 저장된 좌석이 있으면 충돌")
+    void transition_unsavedSeat() {
+        Seat seat = new Seat(1L, 2, 3, 10000);
+        seat.changeStatus(SeatStatus.HOLD, seat.getCreatedAt().plusMinutes(10));
+        given(seatBulkInserter.insert(List.of(seat))).willReturn(1, 0);
+
+        assertThat(seatWriter.transition(List.of(seat), SeatStatus.AVAILABLE).success()).isTrue();
+        assertThat(seat.getVersion()).isZero();
+        assertThat(seatWriter.transition(List.of(seat), SeatStatus.AVAILABLE).success()).isFalse();
+        assertThat(seatWriter.transition(List.of(seat), SeatStatus.HOLD).success()).isFalse();
+        verify(seatJpaRepository, never()).transitionStatus(any(), any(), anyLong(), any(), any(), any());
+    }
+
+    private static Seat soldSeat(Long seatId, long version) {
+        Seat seat = new Seat(1L, 1, seatId.intValue(), 10000);
+        seat.setSeatId(seatId);
+        seat.setVersion(version);
+        seat.changeStatus(SeatStatus.SOLD, null);
+        return seat;
+    }
+}
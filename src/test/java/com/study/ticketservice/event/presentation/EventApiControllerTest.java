@@ -0,0 +1,123 @@
+package com.study.ticketservice.event.presentation;
+
+import com.study.ticketservice.common.security.RbacAuthoritiesFilter;
+import com.study.ticketservice.event.application.EventService;
+import com.study.ticketservice.event.application.SeatHoldService;
+import com.study.ticketservice.event.application.SeatStreamService;
+import com.study.ticketservice.event.application.dto.response.SeatDetailResponse;
+import com.study.ticketservice.event.domain.SeatPosition;
+import com.study.ticketservice.event.domain.SeatStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = EventApiController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(EventApiControllerTest.MethodSecurityConfig.class)
+class EventApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    EventService eventService;
+
+    @MockitoBean
+    SeatHoldService seatHoldService;
+
+    @MockitoBean
+    SeatStreamService seatStreamService;
+
+    @MockitoBean
+    RbacAuthoritiesFilter rbacAuthoritiesFilter;
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final String CODE = "$.code";
+    private static final String BODY = "{\"seats\":[{\"row\":1,\"col\":2},{\"row\":1,\"col\":1}]}";
+    private static final List<SeatPosition> POSITIONS = List.of(new SeatPosition(1, 2), new SeatPosition(1, 1));
+
+    @TestConfiguration
+    @EnableMethodSecurity(prePostEnabled = true)
+    static class MethodSecurityConfig {
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("/v1/events/{eventId}/seats/release 성공")
+    void releaseSeats_success() throws Exception {
+        authenticate("EVENT_SEAT_CANCEL");
+        given(seatHoldService.releaseSeats(EVENT_ID, USER_ID, POSITIONS)).willReturn(List.of(
+                SeatDetailResponse.of(1, 1, 10000, SeatStatus.AVAILABLE),
+                SeatDetailResponse.of(1, 2, 10000, SeatStatus.AVAILABLE)));
+
+        mockMvc.perform(post("/v1/events/{eventId}/seats/release", EVENT_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(CODE).value(200))
+                .andExpect(jsonPath("$.data[0].seatNumber").value("A1"))
+                .andExpect(jsonPath("$.data[0].status").value("AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("/v1/events/{eventId}/seats/sell 성공")
+    void sellSeats_success() throws Exception {
+        authenticate("EVENT_SEAT_RESERVE");
+        given(seatHoldService.sellSeats(EVENT_ID, USER_ID, POSITIONS)).willReturn(List.of(
+                SeatDetailResponse.of(1, 1, 10000, SeatStatus.SOLD),
+                SeatDetailResponse.of(1, 2, 10000, SeatStatus.SOLD)));
+
+        mockMvc.perform(post("/v1/events/{eventId}/seats/sell", EVENT_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(CODE).value(200))
+                .andExpect(jsonPath("$.data[1].seatNumber").value("A2"))
+                .andExpect(jsonPath("$.data[1].status").value("SOLD"));
+    }
+
+    @Test
+    @DisplayName("/v1/events/{eventId}/seats/sell 권한 없으면 403")
+    void sellSeats_forbidden() throws Exception {
+        authenticate("EVENT_SEAT_CANCEL");
+
+        mockMvc.perform(post("/v1/events/{eventId}/seats/sell", EVENT_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(jsonPath(CODE).value(403));
+        verify(seatHoldService, never()).sellSeats(any(), any(), anyList());
+    }
+
+    private void authenticate(String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                USER_ID, null, List.of(new SimpleGrantedAuthority(authority))));
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.ticketservice.queue.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionTokenProviderTest {
+
+    AdmissionTokenProvider provider = new AdmissionTokenProvider(SECRET);
+
+    static final String SECRET = "admission-token-test-secret-0123456789";
+    static final String OTHER_SECRET = "admission-token-other-secret-0123456789";
+    static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("발급한 토큰은 같은 이벤트/사용자에 대해 만료 전까지 유효")
+    void verify_validToken() {
+        String token = provider.issue(1L, 10L, NOW + 60_000);
+
+        assertThat(provider.verify(token, 1L, 10L, NOW)).isTrue();
+        assertThat(provider.verify(token, 1L, 10L, NOW + 60_000)).isFalse();
+        assertThat(provider.verify(token, 2L, 10L, NOW)).isFalse();
+        assertThat(provider.verify(token, 1L, 11L, NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 시각을 바꾸거나 다른 키로 서명한 토큰은 거부")
+    void verify_tamperedToken() {
+        String token = provider.issue(1L, 10L, NOW + 60_000);
+        String signature = token.substring(token.lastIndexOf('.'));
+
+        assertThat(provider.verify("1.10." + (NOW + 999_999) + signature, 1L, 10L, NOW)).isFalse();
+        assertThat(provider.verify(new AdmissionTokenProvider(OTHER_SECRET).issue(1L, 10L, NOW + 60_000), 1L, 10L, NOW))
+                .isFalse();
+        assertThat(provider.verify("garbage", 1L, 10L, NOW)).isFalse();
+        assertThat(provider.verify(null, 1L, 10L, NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명 키가 없거나 32바이트 미만이면 생성 실패")
+    void create_rejectsMissingOrShortSecret() {
+        assertThatThrownBy(() -> new AdmissionTokenProvider(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AdmissionTokenProvider(" ")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AdmissionTokenProvider("short-secret")).isInstanceOf(IllegalStateException.class);
+    }
+}
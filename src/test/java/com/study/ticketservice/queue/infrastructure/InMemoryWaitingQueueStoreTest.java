@@ -0,0 +1,61 @@
+package com.study.ticketservice.queue.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryWaitingQueueStoreTest {
+
+    InMemoryWaitingQueueStore store = new InMemoryWaitingQueueStore();
+
+    static final Long EVENT_ID = 1L;
+    static final long TTL = 60_000;
+
+    @Test
+    @DisplayName("등록 순서대로 순번을 매기고 다시 등록해도 순번 유지")
+    void enqueue_fifo() {
+        assertThat(store.enqueue(EVENT_ID, 10L)).isZero();
+        assertThat(store.enqueue(EVENT_ID, 20L)).isEqualTo(1);
+        assertThat(store.enqueue(EVENT_ID, 30L)).isEqualTo(2);
+        assertThat(store.enqueue(EVENT_ID, 20L)).isEqualTo(1);
+        assertThat(store.positionOf(EVENT_ID, 99L)).isNull();
+    }
+
+    @Test
+    @DisplayName("앞에서부터 입장 허용하고 남은 사용자의 순번이 당겨짐")
+    void admit_fromHead() {
+        for (long userId = 1; userId <= 5; userId++) {
+            store.enqueue(EVENT_ID, userId);
+        }
+
+        assertThat(store.admit(EVENT_ID, 2, 1_000, TTL)).containsExactly(1L, 2L);
+        assertThat(store.admittedAt(EVENT_ID, 1L)).isEqualTo(1_000);
+        assertThat(store.enqueue(EVENT_ID, 1L)).isEqualTo(-1);
+        assertThat(store.positionOf(EVENT_ID, 5L)).isEqualTo(2);
+        assertThat(store.size(EVENT_ID)).isEqualTo(3);
+
+        // 입장 유효 시간이 지나면 입장 기록 삭제
+        store.admit(EVENT_ID, 0, 1_000 + TTL + 1, TTL);
+        assertThat(store.admittedAt(EVENT_ID, 1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("배열을 넘어서는 등록과 입장이 반복되어도 순번이 정확함")
+    void enqueue_beyondInitialCapacity() {
+        long userId = 0;
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 1_000; i++) {
+                store.enqueue(EVENT_ID, ++userId);
+            }
+            List<Long> admitted = store.admit(EVENT_ID, 700, round, TTL);
+            assertThat(admitted).hasSize(700);
+        }
+
+        assertThat(store.size(EVENT_ID)).isEqualTo(1_500);
+        assertThat(store.positionOf(EVENT_ID, userId)).isEqualTo(1_499);
+        assertThat(store.admit(EVENT_ID, 1, 10, TTL)).containsExactly(3_501L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.study.ticketservice.queue.infrastructure;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 서버로 대기열 Lua 스크립트 검증
+ */
+class RedisWaitingQueueStoreTest {
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate redisTemplate;
+
+    RedisWaitingQueueStore store;
+
+    static final Long EVENT_ID = 1L;
+    static final long TTL = 60_000;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        store = new RedisWaitingQueueStore(redisTemplate);
+        ReflectionTestUtils.setField(store, "admitIntervalMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("등록 순서대로 순번을 매기고 앞에서부터 입장 허용")
+    void enqueueAndAdmit() {
+        assertThat(store.enqueue(EVENT_ID, 10L)).isZero();
+        assertThat(store.enqueue(EVENT_ID, 20L)).isEqualTo(1);
+        assertThat(store.enqueue(EVENT_ID, 30L)).isEqualTo(2);
+        assertThat(store.enqueue(EVENT_ID, 10L)).isZero();
+
+        assertThat(store.admit(EVENT_ID, 2, 5_000, TTL)).containsExactly(10L, 20L);
+        assertThat(store.admittedAt(EVENT_ID, 20L)).isEqualTo(5_000);
+        assertThat(store.enqueue(EVENT_ID, 20L)).isEqualTo(-1);
+        assertThat(store.positionOf(EVENT_ID, 30L)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 주기에는 한 번만 입장 처리 (여러 서버가 동시에 처리해도 입장 속도 유지)")
+    void admit_oncePerInterval() {
+        for (long userId = 1; userId <= 4; userId++) {
+            store.enqueue(EVENT_ID, userId);
+        }
+
+        assertThat(store.admit(EVENT_ID, 2, 5_000, TTL)).hasSize(2);
+        assertThat(store.admit(EVENT_ID, 2, 5_000, TTL)).isEmpty();
+        assertThat(store.size(EVENT_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열을 닫으면 대기/입장 기록 삭제")
+    void close() {
+        store.open(EVENT_ID);
+        store.enqueue(EVENT_ID, 10L);
+
+        store.close(EVENT_ID);
+
+        assertThat(store.openEvents()).isEmpty();
+        assertThat(store.positionOf(EVENT_ID, 10L)).isNull();
+    }
+}
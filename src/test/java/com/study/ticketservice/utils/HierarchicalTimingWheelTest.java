@@ -0,0 +1,77 @@
+package com.study.ticketservice.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각 이전에는 꺼내지지 않고 다음 tick 에 꺼내짐")
+    void advance_expiresAfterDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        wheel.schedule("a", START + 25);
+
+        assertThat(wheel.advance(START + 20)).isEmpty();
+        assertThat(wheel.advance(START + 29)).isEmpty();
+        assertThat(wheel.advance(START + 30)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨에 등록된 항목도 하위 레벨로 내려와 만료 시각에 꺼내짐")
+    void advance_cascadesFromUpperLevels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        List<Long> deadlines = List.of(START + 75, START + 80, START + 640, START + 5_123, START + 40_000);
+        for (Long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> expired = new ArrayList<>();
+        for (long now = START; now <= START + 50_000; now += 10) {
+            for (Long deadline : wheel.advance(now)) {
+                // 만료 시각 이후 한 tick 이내에 꺼내짐
+                assertThat(now).isGreaterThan(deadline).isLessThanOrEqualTo(deadline + 10);
+                expired.add(deadline);
+            }
+        }
+        assertThat(expired).containsExactlyElementsOf(deadlines);
+    }
+
+    @Test
+    @DisplayName("시계가 한 번에 크게 진행되어도 지난 항목을 모두 꺼냄")
+    void advance_catchesUp() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        wheel.schedule("a", START + 15);
+        wheel.schedule("b", START + 3_000);
+
+        assertThat(wheel.advance(START + 10_000)).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("취소된 항목은 꺼내지지 않음")
+    void cancel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        HierarchicalTimingWheel.Timeout<String> a = wheel.schedule("a", START + 1_000);
+        wheel.schedule("b", START + 1_000);
+
+        assertThat(wheel.cancel(a)).isTrue();
+        assertThat(wheel.cancel(a)).isFalse();
+        assertThat(wheel.advance(START + 2_000)).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각은 등록하지 않음")
+    void schedule_pastDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+
+        assertThat(wheel.schedule("a", START - 1)).isNull();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,49 @@
+package com.study.ticketservice.utils;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET = "b37d47c4b8aeb3f4ff7e0155f36c4483a224f99861f60aa745abcc1dd4a81484";
+    private static final String NEW_SECRET = "46d3bfb7703995bad17525464c2fdd1324ab86cda2b7b836eb0f05dbb5aef970";
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키로 서명된 토큰은 kid 로 찾아 검증하고 kid 가 없으면 현재 키로 검증")
+    void parser_rotatedKeys() {
+        JwtKeyRing before = new JwtKeyRing("k1", OLD_SECRET, "");
+        JwtKeyRing after = new JwtKeyRing("k2", NEW_SECRET, "k1:" + OLD_SECRET);
+
+        String oldToken = sign(before, true);
+        String newToken = sign(after, true);
+        String noKidToken = sign(after, false);
+
+        assertThat(after.parser().parseClaimsJws(oldToken).getBody().getSubject()).isEqualTo("k1");
+        assertThat(after.parser().parseClaimsJws(newToken).getBody().getSubject()).isEqualTo("k2");
+        assertThat(after.parser().parseClaimsJws(noKidToken).getBody().getSubject()).isEqualTo("k2");
+        assertThatThrownBy(() -> before.parser().parseClaimsJws(newToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("32바이트 미만 키나 형식이 잘못된 이전 키는 시작 시 거부")
+    void constructor_rejectsInvalidSecrets() {
+        assertThatThrownBy(() -> new JwtKeyRing("k1", "short", ""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyRing("k1", NEW_SECRET, OLD_SECRET))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String sign(JwtKeyRing keyRing, boolean withKeyId) {
+        var builder = Jwts.builder().setSubject(keyRing.currentKeyId());
+        if (withKeyId) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.currentKeyId());
+        }
+        return builder.signWith(keyRing.currentKey()).compact();
+    }
+}
@@ -22,7 +22,7 @@ class JwtUtilTest {
         Long userId = 100L;
         List<String> roles = List.of("USER", "ADMIN");
 
-        String access = jwtUtil.createAccessToken(userId, roles);
+        String access = jwtUtil.createAccessToken(userId, roles, 0b101L, 7L);
         String refresh = jwtUtil.createRefreshToken(userId, roles);
 
         assertThat(jwtUtil.validateAccessToken(access)).isTrue();
@@ -35,6 +35,8 @@ class JwtUtilTest {
         assertThat(r.get("userId", Number.class).longValue()).isEqualTo(userId);
         assertThat((List<String>) a.get("roles", List.class)).contains("USER", "ADMIN");
         assertThat((List<String>) r.get("roles", List.class)).contains("USER", "ADMIN");
+        assertThat(a.get("privs", Number.class).longValue()).isEqualTo(0b101L);
+        assertThat(a.get("pv", Number.class).longValue()).isEqualTo(7L);
         assertThat(a.get("type", String.class)).isEqualTo("access");
         assertThat(r.get("type", String.class)).isEqualTo("refresh");
     }
@@ -0,0 +1,95 @@
+package com.study.ticketservice.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NearCacheTest {
+
+    @Test
+    @DisplayName("ttl 이 지나면 다시 조회하고 가득 차면 가장 오래 조회되지 않은 항목부터 제거")
+    void get_expiresAndEvictsLeastRecentlyUsed() {
+        AtomicLong now = new AtomicLong(1_000);
+        AtomicInteger loads = new AtomicInteger();
+        NearCache<Long, String> cache = new NearCache<>(2, 100, now::get);
+
+        cache.get(1L, key -> "a" + loads.incrementAndGet());
+        cache.get(2L, key -> "b" + loads.incrementAndGet());
+        assertThat(cache.get(1L, key -> "a" + loads.incrementAndGet())).isEqualTo("a1");
+        cache.get(3L, key -> "c" + loads.incrementAndGet());
+
+        assertThat(cache.get(1L, key -> "x")).isEqualTo("a1");
+        assertThat(cache.get(2L, key -> "b" + loads.incrementAndGet())).isEqualTo("b4");
+
+        now.addAndGet(100);
+        assertThat(cache.get(2L, key -> "b" + loads.incrementAndGet())).isEqualTo("b5");
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 조회한 값은 보관하지 않고, 예외는 보관 없이 그대로 전달")
+    void get_doesNotCacheAfterInvalidation() {
+        NearCache<Long, String> cache = new NearCache<>(10, 60_000);
+
+        assertThat(cache.get(1L, key -> {
+            cache.invalidate(1L);
+            return "stale";
+        })).isEqualTo("stale");
+        assertThat(cache.get(1L, key -> "fresh")).isEqualTo("fresh");
+
+        assertThatThrownBy(() -> cache.get(2L, key -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 원본은 한 번만 조회")
+    void get_loadsOnceForConcurrentMisses() throws Exception {
+        NearCache<Long, String> cache = new NearCache<>(10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(1L, key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            }));
+            loading.await(1, TimeUnit.SECONDS);
+            Future<?>[] others = new Future<?>[7];
+            for (int i = 0; i < others.length; i++) {
+                others[i] = executor.submit(() -> cache.get(1L, key -> "other" + loads.incrementAndGet()));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+            for (Future<?> other : others) {
+                assertThat(other.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}